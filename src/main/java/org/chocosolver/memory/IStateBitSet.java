@@ -118,4 +118,89 @@ public interface IStateBitSet  {
     int prevClearBit(int fromIndex);
 
     boolean isEmpty();
+
+    /**
+     * Returns the <tt>wordIndex</tt>-th word of this bit set:
+     * the bit <i>i</i> of the word is the bit <tt>64 * wordIndex + i</tt> of this bit set.
+     *
+     * @param wordIndex index of a 64-bit word
+     * @return the bits of the word
+     */
+    default long getWord(int wordIndex) {
+        long word = 0L;
+        for (int i = 0; i < 64; i++) {
+            if (get((wordIndex << 6) + i)) {
+                word |= 1L << i;
+            }
+        }
+        return word;
+    }
+
+    /**
+     * Sets to <code>false</code> the bits of the <tt>wordIndex</tt>-th word which are set in <tt>mask</tt>.
+     * Implementations storing words should do it with a single backtrackable operation.
+     *
+     * @param wordIndex index of a 64-bit word
+     * @param mask      bits to clear in the word
+     */
+    default void clearWord(int wordIndex, long mask) {
+        for (int i = Long.numberOfTrailingZeros(mask); i < 64; i = Long.numberOfTrailingZeros(mask)) {
+            clear((wordIndex << 6) + i);
+            mask &= mask - 1;
+        }
+    }
+
+    /**
+     * Sets to <code>true</code> the bits of the <tt>wordIndex</tt>-th word which are set in <tt>mask</tt>.
+     * Implementations storing words should do it with a single backtrackable operation.
+     *
+     * @param wordIndex index of a 64-bit word
+     * @param mask      bits to set in the word
+     */
+    default void setWord(int wordIndex, long mask) {
+        for (long word = mask; word != 0; word &= word - 1) {
+            set((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+        }
+    }
+
+    /**
+     * Performs a logical <b>AND</b> of this bit set with the bit set encoded in <tt>mask</tt>:
+     * the bit <i>i</i> of this bit set is kept if the bit <tt>i % 64</tt> of <tt>mask[i / 64]</tt> is set.
+     * Bits out of <tt>mask</tt> are cleared.
+     *
+     * @param mask words of a bit set
+     */
+    default void and(long[] mask) {
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            if ((i >> 6) >= mask.length || (mask[i >> 6] & (1L << i)) == 0) {
+                clear(i);
+            }
+        }
+    }
+
+    /**
+     * Performs a logical <b>OR</b> of this bit set with the bit set encoded in <tt>mask</tt>.
+     *
+     * @param mask words of a bit set
+     */
+    default void or(long[] mask) {
+        for (int w = 0; w < mask.length; w++) {
+            for (long word = mask[w]; word != 0; word &= word - 1) {
+                set((w << 6) + Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
+    /**
+     * Clears all of the bits in this bit set whose corresponding bit is set in <tt>mask</tt>.
+     *
+     * @param mask words of a bit set
+     */
+    default void andNot(long[] mask) {
+        for (int w = 0; w < mask.length; w++) {
+            if (mask[w] != 0) {
+                clearWord(w, mask[w]);
+            }
+        }
+    }
 }
@@ -44,6 +44,18 @@ public abstract class IStateLong  {
      */
     public abstract void set(long y);
 
+    /**
+     * modifying a StoredLong by an increment
+     *
+     * @param delta increment value
+     * @return the new value
+     */
+    public final long add(long delta) {
+        long res = currentValue + delta;
+        set(res);
+        return res;
+    }
+
     /**
      * Modifies the value without storing the former value on the trailing stack.
      *
@@ -138,6 +138,52 @@ public class OneWordS32BitSet implements IStateBitSet {
         word.set(word.get() & ~(1 << bitIndex));
     }
 
+    @Override
+    public long getWord(int wordIndex) {
+        return wordIndex == 0 ? word.get() & 0xFFFFFFFFL : 0L;
+    }
+
+    @Override
+    public void clearWord(int wordIndex, long mask) {
+        if (wordIndex == 0) {
+            int w = word.get();
+            if ((w & (int) mask) != 0) {
+                word.set(w & ~(int) mask);
+            }
+        }
+    }
+
+    @Override
+    public void setWord(int wordIndex, long mask) {
+        if (wordIndex == 0) {
+            int w = word.get();
+            if ((w | (int) mask) != w) {
+                word.set(w | (int) mask);
+            }
+        } else if (mask != 0) {
+            throw new IndexOutOfBoundsException("wordIndex > 0: " + wordIndex);
+        }
+    }
+
+    @Override
+    public void and(long[] mask) {
+        word.set(word.get() & (mask.length > 0 ? (int) mask[0] : 0));
+    }
+
+    @Override
+    public void or(long[] mask) {
+        if (mask.length > 0) {
+            word.set(word.get() | (int) mask[0]);
+        }
+    }
+
+    @Override
+    public void andNot(long[] mask) {
+        if (mask.length > 0) {
+            word.set(word.get() & ~(int) mask[0]);
+        }
+    }
+
     /**
      * Sets the bits from the specified <tt>fromIndex</tt> (inclusive) to the
      * specified <tt>toIndex</tt> (exclusive) to <code>false</code>.
@@ -137,6 +137,52 @@ public class OneWordS64BitSet implements IStateBitSet {
         //checkInvariants();
     }
 
+    @Override
+    public long getWord(int wordIndex) {
+        return wordIndex == 0 ? word.get() : 0L;
+    }
+
+    @Override
+    public void clearWord(int wordIndex, long mask) {
+        if (wordIndex == 0) {
+            long w = word.get();
+            if ((w & mask) != 0) {
+                word.set(w & ~mask);
+            }
+        }
+    }
+
+    @Override
+    public void setWord(int wordIndex, long mask) {
+        if (wordIndex == 0) {
+            long w = word.get();
+            if ((w | mask) != w) {
+                word.set(w | mask);
+            }
+        } else if (mask != 0) {
+            throw new IndexOutOfBoundsException("wordIndex > 0: " + wordIndex);
+        }
+    }
+
+    @Override
+    public void and(long[] mask) {
+        word.set(word.get() & (mask.length > 0 ? mask[0] : 0));
+    }
+
+    @Override
+    public void or(long[] mask) {
+        if (mask.length > 0) {
+            word.set(word.get() | mask[0]);
+        }
+    }
+
+    @Override
+    public void andNot(long[] mask) {
+        if (mask.length > 0) {
+            word.set(word.get() & ~mask[0]);
+        }
+    }
+
     /**
      * Sets the bits from the specified <tt>fromIndex</tt> (inclusive) to the
      * specified <tt>toIndex</tt> (exclusive) to <code>false</code>.
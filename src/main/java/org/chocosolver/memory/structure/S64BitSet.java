@@ -284,6 +284,92 @@ public class S64BitSet implements IStateBitSet {
         if (CHECK) checkInvariants();
     }
 
+    @Override
+    public long getWord(int wordIndex) {
+        return wordIndex < wordsInUse.get() ? words[wordIndex].get() : 0L;
+    }
+
+    @Override
+    public void clearWord(int wordIndex, long mask) {
+        int n = wordsInUse.get();
+        if (wordIndex < n) {
+            long word = words[wordIndex].get();
+            if ((word & mask) != 0) {
+                words[wordIndex].set(word & ~mask);
+                if (wordIndex == n - 1) {
+                    recalculateWordsInUse();
+                }
+            }
+        }
+        if (CHECK) checkInvariants();
+    }
+
+    @Override
+    public void setWord(int wordIndex, long mask) {
+        if (mask != 0) {
+            expandTo(wordIndex);
+            long word = words[wordIndex].get();
+            if ((word | mask) != word) {
+                words[wordIndex].set(word | mask);
+            }
+        }
+        if (CHECK) checkInvariants();
+    }
+
+    @Override
+    public void and(long[] mask) {
+        int n = wordsInUse.get();
+        boolean change = false;
+        for (int w = 0; w < n; w++) {
+            long word = words[w].get();
+            long nword = word & (w < mask.length ? mask[w] : 0L);
+            if (nword != word) {
+                // only modified words are trailed
+                words[w].set(nword);
+                change = true;
+            }
+        }
+        if (change) {
+            recalculateWordsInUse();
+        }
+        if (CHECK) checkInvariants();
+    }
+
+    @Override
+    public void or(long[] mask) {
+        int last = mask.length - 1;
+        while (last >= 0 && mask[last] == 0) {
+            last--;
+        }
+        if (last >= 0) {
+            expandTo(last);
+            for (int w = 0; w <= last; w++) {
+                long word = words[w].get();
+                if ((word | mask[w]) != word) {
+                    words[w].set(word | mask[w]);
+                }
+            }
+        }
+        if (CHECK) checkInvariants();
+    }
+
+    @Override
+    public void andNot(long[] mask) {
+        int n = Math.min(wordsInUse.get(), mask.length);
+        boolean change = false;
+        for (int w = 0; w < n; w++) {
+            long word = words[w].get();
+            if ((word & mask[w]) != 0) {
+                words[w].set(word & ~mask[w]);
+                change = true;
+            }
+        }
+        if (change) {
+            recalculateWordsInUse();
+        }
+        if (CHECK) checkInvariants();
+    }
+
     /**
      * Sets the bits from the specified <tt>fromIndex</tt> (inclusive) to the
      * specified <tt>toIndex</tt> (exclusive) to <code>false</code>.
@@ -344,8 +430,9 @@ public class S64BitSet implements IStateBitSet {
         /*while (wordsInUse.get() > 0)
             wordsInUse.set(wordsInUse.get() - 1);
         words[wordsInUse.get()].set(0);      */
-        for (IStateLong word : words) {
-            word.set(0);
+        // words beyond wordsInUse are already cleared
+        for (int i = wordsInUse.get() - 1; i >= 0; i--) {
+            words[i].set(0);
         }
         wordsInUse.set(0);
         if (CHECK) checkInvariants();
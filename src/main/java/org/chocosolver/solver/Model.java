@@ -29,6 +29,7 @@ import org.chocosolver.solver.variables.*;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -77,6 +78,11 @@ public class Model implements IModel {
      */
     private TIntObjectHashMap<IntVar> cachedConstants;
 
+    /**
+     * A map to cache variables declared by views and expressions, indexed by their structure
+     */
+    private HashMap<List<Object>, Variable> cachedVariables;
+
     /**
      * Variables of the model
      */
@@ -188,6 +194,7 @@ public class Model implements IModel {
         this.environment = environment;
         this.creationTime = System.nanoTime();
         this.cachedConstants = new TIntObjectHashMap<>(16, 1.5f, Integer.MAX_VALUE);
+        this.cachedVariables = new HashMap<>();
         this.objective = null;
         this.hooks = new HashMap<>();
         this.solver = new Solver(this);
@@ -259,6 +266,18 @@ public class Model implements IModel {
         return cachedConstants;
     }
 
+    /**
+     * Get the map of variables declared by views and expressions, indexed by their structure
+     * (that is, the operation and its operands), to avoid declaring multiple identical variables
+     * and the constraints defining them (see {@link Settings#enableStructuralHashing()}).
+     * Should not be called by the user.
+     *
+     * @return the map of variables declared by views and expressions.
+     */
+    public HashMap<List<Object>, Variable> getCachedVariables() {
+        return cachedVariables;
+    }
+
     /**
      * The basic "true" constraint, which is always satisfied
      *
@@ -607,6 +626,29 @@ public class Model implements IModel {
         }
     }
 
+    /**
+     * Defines the variables to optimize lexicographically (maximize or minimize).
+     * The objective variables are ordered wrt their significance: on an optimal solution of a maximization problem,
+     * the first variable is maximized, then the second one is maximized, etc.
+     * Each solution forces the next one to be lexicographically better, thanks to a single lexicographic cut
+     * updated on each solution.
+     * <p>
+     * The first variable is returned by {@link #getObjective()}.
+     *
+     * @param maximize   whether to maximize (true) or minimize (false) the objectives
+     * @param objectives variables to optimize, from the most significant one to the least significant one
+     * @see IObjectiveManager#setStrictDynamicCut()
+     * @see IObjectiveManager#setWalkingDynamicCut()
+     */
+    public void setLexObjective(boolean maximize, IntVar... objectives) {
+        if (objectives == null || objectives.length == 0) {
+            throw new SolverException("Cannot set objective to null");
+        }
+        this.policy = maximize ? ResolutionPolicy.MAXIMIZE : ResolutionPolicy.MINIMIZE;
+        this.objective = objectives[0];
+        getSolver().setObjectiveManager(ObjectiveFactory.makeLexObjectiveManager(objectives, policy));
+    }
+
     /**
      * Removes any objective and set problem to a satisfaction problem
      */
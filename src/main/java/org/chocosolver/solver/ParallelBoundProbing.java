@@ -0,0 +1,300 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.objective.IBoundsManager;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     A parallel bound probing helper, for optimization problems over an integer objective.
+ * </p>
+ * <p>
+ *     As with {@link ParallelPortfolio}, the models to run in parallel are populated externally and added
+ *     with {@link #addModel(Model)}, they should all state the same problem and declare the same objective.
+ *     But, instead of running the same optimization in each model, the interval of the objective is shared
+ *     among the models:
+ *     <ul>
+ *         <li>the first model improves the best solution, like a regular top-down optimization,</li>
+ *         <li>each other model probes a target value within the current interval of the objective:
+ *         it looks for a solution at least as good as its target. Either a solution is found, and the best known
+ *         value is improved, or no such solution exists, and the proven bound is raised (lowered when maximizing)
+ *         up to the target.</li>
+ *     </ul>
+ *     Each answer is shared at once with the other models through their objective manager
+ *     (see {@link IBoundsManager#updateBestLB(Number)} and {@link IBoundsManager#updateBestUB(Number)}),
+ *     and each model probes a new target, until the interval is closed, that is, optimality is proven.
+ * </p>
+ * <p>
+ *     The probes are run with {@link Solver#solveUnder(boolean, Constraint...)}, so each model keeps its propagation
+ *     engine, the state of its search strategy and the bounds shared by the other models from one probe to another.
+ *     The bounds of the objective managers are only reset at the beginning of {@link #solve()}.
+ *     The searches of the models must be complete: no LNS should be declared.
+ *     The limits declared on a model apply to each probe, and as soon as one probe hits one of them,
+ *     the resolution of all models is stopped.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>ParallelBoundProbing probing = new ParallelBoundProbing();
+ * int n = 4; // number of models to use
+ * for (int i = 0; i < n; i++) {
+ *      probing.addModel(modeller());
+ * }
+ * if(probing.solve()){
+ *     Solution best = probing.getBestSolution();
+ * }
+ * </code>
+ * </pre>
+ *
+ * </p>
+ * <p>
+ * Project: choco.
+ * @since 19/10/2026.
+ */
+public class ParallelBoundProbing {
+
+    /** List of {@link Model}s to be executed in parallel. */
+    private final List<Model> models;
+
+    /** Stores whether or not prepare() method has been called */
+    private boolean isPrepared = false;
+
+    /** Set to true once optimality is proven or a limit is reached */
+    private AtomicBoolean solverTerminated = new AtomicBoolean(false);
+
+    /** 1 when minimizing, -1 when maximizing, bounds below are stated in minimization form */
+    private int sign;
+
+    /** No solution has a (signed) objective value strictly less than lb */
+    private long lb;
+
+    /** (Signed) objective value of the best solution, or upper bound of the objective plus one */
+    private long ub;
+
+    /** Best solution found so far, or <tt>null</tt> */
+    private Solution best;
+
+    /**
+     * Creates a new ParallelBoundProbing
+     * This class stores the models to be executed in parallel in a {@link ArrayList} initially empty.
+     */
+    public ParallelBoundProbing() {
+        this.models = new ArrayList<>();
+    }
+
+    /**
+     * Adds a model to the list of models to run in parallel.
+     * The model has to be populated, and its objective declared, before calling {@link #solve()}.
+     * @param model a model to add
+     */
+    public void addModel(Model model){
+        this.models.add(model);
+    }
+
+    /**
+     * Runs the models in parallel, until optimality is proven or a limit is reached.
+     *
+     * <p>
+     * Note that a call to {@link #getBestSolution()} returns the best solution found.
+     * </p>
+     * @return <code>true</code> if and only if at least one solution has been found.
+     * @throws SolverException if no model has been added or if the objective is not declared,
+     * or if the resolution of a model fails or is interrupted
+     */
+    public boolean solve() {
+        if (!isPrepared) {
+            prepare();
+        }
+        solverTerminated.set(false);
+        Model first = models.get(0);
+        IntVar objective = (IntVar) first.getObjective();
+        sign = first.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE ? -1 : 1;
+        lb = sign > 0 ? objective.getLB() : -(long) objective.getUB();
+        ub = (sign > 0 ? objective.getUB() : -(long) objective.getLB()) + 1;
+        best = null;
+        for (Model m : models) {
+            m.getSolver().getObjectiveManager().resetBestBounds();
+        }
+        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+        try {
+            forkJoinPool.submit(() -> {
+                IntStream.range(0, models.size()).parallel().forEach(this::probe);
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure("ParallelBoundProbing has been interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw failure("ParallelBoundProbing failed", e.getCause());
+        } finally {
+            // the other models are stopped too
+            solverTerminated.set(true);
+            forkJoinPool.shutdownNow();
+        }
+        return best != null;
+    }
+
+    /**
+     * @return the best solution found, or <tt>null</tt> if no solution has been found
+     */
+    public Solution getBestSolution() {
+        return best;
+    }
+
+    /**
+     * @return <tt>true</tt> if the last resolution proves that the best solution found is optimal
+     * (or that the problem has no solution)
+     */
+    public synchronized boolean isOptimal() {
+        return lb >= ub;
+    }
+
+    /**
+     * @return the (mutable!) list of models used in this ParallelBoundProbing
+     */
+    public List<Model> getModels(){
+        return models;
+    }
+
+    private void prepare(){
+        isPrepared = true;
+        check();
+        for (Model m : models) {
+            Solver s = m.getSolver();
+            s.addStopCriterion((Criterion) () -> solverTerminated.get());
+            s.plugMonitor((IMonitorSolution) () -> updateFromSolution(m));
+        }
+    }
+
+    /**
+     * Loop of the i^th model: probes targets until optimality is proven or a limit is reached
+     * @param i index of the model
+     */
+    private void probe(int i) {
+        Model model = models.get(i);
+        Solver solver = model.getSolver();
+        IntVar objective = (IntVar) model.getObjective();
+        while (!solverTerminated.get()) {
+            long l, u;
+            synchronized (this) {
+                l = lb;
+                u = ub;
+            }
+            if (l >= u) {
+                solverTerminated.set(true);
+                break;
+            }
+            // the first model improves the best solution, the other ones split the interval
+            long target = i == 0 ? u - 1 : l + (u - 1 - l) * i / models.size();
+            // bounds shared by the other models hold whatever the target is, so they are kept
+            boolean found = solver.solveUnder(false, sign > 0 ?
+                    model.member(objective, (int) l, (int) target) :
+                    model.member(objective, (int) -target, (int) -l));
+            if (i == 0) {
+                while (found) {
+                    found = solver.solve();
+                }
+            }
+            if (!found) {
+                if (solver.getSearchState() == SearchState.TERMINATED) {
+                    updateFromProof(target);
+                } else {
+                    // stopped by a limit
+                    solverTerminated.set(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called when a model finds a solution, shares its value with the other models
+     * @param m the model which finds a solution
+     */
+    private synchronized void updateFromSolution(Model m){
+        int value = ((IntVar) m.getObjective()).getValue();
+        if (sign * (long) value < ub) {
+            ub = sign * (long) value;
+            best = new Solution(m).record();
+            for (Model m1 : models) {
+                if (sign > 0) {
+                    m1.getSolver().getObjectiveManager().updateBestUB(value);
+                } else {
+                    m1.getSolver().getObjectiveManager().updateBestLB(value);
+                }
+            }
+            if (lb >= ub) {
+                solverTerminated.set(true);
+            }
+        }
+    }
+
+    /**
+     * Called when a model proves that no solution reaches its target, shares the new bound with the other models.
+     * As the best known value is shared with all models, the proof also holds up to it.
+     * @param target the target of the model
+     */
+    private synchronized void updateFromProof(long target){
+        long bound = Math.min(target, ub - 1) + 1;
+        if (bound > lb) {
+            lb = bound;
+            int value = (int) (sign * bound);
+            for (Model m1 : models) {
+                if (sign > 0) {
+                    m1.getSolver().getObjectiveManager().updateBestLB(value);
+                } else {
+                    m1.getSolver().getObjectiveManager().updateBestUB(value);
+                }
+            }
+            if (lb >= ub) {
+                solverTerminated.set(true);
+            }
+        }
+    }
+
+    private static SolverException failure(String message, Throwable cause) {
+        SolverException e = new SolverException(message + ": " + cause);
+        e.initCause(cause);
+        return e;
+    }
+
+    private void check(){
+        if (models.size() == 0) {
+            throw new SolverException("No model found in the ParallelBoundProbing.");
+        }
+        for (Model m : models) {
+            Variable objective = m.getObjective();
+            if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION || objective == null) {
+                throw new SolverException("No objective has been defined in " + m.getName());
+            }
+            if ((objective.getTypeAndKind() & Variable.KIND) != Variable.INT
+                    && (objective.getTypeAndKind() & Variable.KIND) != Variable.BOOL) {
+                throw new SolverException("ParallelBoundProbing only deals with integer objectives");
+            }
+        }
+    }
+}
@@ -65,6 +65,17 @@ public interface Settings  {
         return true;
     }
 
+    /**
+     * Set to 'true' to reuse the variables declared by views and expressions
+     * when an identical view or expression is declared again in the {@link org.chocosolver.solver.Model}
+     * (e.g., the boolean variable reifying <code>x.eq(3)</code>, or the variable equal to <code>x.mul(y)</code>).
+     * Declares new variables and constraints otherwise, which is the default.
+     * @return <tt>true</tt> if variables are indexed by their structure.
+     */
+    default boolean enableStructuralHashing() {
+        return false;
+    }
+
     /**
      * Define the maximum domain size threshold to force integer variable to be enumerated
      * instead of bounded while calling {@link org.chocosolver.solver.Model#intVar(String, int, int)}.
@@ -74,6 +85,35 @@ public interface Settings  {
         return 32768;
     }
 
+    /**
+     * Define whether an enumerated integer variable is based on a reversible sparse set
+     * (see {@link org.chocosolver.solver.variables.impl.SparseSetIntVarImpl}) instead of a bitset.
+     * Membership and domain size are then checked in constant time, and the next and previous values
+     * are found in a reversible bitset of the present values.
+     * Each removal saves, in addition to the size and the bounds, the modified word of that bitset
+     * (once per word and per world), so a backtrack is not done in constant time.
+     * @param size initial domain size of the variable
+     * @return <tt>true</tt> if the enumerated variable should be based on a sparse set
+     */
+    default boolean enableSparseSetDomain(int size) {
+        return false;
+    }
+
+    /**
+     * Define whether an enumerated integer variable is based on a reversible list of intervals
+     * (see {@link org.chocosolver.solver.variables.impl.RangeSetIntVarImpl}) instead of a bitset.
+     * The memory footprint then depends on the number of holes instead of the span of the domain,
+     * but membership is checked by a binary search over the intervals.
+     * Disabled by default; a typical condition is
+     * <code>range &gt;= getMaxDomSizeForEnumerated() &amp;&amp; nbRanges &lt;= 64</code>.
+     * @param range span of the initial domain, that is, its upper bound minus its lower bound plus one
+     * @param nbRanges number of intervals of the initial domain
+     * @return <tt>true</tt> if the enumerated variable should be based on a list of intervals
+     */
+    default boolean enableRangeSetDomain(int range, int nbRanges) {
+        return false;
+    }
+
     /**
      * Define the minimum number of cardinality threshold to a sum/scalar constraint to be decomposed in intermediate
      * sub-sums.
@@ -100,6 +140,40 @@ public interface Settings  {
         return 10000;
     }
 
+    /**
+     * Define the maximum number of nodes of the layered graph built by
+     * {@link org.chocosolver.solver.constraints.nary.PropKnapsackDP} when posting a knapsack constraint,
+     * that is (nb items + 1) * (capacity upper bound + 1).
+     * Beyond that threshold, only the linear relaxation is used to filter the knapsack constraint.
+     * @return maximum number of nodes of the dynamic programming graph of a knapsack constraint
+     */
+    default int getMaxDPTableSizeForKnapsack() {
+        return 1 << 22;
+    }
+
+    /**
+     * Define how often {@link org.chocosolver.solver.constraints.nary.lp.PropLinearRelaxation} solves
+     * its linear relaxation: always when the bound of the objective variable it is compared to has changed,
+     * otherwise once every <i>k</i> calls, where <i>k</i> is the returned value.
+     * @return number of calls between two resolutions of the linear relaxation when the objective bound is unchanged
+     */
+    default int getLinearRelaxationFrequency() {
+        return 10;
+    }
+
+    /**
+     * Define the maximum number of rows of the relaxation solved by
+     * {@link org.chocosolver.solver.constraints.nary.lp.PropLinearRelaxation}.
+     * Its basis inverse is dense, it stores <i>m</i>&sup2; doubles for <i>m</i> rows, twice as many while it is
+     * refactorized: 1000 rows take about 8MB, 10 000 rows about 800MB.
+     * Rows over the limit are left out of the relaxation, those over the objective variable being kept first,
+     * which keeps the relaxation valid but weaker.
+     * @return maximum number of rows of a linear relaxation
+     */
+    default int getLinearRelaxationMaxRows() {
+        return 1000;
+    }
+
     /**
      * Defines the smallest used double for {@link org.chocosolver.solver.Model#multiCostRegular(IntVar[], IntVar[], ICostAutomaton)} algorithm
      * @return the smallest used double for {@link org.chocosolver.solver.Model#multiCostRegular(IntVar[], IntVar[], ICostAutomaton)} algorithm
@@ -196,6 +270,19 @@ public interface Settings  {
         return nbvars > 10;
     }
 
+    /**
+     * Return true if the incrementality is enabled on sum and scalar product (over non-boolean variables),
+     * based on the number of variables involved.
+     * When enabled, sums of bounds are maintained on bound events instead of being computed
+     * on each propagation.
+     * Default condition is : nbvars > 50
+     * @param nbvars number of variables in the constraint
+     * @return <tt>true</tt> if the incremental propagator should be used
+     */
+    default boolean enableIncrementalityOnSum(int nbvars) {
+        return nbvars > 50;
+    }
+
     /**
      * If this setting is set to true (default value), a clone of the input variable array is made in any propagator constructors.
      * This prevents, for instance, wrong behavior when permutations occurred on the input array (e.g., sorting variables).
@@ -207,6 +207,15 @@ public class Solution implements ICause {
         }
     }
 
+    /**
+     * @param v IntVar (or BoolVar)
+     * @return <tt>true</tt> if the value of <i>v</i> is stored in this solution
+     */
+    public boolean hasIntVal(IntVar v) {
+        return !empty && (intmap != null && intmap.containsKey(v.getId())
+                || (v.getTypeAndKind() & Variable.TYPE) == Variable.CSTE);
+    }
+
     /**
      * Set the value of variable v in this solution.
      *
@@ -0,0 +1,268 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+
+/**
+ * Class which stores the values of some integer variables in many solutions.
+ * <p>
+ * Contrary to {@link Solution}, which maps each variable to its value in a hash map,
+ * values are stored in one array of int per variable (a column), indexed by solutions.
+ * Recording a solution thus neither hashes nor allocates, except when columns grow.
+ * Columns can be read directly (see {@link #getColumn(int)}).
+ * <p>
+ * Such an object can be plugged in a solver to record all solutions:
+ * <pre>
+ *     {@code
+ *     SolutionPool pool = new SolutionPool(vars);
+ *     model.getSolver().plugMonitor(pool);
+ *     while(model.getSolver().solve());
+ *     for (int s = 0; s < pool.size(); s++) {
+ *         int v = pool.getIntVal(s, vars[0]);
+ *     }
+ *     }
+ * </pre>
+ * When deduplication is enabled, a solution equal to a previously recorded one, on the stored variables,
+ * is not recorded again.
+ *
+ * @see Solution
+ */
+public class SolutionPool implements IMonitorSolution {
+
+    /**
+     * Variables to store
+     */
+    private final IntVar[] vars;
+
+    /**
+     * Values of the variables, the value of <i>vars[i]</i> in the s^th solution is <i>columns[i][s]</i>
+     */
+    private final int[][] columns;
+
+    /**
+     * Number of recorded solutions
+     */
+    private int size;
+
+    /**
+     * Hash table of the recorded solutions, storing solution indices plus one (0 denotes an empty slot),
+     * null when deduplication is disabled
+     */
+    private int[] table;
+
+    /**
+     * Create an empty pool, able to store the values of <i>vars</i>
+     *
+     * @param vars        variables to store
+     * @param capacity    initial number of solutions that can be stored without growing the columns
+     * @param deduplicate set to <tt>true</tt> to ignore solutions already recorded (on <i>vars</i>)
+     */
+    public SolutionPool(IntVar[] vars, int capacity, boolean deduplicate) {
+        if (vars.length == 0) {
+            throw new SolverException("A solution pool requires at least one variable to store");
+        }
+        this.vars = vars.clone();
+        this.columns = new int[vars.length][Math.max(capacity, 1)];
+        if (deduplicate) {
+            table = new int[Integer.highestOneBit(Math.max(capacity, 8)) << 2];
+        }
+    }
+
+    /**
+     * Create an empty pool, able to store the values of <i>vars</i>, which does not deduplicate solutions
+     *
+     * @param vars variables to store
+     */
+    public SolutionPool(IntVar... vars) {
+        this(vars, 64, false);
+    }
+
+    //***********************************************************************************
+    // RECORDING
+    //***********************************************************************************
+
+    @Override
+    public void onSolution() {
+        record();
+    }
+
+    /**
+     * Records the current values of the stored variables, which must all be instantiated.
+     *
+     * @return the index of the solution, or -1 if the solution was already recorded and deduplication is enabled
+     * @exception SolverException if a stored variable is not instantiated
+     */
+    public int record() {
+        if (size == columns[0].length) {
+            int cap = size + (size >> 1) + 1;
+            for (int i = 0; i < vars.length; i++) {
+                columns[i] = Arrays.copyOf(columns[i], cap);
+            }
+        }
+        for (int i = 0; i < vars.length; i++) {
+            if (!vars[i].isInstantiated()) {
+                throw new SolverException("Cannot record " + vars[i] + " in a solution pool: the variable is not instantiated.");
+            }
+            columns[i][size] = vars[i].getValue();
+        }
+        if (table != null) {
+            int slot = lookup(size);
+            if (table[slot] != 0) {
+                return -1;
+            }
+            table[slot] = size + 1;
+            if ((size + 1) << 1 > table.length) {
+                rehash();
+            }
+        }
+        return size++;
+    }
+
+    /**
+     * Remove all solutions from this pool, keeping the allocated columns
+     */
+    public void clear() {
+        size = 0;
+        if (table != null) {
+            Arrays.fill(table, 0);
+        }
+    }
+
+    /**
+     * @param s index of a solution (possibly not yet counted in {@link #size})
+     * @return the slot of the table containing a solution equal to the s^th one, or the empty slot it should fill
+     */
+    private int lookup(int s) {
+        int mask = table.length - 1;
+        int slot = hash(s) & mask;
+        while (table[slot] != 0 && !equals(table[slot] - 1, s)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        table = new int[table.length << 1];
+        int mask = table.length - 1;
+        for (int s = 0; s <= size; s++) {
+            int slot = hash(s) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = s + 1;
+        }
+    }
+
+    private int hash(int s) {
+        int h = 1;
+        for (int i = 0; i < vars.length; i++) {
+            h = 31 * h + columns[i][s];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private boolean equals(int s1, int s2) {
+        for (int i = 0; i < vars.length; i++) {
+            if (columns[i][s1] != columns[i][s2]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //***********************************************************************************
+    // READING
+    //***********************************************************************************
+
+    /**
+     * @return the number of recorded solutions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the stored variables
+     */
+    public IntVar[] getVars() {
+        return vars.clone();
+    }
+
+    /**
+     * @param s index of a solution
+     * @param i index of a stored variable
+     * @return the value of the i^th stored variable in the s^th solution
+     */
+    public int get(int s, int i) {
+        assert s < size;
+        return columns[i][s];
+    }
+
+    /**
+     * Get the value of <i>var</i> in the s^th solution.
+     * Prefer {@link #get(int, int)} when the index of <i>var</i> is known.
+     *
+     * @param s   index of a solution
+     * @param var a stored variable
+     * @return the value of <i>var</i> in the s^th solution
+     * @exception SolverException if <i>var</i> is not stored in this pool
+     */
+    public int getIntVal(int s, IntVar var) {
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] == var) {
+                return get(s, i);
+            }
+        }
+        throw new SolverException("Cannot access value of " + var + ": This variable has not been declared to be recorded in the SolutionPool (see SolutionPool constructor).");
+    }
+
+    /**
+     * Get the values of the i^th stored variable, in all solutions.
+     * The returned array is not a copy: it must not be modified,
+     * its values beyond {@link #size()} are meaningless,
+     * and it may be replaced by a larger array when new solutions are recorded.
+     *
+     * @param i index of a stored variable
+     * @return the column of the i^th stored variable
+     */
+    public int[] getColumn(int i) {
+        return columns[i];
+    }
+
+    /**
+     * Copy the values of the stored variables in the s^th solution into <i>values</i>
+     *
+     * @param s      index of a solution
+     * @param values array of size at least the number of stored variables
+     * @return <i>values</i>
+     */
+    public int[] getValues(int s, int[] values) {
+        for (int i = 0; i < vars.length; i++) {
+            values[i] = columns[i][s];
+        }
+        return values;
+    }
+
+    /**
+     * @param s index of a solution
+     * @return a new {@link Solution} object storing the values of the s^th solution
+     */
+    public Solution getSolution(int s) {
+        Solution solution = new Solution(vars[0].getModel(), vars);
+        for (int i = 0; i < vars.length; i++) {
+            solution.setIntVal(vars[i], columns[i][s]);
+        }
+        return solution;
+    }
+}
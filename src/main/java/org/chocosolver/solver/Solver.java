@@ -30,6 +30,7 @@ import org.chocosolver.solver.search.loop.monitors.ISearchMonitor;
 import org.chocosolver.solver.search.loop.monitors.SearchMonitorList;
 import org.chocosolver.solver.search.loop.move.Move;
 import org.chocosolver.solver.search.loop.move.MoveBinaryDFS;
+import org.chocosolver.solver.search.loop.move.MoveLNS;
 import org.chocosolver.solver.search.loop.move.MoveSeq;
 import org.chocosolver.solver.search.loop.propagate.Propagate;
 import org.chocosolver.solver.search.loop.propagate.PropagateBasic;
@@ -38,7 +39,9 @@ import org.chocosolver.solver.search.measure.MeasuresRecorder;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.decision.DecisionPath;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.search.strategy.strategy.WarmStart;
 import org.chocosolver.solver.trace.IOutputFactory;
+import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Task;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.ESat;
@@ -46,6 +49,7 @@ import org.chocosolver.util.criteria.Criterion;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -150,6 +154,9 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
     /** Index of the world where the search starts, after initialization. */
     private int searchWorldIndex = 0;
 
+    /** Index of the world reached after initial propagation, from which each resolution under assumptions starts. */
+    private int initialWorldIndex = 0;
+
     /**
      * List of stopping criteria.
      * When at least one is satisfied, the search loop ends.
@@ -191,6 +198,9 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
     /** Set to <tt>true</tt> when no more reparation can be achieved, ie entire search tree explored. */
     private boolean canBeRepaired = true;
 
+    /** A (possibly partial or infeasible) solution guiding the search, may be null */
+    private Solution hint;
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -262,6 +272,96 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         return newSolutionFound;
     }
 
+    /**
+     * Executes the resolver under assumptions, that is, constraints posted temporarily.
+     * <p>
+     * The initial propagation is run once, on the first call after the creation of the solver or a {@link #reset()}.
+     * Then, each call backtracks to the state reached after the initial propagation,
+     * which retracts the assumptions of the previous call, posts the new assumptions and looks for a solution.
+     * The propagation engine, the search strategy and its state (e.g., weights or activities),
+     * the search monitors and the nogood store are kept from one call to another, only the measures and the bounds
+     * of the objective are reset.
+     * So, many queries can be answered on a single model without resetting the solver.
+     * <p>
+     * Once a call returns <tt>true</tt>, {@link #solve()} can be called to look for other solutions
+     * satisfying the same assumptions.
+     * Note that nogoods recorded while solving under assumptions (see {@link #setNoGoodRecordingFromRestarts()})
+     * may depend on them: they are kept as well, so such recording is relevant only when later assumptions are
+     * stronger than previous ones.
+     *
+     * @param assumptions constraints to satisfy, not posted yet, they are unposted by the next call to this method
+     *                    or by {@link #reset()}
+     * @return <tt>true</tt> if a solution satisfying the assumptions has been found
+     */
+    public boolean solveUnder(Constraint... assumptions) {
+        return solveUnder(true, assumptions);
+    }
+
+    /**
+     * Executes the resolver under assumptions, like {@link #solveUnder(Constraint...)}, possibly keeping the bounds
+     * of the objective.
+     * <p>
+     * Bounds are kept when they hold whatever the assumptions are, for instance when they come from
+     * solutions or proofs shared by other solvers stating the same problem
+     * (see {@link IObjectiveManager#updateBestLB(Number)} and {@link IObjectiveManager#updateBestUB(Number)}).
+     *
+     * @param resetBounds set to <tt>false</tt> to keep the bounds of the objective known by the objective manager
+     * @param assumptions constraints to satisfy, not posted yet, they are unposted by the next call to this method
+     *                    or by {@link #reset()}
+     * @return <tt>true</tt> if a solution satisfying the assumptions has been found
+     */
+    public boolean solveUnder(boolean resetBounds, Constraint... assumptions) {
+        if (action == initialize) {
+            mMeasures.setSearchState(SearchState.RUNNING);
+            searchMonitors.beforeInitialize();
+            initialize();
+            searchMonitors.afterInitialize();
+            if (stop) {
+                // the initial propagation fails, whatever the assumptions are
+                closeSearch();
+                return false;
+            }
+        }
+        // forget the previous assumptions, the state after initial propagation is restored
+        searchWorldIndex = initialWorldIndex;
+        restoreRootNode();
+        mMeasures.reset();
+        mMeasures.startStopwatch();
+        if (resetBounds) {
+            objectivemanager.resetBestBounds();
+        }
+        feasible = ESat.UNDEFINED;
+        jumpTo = 0;
+        stop = false;
+        canBeRepaired = true;
+        M.setTopDecisionPosition(0);
+        mModel.getEnvironment().worldPush();
+        try {
+            for (Constraint c : assumptions) {
+                if (c.getStatus() != Constraint.Status.FREE) {
+                    throw new SolverException("Assumption " + c.getName() + " is already posted or reified");
+                }
+                try {
+                    mModel.postTemp(c);
+                } finally {
+                    // even if its first propagation fails, the constraint is posted
+                    mModel.getEnvironment().save(() -> mModel.unpost(c));
+                }
+            }
+            objectivemanager.postDynamicCut();
+            engine.propagate();
+            action = extend;
+        } catch (ContradictionException ce) {
+            engine.flush();
+            mMeasures.incFailCount();
+            canBeRepaired = false;
+        }
+        searchWorldIndex = mModel.getEnvironment().getWorldIndex();
+        mModel.getEnvironment().worldPush(); // store another time for restart purpose
+        criteria.stream().filter(c -> c instanceof ICounter).forEach(c -> ((ICounter) c).init());
+        return solve();
+    }
+
     /**
      * Executes the search loop
      * @return <tt>true</tt> if ends on a solution, <tt>false</tt> otherwise
@@ -370,7 +470,10 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
             this.setEngine(PropagationEngineFactory.DEFAULT.make(mModel));
         }
         engine.initialize();
-        getMeasures().setReadingTimeCount(System.nanoTime() - mModel.getCreationTime());
+        if (getMeasures().getReadingTimeCountInNanoSeconds() == 0) {
+            // unless already set, e.g. by a model reader
+            getMeasures().setReadingTimeCount(System.nanoTime() - mModel.getCreationTime());
+        }
         // end note
 
 
@@ -392,6 +495,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
             action = extend;
             mModel.getEnvironment().worldPush(); // store state after initial propagation; w = 1 -> 2
             searchWorldIndex = mModel.getEnvironment().getWorldIndex(); // w = 2
+            initialWorldIndex = searchWorldIndex;
             mModel.getEnvironment().worldPush(); // store another time for restart purpose: w = 2 -> 3
         } catch (ContradictionException ce) {
             engine.flush();
@@ -415,16 +519,61 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
             AbstractStrategy complete = mModel.getSettings().makeDefaultSearch(mModel);
             setSearch(declared, complete);
         }
+        if (hint != null && M.getChildMoves().size() <= 1 && !(M.getStrategy() instanceof WarmStart)) {
+            setSearch(new WarmStart(this, M.getStrategy()));
+        }
         if (!M.init()) { // the initialisation of the Move and strategy can detect inconsistency
             mModel.getEnvironment().worldPop();
             feasible = FALSE;
             engine.flush();
             getMeasures().incFailCount();
             stop = true;
+        } else if (hint != null && !stop) {
+            loadHint();
         }
         criteria.stream().filter(c -> c instanceof ICounter).forEach(c -> ((ICounter) c).init());
     }
 
+    /**
+     * Check whether the hint, extended by propagation, is a solution.
+     * If so, the objective bounds are seeded with its value and a LNS starts from it.
+     */
+    private void loadHint() {
+        Solution solution = null;
+        int value = 0;
+        mModel.getEnvironment().worldPush();
+        try {
+            for (Variable var : mModel.getVars()) {
+                if ((var.getTypeAndKind() & Variable.KIND & Variable.INT) != 0 && hint.hasIntVal((IntVar) var)) {
+                    ((IntVar) var).instantiateTo(hint.getIntVal((IntVar) var), Cause.Null);
+                }
+            }
+            engine.propagate();
+            if (Arrays.stream(mModel.getVars()).allMatch(Variable::isInstantiated)) {
+                solution = new Solution(mModel).record();
+                if (objectivemanager.isOptimization() && objectivemanager.getObjective() instanceof IntVar) {
+                    value = ((IntVar) objectivemanager.getObjective()).getValue();
+                }
+            }
+        } catch (ContradictionException e) {
+            engine.flush();
+        }
+        mModel.getEnvironment().worldPop();
+        if (solution != null) {
+            if (objectivemanager.isOptimization() && objectivemanager.getObjective() instanceof IntVar) {
+                // the cut being strict, the bounds are set so that solutions as good as the hint remain reachable
+                if (objectivemanager.getPolicy() == ResolutionPolicy.MINIMIZE) {
+                    objectivemanager.updateBestUB(value + 1);
+                } else {
+                    objectivemanager.updateBestLB(value - 1);
+                }
+            }
+            if (M instanceof MoveLNS) {
+                ((MoveLNS) M).loadFromSolution(solution, this);
+            }
+        }
+    }
+
     /**
      * Close the search:
      * - set satisfaction
@@ -503,6 +652,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      *     <li>clear {@link #searchMonitors}, that forget any declared one</li>
      *     <li>call {@link Model#removeMinisat()}</li>
      *     <li>call {@link Model#removeNogoodStore()}</li>
+     *     <li>remove the hint, if any</li>
      * </ul>
      * </p>
      * @see #reset()
@@ -517,6 +667,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         completeSearch = false;
         mModel.removeMinisat();
         mModel.removeNogoodStore();
+        hint = null;
     }
 
     /**
@@ -630,6 +781,14 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         return objectivemanager;
     }
 
+    /**
+     * @return the solution declared as a hint, or null
+     * @see #setHint(Solution)
+     */
+    public Solution getHint() {
+        return hint;
+    }
+
     /**
      * Indicates if the default search strategy is used
      * @return false if a specific search strategy is used
@@ -789,9 +948,13 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
 
     /**
      * Declares an objective manager to use.
+     * The bounds of the replaced manager are reset, which removes the cut it may have posted.
      * @param om the objective manager to use instead of the declared one (if any).
      */
     public void setObjectiveManager(IObjectiveManager om) {
+        if (objectivemanager != null && objectivemanager != om) {
+            objectivemanager.resetBestBounds();
+        }
         this.objectivemanager = om;
         mMeasures.setBoundsManager(om);
     }
@@ -819,6 +982,25 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         }
     }
 
+    /**
+     * Declares a solution as a hint for the next resolutions, to warm start them,
+     * for instance when re-optimizing after a slight change of the model.
+     * The hint may be partial (not all variables are recorded) or infeasible, it is only used to guide the search:
+     * <ul>
+     *     <li>the search strategy is wrapped in a {@link WarmStart} heuristic, which branches first on
+     *     the values of the hint,</li>
+     *     <li>if, once propagated at root node, the hint leads to a solution, the bounds of the objective are seeded with
+     *     its value and, when a {@link MoveLNS} is used, the LNS starts from it.</li>
+     * </ul>
+     * Note that the hint itself is not counted as a solution: only solutions found by the search are.
+     * The hint is kept until this method is called with <tt>null</tt> or {@link #hardReset()} is called.
+     *
+     * @param hint a solution of the model, or null to remove the current one
+     */
+    public void setHint(Solution hint) {
+        this.hint = hint;
+    }
+
     /**
      * Overrides the explanation engine.
      * @param explainer the explanation to use
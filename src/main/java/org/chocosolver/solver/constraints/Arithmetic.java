@@ -17,6 +17,9 @@ import org.chocosolver.solver.constraints.unary.PropNotEqualXC;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * A constraint dedicated to arithmetic operations.
  * <br/>
@@ -168,6 +171,42 @@ public class Arithmetic extends Constraint {
 		}
 	}
 
+	/**
+	 * @return the variables of this constraint, in declaration order
+	 */
+	public IntVar[] getVars() {
+		return vars.clone();
+	}
+
+	/**
+	 * @return the first operator of this constraint
+	 */
+	public Operator getOp1() {
+		return op1;
+	}
+
+	/**
+	 * @return the second operator of this constraint ({@link Operator#NONE} for unary constraints)
+	 */
+	public Operator getOp2() {
+		return op2;
+	}
+
+	/**
+	 * @return the constant of this constraint
+	 */
+	public int getCste() {
+		return cste;
+	}
+
+	@Override
+	protected List<Object> structure() {
+		if (vars.length == 1) {
+			return Arrays.asList("arithm", op1, vars[0], cste);
+		}
+		return Arrays.asList("arithm", op1, vars[0], vars[1], op2, cste);
+	}
+
 	@Override
 	public Constraint makeOpposite(){
 		Model model = vars[0].getModel();
@@ -201,11 +201,40 @@ public class Constraint {
     public final BoolVar reify() {
         if (boolReif == null) {
             Model model = propagators[0].getModel();
-            reifyWith(model.boolVar(model.generateName("REIF_")));
+            List<Object> key = mStatus == Status.FREE && model.getSettings().enableStructuralHashing() ? structure() : null;
+            Variable known = key == null ? null : model.getCachedVariables().get(key);
+            if (known != null) {
+                // an identical constraint is already reified, its variable is shared
+                // and this constraint is declared as reified, so that it cannot be posted nor reified again
+                declareAs(Status.REIFIED, -1);
+                getOpposite();
+                boolReif = (BoolVar) known;
+                opposite.boolReif = boolReif.not();
+            } else {
+                reifyWith(model.boolVar(model.generateName("REIF_")));
+                if (key != null) {
+                    model.getCachedVariables().put(key, boolReif);
+                    List<Object> okey = opposite.structure();
+                    if (okey != null) {
+                        model.getCachedVariables().putIfAbsent(okey, opposite.boolReif);
+                    }
+                }
+            }
         }
         return boolReif;
     }
 
+    /**
+     * Returns a key describing this constraint, such that two constraints with equal keys
+     * accept exactly the same solutions.
+     * When not null, {@link #reify()} returns the same boolean variable for constraints with equal keys
+     * (see {@link org.chocosolver.solver.Settings#enableStructuralHashing()}).
+     * @return the structure of this constraint, or null (the default) if it should not be shared
+     */
+    protected List<Object> structure() {
+        return null;
+    }
+
     /**
      * Posts the constraint to its model so that the constraint must be satisfied.
      * This should not be reified.
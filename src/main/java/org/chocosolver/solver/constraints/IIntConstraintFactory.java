@@ -14,6 +14,7 @@ import gnu.trove.set.hash.TIntHashSet;
 
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.constraints.binary.PropAbsolute;
 import org.chocosolver.solver.constraints.binary.PropDistanceXYC;
 import org.chocosolver.solver.constraints.binary.PropEqualXY_C;
@@ -37,11 +38,13 @@ import org.chocosolver.solver.constraints.extension.nary.PropLargeGAC3rm;
 import org.chocosolver.solver.constraints.extension.nary.PropLargeGAC3rmPositive;
 import org.chocosolver.solver.constraints.extension.nary.PropLargeGACSTRPos;
 import org.chocosolver.solver.constraints.extension.nary.PropLargeMDDC;
+import org.chocosolver.solver.constraints.extension.nary.PropMDD4R;
 import org.chocosolver.solver.constraints.extension.nary.PropTableStr2;
 import org.chocosolver.solver.constraints.nary.PropDiffN;
 import org.chocosolver.solver.constraints.nary.PropIntValuePrecedeChain;
 import org.chocosolver.solver.constraints.nary.PropKLoops;
 import org.chocosolver.solver.constraints.nary.PropKnapsack;
+import org.chocosolver.solver.constraints.nary.PropKnapsackDP;
 import org.chocosolver.solver.constraints.nary.alldifferent.AllDifferent;
 import org.chocosolver.solver.constraints.nary.alldifferent.conditions.Condition;
 import org.chocosolver.solver.constraints.nary.alldifferent.conditions.PropCondAllDiffInst;
@@ -73,6 +76,7 @@ import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.lex.PropLex;
 import org.chocosolver.solver.constraints.nary.lex.PropLexChain;
+import org.chocosolver.solver.constraints.nary.lp.PropLinearRelaxation;
 import org.chocosolver.solver.constraints.nary.min_max.PropBoolMax;
 import org.chocosolver.solver.constraints.nary.min_max.PropBoolMin;
 import org.chocosolver.solver.constraints.nary.min_max.PropMax;
@@ -1304,6 +1308,10 @@ public interface IIntConstraintFactory extends ISelf<Model> {
 	 * <pre>
 	 *     model.post(solver.arithm(weightSum, "<=", limit);
 	 * </pre>
+	 * <p>
+	 * When occurrences are non negative and the layered graph fits within
+	 * {@link org.chocosolver.solver.Settings#getMaxDPTableSizeForKnapsack()} nodes,
+	 * a dynamic programming propagator achieves domain consistency on the weight part.
 	 *
 	 * @param occurrences  number of occurrences of every item
 	 * @param weightSum load of the knapsack
@@ -1313,11 +1321,16 @@ public interface IIntConstraintFactory extends ISelf<Model> {
 	 */
 	default Constraint knapsack(IntVar[] occurrences, IntVar weightSum, IntVar energySum,
 								int[] weight, int[] energy) {
-		return new Constraint("Knapsack", ArrayUtils.append(
+		Propagator[] props = ArrayUtils.append(
 				scalar(occurrences, weight, "=",weightSum).propagators,
 				scalar(occurrences, energy, "=", energySum).propagators,
 				new Propagator[]{new PropKnapsack(occurrences, weightSum, energySum, weight, energy)}
-		));
+		);
+		if (PropKnapsackDP.fitsInMemory(occurrences, weightSum, weight,
+				_me().getSettings().getMaxDPTableSizeForKnapsack())) {
+			props = ArrayUtils.append(props, new Propagator[]{new PropKnapsackDP(occurrences, weightSum, weight)});
+		}
+		return new Constraint("Knapsack", props);
 	}
 
 	/**
@@ -1394,6 +1407,25 @@ public interface IIntConstraintFactory extends ISelf<Model> {
 		return new Constraint("Lex(<=)", new PropLex(vars1, vars2, false));
 	}
 
+	/**
+	 * Creates a redundant constraint which bounds an objective variable with the linear relaxation
+	 * of the arithmetic, sum and scalar constraints posted so far in the model.
+	 * The relaxation is solved by a dual simplex, warm started from its last basis on each propagation,
+	 * and the reduced costs are used to fix variables with respect to the current bound of the objective.
+	 * <p>
+	 * The constraint should be posted once the model is stated,
+	 * constraints posted afterwards are not part of the relaxation, and the ones unposted afterwards are left out of it
+	 * until they are posted again.
+	 * As the basis inverse of the simplex is dense, the relaxation keeps at most
+	 * {@link Settings#getLinearRelaxationMaxRows()} rows, and takes the square of this number of doubles.
+	 *
+	 * @param maximize  whether the objective is maximized ({@link Model#MAXIMIZE}) or minimized ({@link Model#MINIMIZE})
+	 * @param objective the objective variable
+	 */
+	default Constraint linearRelaxation(boolean maximize, IntVar objective) {
+		return new Constraint("LinearRelaxation", new PropLinearRelaxation(objective, maximize, _me().getCstrs()));
+	}
+
 	/**
 	 * Creates a maximum constraint.
 	 * max is the maximum value of the collection of domain variables vars
@@ -1423,12 +1455,15 @@ public interface IIntConstraintFactory extends ISelf<Model> {
 	/**
 	 * Create a constraint where solutions (tuples) are encoded by a multi-valued decision diagram.
 	 * The order of the variables in vars is important and must refer to the MDD.
+	 * <p>
+	 * The propagator maintains reversible sets of live arcs and nodes of a reduced copy of the MDD
+	 * (see {@link PropMDD4R}), the MDD itself can thus be shared between constraints.
 	 *
 	 * @param vars the array of variables
 	 * @param MDD  the multi-valued decision diagram encoding solutions
 	 */
 	default Constraint mddc(IntVar[] vars, MultivaluedDecisionDiagram MDD) {
-		return new Constraint("mddc", new PropLargeMDDC(MDD, vars));
+		return new Constraint("mddc", new PropMDD4R(MDD, vars));
 	}
 
 	/**
@@ -1831,6 +1866,8 @@ public interface IIntConstraintFactory extends ISelf<Model> {
 	 * - <b>FC</b>: Forward Checking.
 	 * <br/>
 	 * - <b>MDD+</b>: uses a multi-valued decision diagram for allowed tuples (see mddc constraint),
+	 * <br/>
+	 * - <b>MDD4R+</b>: uses a multi-valued decision diagram for allowed tuples, with incremental arc deletion (see {@link PropMDD4R}),
 	 *
 	 * @param vars      variables forming the tuples
 	 * @param tuples    the relation between the variables (list of allowed/forbidden tuples)
@@ -1858,6 +1895,8 @@ public interface IIntConstraintFactory extends ISelf<Model> {
 				break;
 			case "MDD+": p = new PropLargeMDDC(new MultivaluedDecisionDiagram(vars, tuples), vars);
 				break;
+			case "MDD4R+": p = new PropMDD4R(new MultivaluedDecisionDiagram(vars, tuples), vars);
+				break;
 			case "FC": p = new PropLargeFC(vars, tuples);
 				break;
 			case "GAC3rm": p = new PropLargeGAC3rm(vars, tuples);
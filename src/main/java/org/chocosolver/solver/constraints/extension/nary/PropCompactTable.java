@@ -21,6 +21,8 @@ import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.procedure.UnaryIntProcedure;
 
+import java.util.Arrays;
+
 /**
  * Propagator for table constraint based on
  * "Compact-Table: Efficiently Filtering Table Constraints with Reversible Sparse Bit-Sets"
@@ -43,6 +45,11 @@ public class PropCompactTable extends Propagator<IntVar> {
     protected int[] offset;
     protected IIntDeltaMonitor[] monitors;
     protected UnaryIntProcedure<Integer> onValRem;
+    /**
+     * Values, relatively to offset, found unsupported while filtering a variable,
+     * removed together from its domain
+     */
+    private long[] unsupported;
 
     //***********************************************************************************
    	// CONSTRUCTOR
@@ -58,6 +65,11 @@ public class PropCompactTable extends Propagator<IntVar> {
         super(vars, PropagatorPriority.QUADRATIC, true);
         copyValidTuples(tuples);
         computeSupports();
+        int width = 0;
+        for (int i = 0; i < vars.length; i++) {
+            width = Math.max(width, supports[i].length);
+        }
+        unsupported = new long[(width + 63) >> 6];
         monitors = new IIntDeltaMonitor[vars.length];
         for (int i = 0; i < vars.length; i++) {
             monitors[i] = vars[i].monitorDelta(this);
@@ -221,18 +233,29 @@ public class PropCompactTable extends Propagator<IntVar> {
 	}
 
 	private void enumFilter(int i) throws ContradictionException {
+		int lb = vars[i].getLB();
 	    int ub = vars[i].getUB();
-		for (int v=vars[i].getLB(); v<=ub; v=vars[i].nextValue(v)) {
+		boolean remove = false;
+		for (int v=lb; v<=ub; v=vars[i].nextValue(v)) {
 			int index = residues[i][v - offset[i]];
 			if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
 				index = currTable.intersectIndex(supports[i][v - offset[i]]);
 				if (index == -1) {
-					vars[i].removeValue(v, this);
+					unsupported[(v - offset[i]) >> 6] |= 1L << (v - offset[i]);
+					remove = true;
 				} else {
 					residues[i][v - offset[i]] = index;
 				}
 			}
 		}
+		if (remove) {
+			try {
+				// unsupported values are removed word by word, with a single event
+				vars[i].removeValues(unsupported, offset[i], this);
+			} finally {
+				Arrays.fill(unsupported, (lb - offset[i]) >> 6, ((ub - offset[i]) >> 6) + 1, 0L);
+			}
+		}
 	}
 
     @Override
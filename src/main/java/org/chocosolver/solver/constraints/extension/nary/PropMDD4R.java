@@ -0,0 +1,384 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.stack.array.TIntArrayStack;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+
+/**
+ * Implementation based on "Improving GAC-4 for Table and MDD Constraints", Perez and Régin, CP14 (MDD4R).
+ * <p>
+ * The MDD is first copied into a reduced layered graph: nodes which cannot reach the terminal node are discarded,
+ * and equivalent nodes of a layer are merged.
+ * Then, the propagator maintains, in reversible sparse sets, the live outgoing and incoming arcs of each node,
+ * the live arcs labelled by each value of each variable and the supported values of each variable.
+ * When a value is removed, its arcs are deleted, and nodes without outgoing (resp. incoming) arc
+ * are deleted upward (resp. downward). A value is removed as soon as it has no more live arc.
+ * The cost of a propagation is thus proportional to the number of deleted arcs.
+ *
+ * @see PropLargeMDDC
+ */
+public class PropMDD4R extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    /**
+     * Reversible sparse sets, each of them being a segment of a shared array.
+     * An element belongs to at most one segment.
+     */
+    private static final class SparseSegments {
+
+        private final int[] elements;
+        private final int[] position;
+        private final int[] segment;
+        private final int[] start;
+        private final IStateInt[] size;
+
+        /**
+         * @param environment backtracking environment
+         * @param nbSegments  number of segments
+         * @param segmentOf   segment of each element, -1 if the element does not belong to any segment
+         */
+        SparseSegments(IEnvironment environment, int nbSegments, int[] segmentOf) {
+            this.segment = segmentOf;
+            this.start = new int[nbSegments + 1];
+            for (int s : segmentOf) {
+                if (s >= 0) {
+                    start[s + 1]++;
+                }
+            }
+            for (int s = 0; s < nbSegments; s++) {
+                start[s + 1] += start[s];
+            }
+            this.elements = new int[start[nbSegments]];
+            this.position = new int[segmentOf.length];
+            int[] next = Arrays.copyOf(start, nbSegments);
+            for (int e = 0; e < segmentOf.length; e++) {
+                int s = segmentOf[e];
+                if (s >= 0) {
+                    position[e] = next[s];
+                    elements[next[s]++] = e;
+                }
+            }
+            this.size = new IStateInt[nbSegments];
+            for (int s = 0; s < nbSegments; s++) {
+                size[s] = environment.makeInt(start[s + 1] - start[s]);
+            }
+        }
+
+        boolean contains(int e) {
+            int s = segment[e];
+            return s >= 0 && position[e] < start[s] + size[s].get();
+        }
+
+        /**
+         * Removes a live element from its segment.
+         * @return the number of remaining elements in the segment
+         */
+        int remove(int e) {
+            int s = segment[e];
+            int last = start[s] + size[s].get() - 1;
+            int p = position[e];
+            int o = elements[last];
+            elements[last] = e;
+            position[e] = last;
+            elements[p] = o;
+            position[o] = p;
+            return size[s].add(-1);
+        }
+
+        int size(int s) {
+            return size[s].get();
+        }
+
+        int get(int s, int k) {
+            return elements[start[s] + k];
+        }
+
+        int initialSize(int s) {
+            return start[s + 1] - start[s];
+        }
+    }
+
+    /**
+     * Key to detect equivalent nodes of a layer
+     */
+    private static final class Signature {
+        private final int[] arcs;
+
+        private Signature(int[] arcs) {
+            this.arcs = arcs;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Signature && Arrays.equals(arcs, ((Signature) o).arcs);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(arcs);
+        }
+    }
+
+    private final int nvars;
+    private final int[] offsets;
+    /**
+     * Index of the first value of each variable, values of variable i are in [base[i], base[i+1])
+     */
+    private final int[] base;
+    /**
+     * Variable of each value having at least one arc, -1 otherwise
+     */
+    private final int[] varOf;
+    private final int root;
+    private final int[] tail, head, label;
+    /**
+     * Live outgoing arcs of each node
+     */
+    private final SparseSegments outArcs;
+    /**
+     * Live incoming arcs of each node
+     */
+    private final SparseSegments inArcs;
+    /**
+     * Live arcs labelled by each value
+     */
+    private final SparseSegments supports;
+    /**
+     * Values, of each variable, with at least one live arc
+     */
+    private final SparseSegments values;
+    private final BitSet modified;
+    private final TIntArrayStack deadNodes;
+    private final TIntArrayList emptyValues;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Create a propagator maintaining GAC based on a MDD.
+     * The MDD is not modified, a reduced copy of it is stored in the propagator.
+     *
+     * @param MDD  Multi-valued Decision Diagram, stores the solutions
+     * @param VARS the related variables -- the order is important, and need to match the MDD.
+     */
+    public PropMDD4R(MultivaluedDecisionDiagram MDD, IntVar... VARS) {
+        super(VARS, PropagatorPriority.QUADRATIC, true);
+        this.nvars = vars.length;
+        this.offsets = new int[nvars];
+        this.base = new int[nvars + 1];
+        for (int i = 0; i < nvars; i++) {
+            offsets[i] = MDD.getOffset(i);
+            base[i + 1] = base[i] + MDD.getNodeSize(i);
+        }
+        // 1. copy the MDD into a reduced layered graph, the terminal node is 0
+        TIntArrayList tails = new TIntArrayList();
+        TIntArrayList heads = new TIntArrayList();
+        TIntArrayList labels = new TIntArrayList();
+        int[] nbNodes = {1};
+        this.root = reduce(MDD, 0, 0, new TIntIntHashMap(16, .5f, -2, -2), new HashMap<>(), nbNodes, tails, heads, labels);
+        this.tail = tails.toArray();
+        this.head = heads.toArray();
+        this.label = labels.toArray();
+        // 2. build the reversible sparse sets
+        IEnvironment environment = model.getEnvironment();
+        this.outArcs = new SparseSegments(environment, nbNodes[0], tail);
+        this.inArcs = new SparseSegments(environment, nbNodes[0], head);
+        this.supports = new SparseSegments(environment, base[nvars], label);
+        this.varOf = new int[base[nvars]];
+        for (int i = 0; i < nvars; i++) {
+            for (int g = base[i]; g < base[i + 1]; g++) {
+                varOf[g] = supports.initialSize(g) > 0 ? i : -1;
+            }
+        }
+        this.values = new SparseSegments(environment, nvars, varOf);
+        this.modified = new BitSet(nvars);
+        this.deadNodes = new TIntArrayStack();
+        this.emptyValues = new TIntArrayList();
+    }
+
+    /**
+     * Copies the sub-MDD rooted in <i>cell</i>, in a post-order fashion.
+     *
+     * @return the id of the copied node, -1 if the node cannot reach the terminal node
+     */
+    private int reduce(MultivaluedDecisionDiagram MDD, int cell, int layer, TIntIntHashMap ids,
+                       HashMap<Signature, Integer> known, int[] nbNodes,
+                       TIntArrayList tails, TIntArrayList heads, TIntArrayList labels) {
+        int id = ids.get(cell);
+        if (id != -2) {
+            return id;
+        }
+        int size = MDD.getNodeSize(layer);
+        int[] arcs = new int[2 * size + 1];
+        int k = 0;
+        arcs[k++] = layer;
+        for (int v = 0; v < size; v++) {
+            int e = MDD.getEdge(cell + v);
+            int child = -1;
+            if (layer == nvars - 1) {
+                if (e == MultivaluedDecisionDiagram.TERMINAL) {
+                    child = 0;
+                }
+            } else if (e > MultivaluedDecisionDiagram.EMPTY) {
+                child = reduce(MDD, e, layer + 1, ids, known, nbNodes, tails, heads, labels);
+            }
+            if (child >= 0) {
+                arcs[k++] = v;
+                arcs[k++] = child;
+            }
+        }
+        if (k == 1) {
+            id = -1;
+        } else {
+            Signature signature = new Signature(Arrays.copyOf(arcs, k));
+            Integer existing = known.get(signature);
+            if (existing != null) {
+                id = existing;
+            } else {
+                id = nbNodes[0]++;
+                known.put(signature, id);
+                for (int a = 1; a < k; a += 2) {
+                    tails.add(id);
+                    labels.add(base[layer] + arcs[a]);
+                    heads.add(arcs[a + 1]);
+                }
+            }
+        }
+        ids.put(cell, id);
+        return id;
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.all();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            if (root < 0) {
+                fails();
+            }
+            for (int i = 0; i < nvars; i++) {
+                int o = offsets[i];
+                int ub = vars[i].getUB();
+                for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+                    if (v < o || v - o >= base[i + 1] - base[i] || !values.contains(base[i] + v - o)) {
+                        vars[i].removeValue(v, this);
+                    }
+                }
+            }
+            modified.set(0, nvars);
+        }
+        filter();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        modified.set(idxVarInProp);
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    private void filter() throws ContradictionException {
+        deadNodes.clear();
+        emptyValues.resetQuick();
+        // 1. delete arcs labelled by removed values
+        for (int i = modified.nextSetBit(0); i >= 0; i = modified.nextSetBit(i + 1)) {
+            int k = values.size(i);
+            while (--k >= 0) {
+                if (k < values.size(i)) {
+                    int g = values.get(i, k);
+                    if (!vars[i].contains(g - base[i] + offsets[i])) {
+                        while (supports.size(g) > 0) {
+                            removeArc(supports.get(g, supports.size(g) - 1));
+                        }
+                    }
+                }
+            }
+        }
+        modified.clear();
+        // 2. delete nodes which lost all their outgoing or incoming arcs
+        while (!deadNodes.isEmpty()) {
+            int n = deadNodes.pop();
+            while (inArcs.size(n) > 0) {
+                removeArc(inArcs.get(n, inArcs.size(n) - 1));
+            }
+            while (outArcs.size(n) > 0) {
+                removeArc(outArcs.get(n, outArcs.size(n) - 1));
+            }
+        }
+        if (outArcs.size(root) == 0) {
+            fails();
+        }
+        // 3. remove values without live arc
+        for (int j = 0; j < emptyValues.size(); j++) {
+            int g = emptyValues.getQuick(j);
+            int i = varOf[g];
+            vars[i].removeValue(g - base[i] + offsets[i], this);
+        }
+    }
+
+    private void removeArc(int a) {
+        int g = label[a];
+        if (supports.remove(a) == 0) {
+            values.remove(g);
+            emptyValues.add(g);
+        }
+        if (outArcs.remove(a) == 0) {
+            deadNodes.push(tail[a]);
+        }
+        if (inArcs.remove(a) == 0) {
+            deadNodes.push(head[a]);
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (isCompletelyInstantiated()) {
+            int n = root;
+            for (int i = 0; i < nvars && n > 0; i++) {
+                int g = base[i] + vars[i].getValue() - offsets[i];
+                int next = -1;
+                for (int k = 0; k < outArcs.initialSize(n) && next < 0; k++) {
+                    int a = outArcs.get(n, k);
+                    if (label[a] == g) {
+                        next = head[a];
+                    }
+                }
+                n = next;
+            }
+            return ESat.eval(n == 0);
+        }
+        return ESat.UNDEFINED;
+    }
+}
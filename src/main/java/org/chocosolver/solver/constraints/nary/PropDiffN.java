@@ -16,7 +16,7 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.objects.graphs.UndirectedGraph;
+import org.chocosolver.util.objects.IntervalOverlapIndex;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
@@ -34,7 +34,7 @@ public class PropDiffN extends Propagator<IntVar> {
     //***********************************************************************************
 
     private int n;
-    private UndirectedGraph overlappingBoxes;
+    private IntervalOverlapIndex overlappingBoxes;
     private ISet boxesToCompute;
     private boolean fast;
 
@@ -49,7 +49,7 @@ public class PropDiffN extends Propagator<IntVar> {
         if (!(n == y.length && n == dx.length && n == dy.length)) {
             throw new SolverException("PropDiffN variable arrays do not have same size");
         }
-        overlappingBoxes = new UndirectedGraph(model, n, SetType.LINKED_LIST, true);
+        overlappingBoxes = new IntervalOverlapIndex(model, n, SetType.LINKED_LIST);
         boxesToCompute = SetFactory.makeStoredSet(SetType.LINKED_LIST, 0, model);
      }
 
@@ -66,13 +66,7 @@ public class PropDiffN extends Propagator<IntVar> {
 	@Override
 	public void propagate(int varIdx, int mask) throws ContradictionException {
 		int v = varIdx % n;
-        ISetIterator iter = overlappingBoxes.getNeighOf(v).iterator();
-        while (iter.hasNext()) {
-            int i = iter.nextInt();
-			if (!mayOverlap(v, i)) {
-				overlappingBoxes.removeEdge(v, i);
-			}
-		}
+		overlappingBoxes.refresh(v, this::mayOverlap);
 		if (!boxesToCompute.contains(v)) {
 			boxesToCompute.add(v);
 		}
@@ -82,14 +76,14 @@ public class PropDiffN extends Propagator<IntVar> {
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         if (PropagatorEventType.isFullPropagation(evtmask)) {
+            // sweep on the horizontal dimension, pairs are then checked on both dimensions
+            overlappingBoxes.build(i -> vars[i].getLB(), i -> vars[i].getUB() + vars[i + 2 * n].getUB(),
+                    i -> true, this::mayOverlap);
             for (int i = 0; i < n; i++) {
-                overlappingBoxes.getNeighOf(i).clear();
-            }
-            for (int i = 0; i < n; i++) {
-                for (int j = i + 1; j < n; j++) {
-                    if (mayOverlap(i, j)) {
-                        overlappingBoxes.addEdge(i, j);
-                        if (boxInstantiated(i) && boxInstantiated(j)) {
+                if (boxInstantiated(i)) {
+                    ISetIterator iter = overlappingBoxes.getOverlapping(i).iterator();
+                    while (iter.hasNext()) {
+                        if (boxInstantiated(iter.nextInt())) {
                             fails(); // TODO: could be more precise, for explanation purpose
                         }
                     }
@@ -124,7 +118,7 @@ public class PropDiffN extends Propagator<IntVar> {
         int ym = vars[i + n].getLB();
         int yM = vars[i + n].getUB() + vars[i + 3 * n].getUB();
         int am = vars[i + 2 * n].getLB() * vars[i + 3 * n].getLB();
-        ISetIterator iter = overlappingBoxes.getNeighOf(i).iterator();
+        ISetIterator iter = overlappingBoxes.getOverlapping(i).iterator();
         while (iter.hasNext()) {
             int j = iter.nextInt();
             xm = Math.min(xm, vars[j].getLB());
@@ -139,7 +133,7 @@ public class PropDiffN extends Propagator<IntVar> {
         // mandatory part based filtering
         boolean horizontal = true;
         boolean vertical = false;
-        iter = overlappingBoxes.getNeighOf(i).iterator(); // reset iteration
+        iter = overlappingBoxes.getOverlapping(i).iterator(); // reset iteration
         while (iter.hasNext()) {
             int j = iter.nextInt();
             if (doOverlap(i, j, horizontal)) {
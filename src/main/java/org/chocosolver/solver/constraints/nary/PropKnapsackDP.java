@@ -0,0 +1,319 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Propagator for the weight part of the Knapsack constraint:
+ * <br/>- occurrences[i] * weight[i] = capacity
+ * <p>
+ * Achieves domain consistency thanks to a layered graph, as described in:
+ * <br/>
+ * "A Dynamic Programming Approach for Consistency and Propagation for Knapsack Constraints",
+ * M. A. Trick, Annals of Operations Research, 2003.
+ * <p>
+ * Layer i stores the partial weights, in [0, capacity.getUB()], reachable from the source
+ * with the first i items and from which the sink can still be reached with the remaining items.
+ * Layers are backtrackable bitsets, nodes are removed incrementally on domain events
+ * (a forward wave starting from the lowest modified item, then a backward wave).
+ * <p>
+ * The graph requires (n+1) * (capacity.getUB()+1) bits, see {@link #fitsInMemory(IntVar[], IntVar, int[], int)}.
+ *
+ * @see PropKnapsack
+ */
+public class PropKnapsackDP extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final int[] weight;
+    private final int n;
+    private final int maxWeight;
+    private final IntVar capacity;
+    private final IStateBitSet[] layers;
+    private final BitSet modified;
+    private final boolean[] changed;
+    /**
+     * Nodes of a layer found unsupported, removed from the layer at once
+     */
+    private final long[] unsupported;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Creates a dynamic programming based propagator for the weight part of a knapsack constraint.
+     * Occurrences lower bounds and weights are expected to be non negative,
+     * see {@link #fitsInMemory(IntVar[], IntVar, int[], int)}.
+     *
+     * @param itemOccurence number of occurrences of every item
+     * @param capacity      load of the knapsack
+     * @param weight        weight of each item
+     */
+    public PropKnapsackDP(IntVar[] itemOccurence, IntVar capacity, int[] weight) {
+        super(ArrayUtils.append(itemOccurence, new IntVar[]{capacity}), PropagatorPriority.QUADRATIC, true);
+        this.weight = weight;
+        this.n = itemOccurence.length;
+        this.capacity = vars[n];
+        this.maxWeight = capacity.getUB();
+        this.layers = new IStateBitSet[n + 1];
+        for (int i = 0; i <= n; i++) {
+            layers[i] = model.getEnvironment().makeBitSet(maxWeight + 1);
+        }
+        this.modified = new BitSet(n + 1);
+        this.changed = new boolean[n + 1];
+        this.unsupported = new long[(maxWeight + 64) >> 6];
+    }
+
+    /**
+     * Checks whether the layered graph can be used to filter the weight part of a knapsack constraint.
+     * The graph is made of (n+1) * (capacity.getUB()+1) nodes, which must not exceed <i>maxTableSize</i>.
+     *
+     * @param itemOccurence number of occurrences of every item
+     * @param capacity      load of the knapsack
+     * @param weight        weight of each item
+     * @param maxTableSize  maximum number of nodes allowed in the layered graph
+     * @return <tt>true</tt> if {@link PropKnapsackDP} can be used, <tt>false</tt> if the relaxation should be used instead.
+     */
+    public static boolean fitsInMemory(IntVar[] itemOccurence, IntVar capacity, int[] weight, int maxTableSize) {
+        if (capacity.getUB() < 0) {
+            return false;
+        }
+        for (int i = 0; i < itemOccurence.length; i++) {
+            if (weight[i] < 0 || itemOccurence[i].getLB() < 0) {
+                return false;
+            }
+        }
+        return (long) (itemOccurence.length + 1) * (capacity.getUB() + 1L) <= maxTableSize;
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.all();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            buildGraph();
+            modified.set(0, n + 1);
+        }
+        filter();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        modified.set(idxVarInProp);
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    /**
+     * Computes the nodes reachable from the source, layer by layer.
+     */
+    private void buildGraph() {
+        for (int i = 0; i <= n; i++) {
+            layers[i].clear();
+        }
+        layers[0].set(0);
+        for (int i = 0; i < n; i++) {
+            IStateBitSet from = layers[i];
+            IStateBitSet to = layers[i + 1];
+            int ub = vars[i].getUB();
+            for (int w = from.nextSetBit(0); w >= 0; w = from.nextSetBit(w + 1)) {
+                for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+                    long t = w + (long) v * weight[i];
+                    if (t > maxWeight) {
+                        break;
+                    }
+                    to.set((int) t);
+                    if (weight[i] == 0) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void filter() throws ContradictionException {
+        for (int i = 0; i <= n; i++) {
+            changed[i] = false;
+        }
+        if (modified.get(n)) {
+            changed[n] = restrictToCapacity();
+        }
+        // forward wave: a node of layer i+1 needs a predecessor in layer i
+        boolean prev = false;
+        for (int i = modified.nextSetBit(0); i >= 0 && i < n; i++) {
+            if (prev || modified.get(i)) {
+                prev = forwardRevise(i);
+                changed[i + 1] |= prev;
+            }
+        }
+        // backward wave: a node of layer i needs a successor in layer i+1
+        for (int i = n - 1; i >= 0; i--) {
+            if (changed[i + 1] || modified.get(i)) {
+                changed[i] |= backwardRevise(i);
+            }
+        }
+        if (layers[0].isEmpty() || layers[n].isEmpty()) {
+            modified.clear();
+            fails();
+        }
+        // removing unsupported values does not remove any live arc, so one pass is enough
+        for (int i = 0; i < n; i++) {
+            if (changed[i] || changed[i + 1] || modified.get(i)) {
+                filterItem(i);
+            }
+        }
+        if (changed[n] || modified.get(n)) {
+            filterCapacity();
+        }
+        modified.clear();
+    }
+
+    private boolean restrictToCapacity() {
+        IStateBitSet last = layers[n];
+        boolean change = false;
+        for (int w = last.nextSetBit(0); w >= 0; w = last.nextSetBit(w + 1)) {
+            if (!capacity.contains(w)) {
+                unsupported[w >> 6] |= 1L << w;
+                change = true;
+            }
+        }
+        if (change) {
+            removeUnsupported(last);
+        }
+        return change;
+    }
+
+    private boolean forwardRevise(int i) {
+        IStateBitSet from = layers[i];
+        IStateBitSet to = layers[i + 1];
+        IntVar x = vars[i];
+        int ub = x.getUB();
+        boolean change = false;
+        for (int t = to.nextSetBit(0); t >= 0; t = to.nextSetBit(t + 1)) {
+            boolean supported = false;
+            for (int v = x.getLB(); v <= ub && !supported; v = x.nextValue(v)) {
+                long w = t - (long) v * weight[i];
+                if (w < 0) {
+                    break;
+                }
+                supported = from.get((int) w);
+            }
+            if (!supported) {
+                unsupported[t >> 6] |= 1L << t;
+                change = true;
+            }
+        }
+        if (change) {
+            removeUnsupported(to);
+        }
+        return change;
+    }
+
+    private boolean backwardRevise(int i) {
+        IStateBitSet from = layers[i];
+        IStateBitSet to = layers[i + 1];
+        IntVar x = vars[i];
+        int ub = x.getUB();
+        boolean change = false;
+        for (int w = from.nextSetBit(0); w >= 0; w = from.nextSetBit(w + 1)) {
+            boolean supported = false;
+            for (int v = x.getLB(); v <= ub && !supported; v = x.nextValue(v)) {
+                long t = w + (long) v * weight[i];
+                if (t > maxWeight) {
+                    break;
+                }
+                supported = to.get((int) t);
+            }
+            if (!supported) {
+                unsupported[w >> 6] |= 1L << w;
+                change = true;
+            }
+        }
+        if (change) {
+            removeUnsupported(from);
+        }
+        return change;
+    }
+
+    /**
+     * Removes the nodes marked in {@link #unsupported} from <i>layer</i>, word by word, and resets the mask.
+     * @param layer a layer of the graph
+     */
+    private void removeUnsupported(IStateBitSet layer) {
+        layer.andNot(unsupported);
+        Arrays.fill(unsupported, 0L);
+    }
+
+    private void filterItem(int i) throws ContradictionException {
+        IStateBitSet from = layers[i];
+        IStateBitSet to = layers[i + 1];
+        IntVar x = vars[i];
+        int ub = x.getUB();
+        for (int v = x.getLB(); v <= ub; v = x.nextValue(v)) {
+            boolean supported = false;
+            for (int w = from.nextSetBit(0); w >= 0 && !supported; w = from.nextSetBit(w + 1)) {
+                long t = w + (long) v * weight[i];
+                if (t > maxWeight) {
+                    break;
+                }
+                supported = to.get((int) t);
+            }
+            if (!supported) {
+                x.removeValue(v, this);
+            }
+        }
+    }
+
+    private void filterCapacity() throws ContradictionException {
+        IStateBitSet last = layers[n];
+        capacity.updateBounds(last.nextSetBit(0), last.prevSetBit(maxWeight), this);
+        if (capacity.hasEnumeratedDomain()) {
+            int ub = capacity.getUB();
+            for (int w = capacity.getLB(); w <= ub; w = capacity.nextValue(w)) {
+                if (!last.get(w)) {
+                    capacity.removeValue(w, this);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (isCompletelyInstantiated()) {
+            long load = 0;
+            for (int i = 0; i < n; i++) {
+                load += (long) weight[i] * vars[i].getValue();
+            }
+            return ESat.eval(load == capacity.getValue());
+        }
+        return ESat.UNDEFINED;
+    }
+
+}
@@ -25,8 +25,34 @@ public class AllDifferent extends Constraint {
     public static final String NEQS= "NEQS";
     public static final String DEFAULT= "DEFAULT";
 
+    /**
+     * The variables of this constraint, in declaration order
+     */
+    private final IntVar[] vars;
+
+    /**
+     * The consistency level of this constraint
+     */
+    private final String type;
+
     public AllDifferent(IntVar[] vars, String type) {
         super("AllDifferent", createPropagators(vars, type));
+        this.vars = vars.clone();
+        this.type = type;
+    }
+
+    /**
+     * @return the variables of this constraint, in declaration order
+     */
+    public IntVar[] getVars() {
+        return vars.clone();
+    }
+
+    /**
+     * @return the consistency level this constraint was created with
+     */
+    public String getConsistency() {
+        return type;
     }
 
     private static Propagator[] createPropagators(IntVar[] VARS, String consistency) {
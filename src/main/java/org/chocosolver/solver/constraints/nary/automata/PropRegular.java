@@ -9,6 +9,7 @@
 package org.chocosolver.solver.constraints.nary.automata;
 
 import gnu.trove.iterator.TIntIterator;
+import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.constraints.Propagator;
@@ -23,7 +24,6 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.procedure.UnaryIntProcedure;
 import org.jgrapht.graph.DirectedMultigraph;
 
 import java.util.ArrayList;
@@ -40,8 +40,11 @@ public class PropRegular extends Propagator<IntVar> {
 
     private StoredDirectedMultiGraph graph;
     private final IAutomaton automaton;
-    private final RemProc rem_proc;
     private final IIntDeltaMonitor[] idms;
+    /**
+     * Values removed from a variable, filled by its delta monitor
+     */
+    private final TIntArrayList removed;
 
     public PropRegular(IntVar[] variables, IAutomaton automaton) {
         super(variables, PropagatorPriority.LINEAR, true);
@@ -49,7 +52,7 @@ public class PropRegular extends Propagator<IntVar> {
         for (int i = 0; i < this.vars.length; i++) {
             idms[i] = this.vars[i].monitorDelta(this);
         }
-        rem_proc = new RemProc(this);
+        removed = new TIntArrayList();
         this.automaton = automaton;
         graph = initGraph(model.getEnvironment(), vars, automaton);
     }
@@ -59,7 +62,7 @@ public class PropRegular extends Propagator<IntVar> {
         assert evtmask == PropagatorEventType.FULL_PROPAGATION.getMask();
         for (int i = 0; i < idms.length; i++) {
             idms[i].freeze(); // as the graph was build on initial domain, this is allowed (specific case)
-            idms[i].forEachRemVal(rem_proc.set(i));
+            clearSupports(i);
             for (int j = vars[i].getLB(); j <= vars[i].getUB(); j = vars[i].nextValue(j)) {
                 if (!graph.hasSupport(i, j)) {
                     vars[i].removeValue(j, this);
@@ -72,10 +75,18 @@ public class PropRegular extends Propagator<IntVar> {
     @Override
     public void propagate(int varIdx, int mask) throws ContradictionException {
         idms[varIdx].freeze();
-        idms[varIdx].forEachRemVal(rem_proc.set(varIdx));
+        clearSupports(varIdx);
         idms[varIdx].unfreeze();
     }
 
+    private void clearSupports(int varIdx) throws ContradictionException {
+        removed.resetQuick();
+        idms[varIdx].getRemovedValues(removed);
+        for (int k = 0; k < removed.size(); k++) {
+            graph.clearSupports(varIdx, removed.getQuick(k), this);
+        }
+    }
+
     @Override
     public ESat isEntailed() {
         if (this.isCompletelyInstantiated()) {
@@ -90,27 +101,6 @@ public class PropRegular extends Propagator<IntVar> {
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
-
-        private final PropRegular p;
-        private int idxVar;
-
-        public RemProc(PropRegular p) {
-            this.p = p;
-        }
-
-        @Override
-        public UnaryIntProcedure set(Integer idxVar) {
-            this.idxVar = idxVar;
-            return this;
-        }
-
-        @Override
-        public void execute(int i) throws ContradictionException {
-            p.graph.clearSupports(idxVar, i, p);
-        }
-    }
-
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder(32);
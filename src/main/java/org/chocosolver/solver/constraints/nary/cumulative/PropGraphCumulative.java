@@ -11,15 +11,11 @@ package org.chocosolver.solver.constraints.nary.cumulative;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
-import org.chocosolver.util.objects.graphs.UndirectedGraph;
+import org.chocosolver.util.objects.IntervalOverlapIndex;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
-import org.chocosolver.util.sort.ArraySort;
-
-import java.util.BitSet;
-import java.util.Comparator;
 
 /**
  * Graph based cumulative
@@ -36,7 +32,7 @@ public class PropGraphCumulative extends PropCumulative {
     // VARIABLES
     //***********************************************************************************
 
-    private final UndirectedGraph g;
+    private final IntervalOverlapIndex g;
     private ISet tasks, toCompute;
     private long timestamp;
     private boolean full, fast;
@@ -60,7 +56,7 @@ public class PropGraphCumulative extends PropCumulative {
     public PropGraphCumulative(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, boolean fast,
                                Cumulative.Filter... filters) {
         super(s, d, e, h, capa, true, filters);
-        this.g = new UndirectedGraph(model, n, SetType.BITSET, true);
+        this.g = new IntervalOverlapIndex(model, n, SetType.BITSET);
         this.tasks = SetFactory.makeBipartiteSet(0);
         this.toCompute = SetFactory.makeBipartiteSet(0);
 		this.fast = fast;
@@ -82,13 +78,7 @@ public class PropGraphCumulative extends PropCumulative {
                 int count = 0;
                 ISetIterator tcIt = toCompute.iterator();
                 while (tcIt.hasNext()){
-                    int i = tcIt.nextInt();
-                    for (int j : g.getNeighOf(i)) {
-                        if (disjoint(i, j)) {
-                            g.removeEdge(i, j);
-                        }
-                    }
-                    count += g.getNeighOf(i).size();
+                    count += g.refresh(tcIt.nextInt(), this::mayOverlap);
                     if(count >= 2*n)break;
                 }
                 if (count >= 2*n) {
@@ -116,10 +106,7 @@ public class PropGraphCumulative extends PropCumulative {
             int v = varIdx % n;
             if(h[v].getUB()==0 || d[v].getUB()==0){
                 allTasks.remove(v);
-                ISetIterator gIt = g.getNeighOf(v).iterator();
-                while (gIt.hasNext()){
-                    g.removeEdge(v,gIt.nextInt());
-                }
+                g.remove(v);
             }else if(s[v].getUB()<e[v].getLB() || !fast){
                 toCompute.add(v);
             }
@@ -133,73 +120,19 @@ public class PropGraphCumulative extends PropCumulative {
     protected void filterAround(int taskIndex) throws ContradictionException {
         tasks.clear();
         tasks.add(taskIndex);
-        ISetIterator env = g.getNeighOf(taskIndex).iterator();
+        ISetIterator env = g.getOverlapping(taskIndex).iterator();
         while (env.hasNext()) {
             tasks.add(env.nextInt());
         }
         filter(tasks);
     }
 
-    private boolean disjoint(int i, int j) {
-        return s[i].getLB() >= e[j].getUB() || s[j].getLB() >= e[i].getUB();
+    private boolean mayOverlap(int i, int j) {
+        return s[i].getLB() < e[j].getUB() && s[j].getLB() < e[i].getUB();
     }
 
     private void graphComputation() {
-        for (int i = 0; i < n; i++) {
-            g.getNeighOf(i).clear();
-        }
-        Event[] events = new Event[2 * n];
-        ArraySort<Event> sort = new ArraySort<>(events.length, true, false);
-        Comparator<Event> eventComparator = (e1, e2) -> {
-            if (e1.date == e2.date) {
-                return e1.type - e2.type;
-            }
-            return e1.date - e2.date;
-        };
-        BitSet tprune = new BitSet(n);
-        for (int i = 0; i < n; i++) {
-            events[i] = new Event();
-            events[i].set(START, i, s[i].getLB());
-            events[i + n] = new Event();
-            events[i + n].set(END, i, e[i].getUB());
-        }
-        sort.sort(events, 2 * n, eventComparator);
-        int timeIndex = 0;
-        while (timeIndex < n * 2) {
-            Event event = events[timeIndex++];
-            switch (event.type) {
-                case (START):
-                    boolean eok = h[event.index].getUB()>0 && d[event.index].getUB()>0;
-                    if(eok) {
-                        for (int i = tprune.nextSetBit(0); i >= 0; i = tprune.nextSetBit(i + 1)) {
-                            if(h[i].getUB()>0 && d[i].getUB()>0) {
-                                g.addEdge(i, event.index);
-                            }
-                        }
-                    }
-                    tprune.set(event.index);
-                    break;
-                case (END):
-                    tprune.clear(event.index);
-                    break;
-                default:
-                    throw new UnsupportedOperationException();
-            }
-        }
+        g.build(i -> s[i].getLB(), i -> e[i].getUB(), i -> h[i].getUB() > 0 && d[i].getUB() > 0, (i, j) -> true);
     }
 
-    private static class Event {
-        protected int type;
-        protected int index;
-        protected int date;
-
-        protected void set(int t, int i, int d) {
-            date = d;
-            type = t;
-            index = i;
-        }
-    }
-
-    private final static int START = 1, END = 2;
-
 }
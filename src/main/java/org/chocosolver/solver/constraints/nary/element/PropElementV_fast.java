@@ -15,22 +15,33 @@
 
 package org.chocosolver.solver.constraints.nary.element;
 
+import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.explanations.RuleStore;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.tools.ArrayUtils;
 
 import static java.lang.Integer.MAX_VALUE;
 import static java.lang.Integer.MIN_VALUE;
-import static java.lang.Math.max;
-import static java.lang.Math.min;
 
 /**
  * Fast Element constraint
+ * <p>
+ * The propagator reacts to fine events:
+ * an array variable is only checked when it is modified and its position is still a candidate index.
+ * Two backtrackable watched indices support the bounds of the value variable
+ * (the candidate with the smallest lower bound and the one with the largest upper bound).
+ * They are only recomputed, in a single pass over the candidate indices, when they are modified or removed,
+ * so that the propagation cost mostly depends on the changes, not on the size of the array.
  *
  * @author Jean-Guillaume Fages
  * @since 05/2013
@@ -44,49 +55,114 @@ public class PropElementV_fast extends Propagator<IntVar> {
     private IntVar var, index;
     private int offset;
     private final boolean fast;
+    /**
+     * Candidate index supporting the lower bound of var, offset - 1 if unknown
+     */
+    private final IStateInt minSupport;
+    /**
+     * Candidate index supporting the upper bound of var, offset - 1 if unknown
+     */
+    private final IStateInt maxSupport;
+    /**
+     * Positions, in the array, of modified variables since last propagation
+     */
+    private final ISet toCheck;
+    /**
+     * Set to true when all candidate indices have to be checked
+     */
+    private boolean checkAll;
+    private long timestamp = -1;
 
     //***********************************************************************************
     // CONSTRUCTORS
     //***********************************************************************************
 
     public PropElementV_fast(IntVar value, IntVar[] values, IntVar index, int offset, boolean fast) {
-        super(ArrayUtils.append(new IntVar[]{value, index}, values), PropagatorPriority.LINEAR, false);
+        super(ArrayUtils.append(new IntVar[]{value, index}, values), PropagatorPriority.LINEAR, true);
         this.var = vars[0];
         this.index = vars[1];
         this.offset = offset;
         this.fast = fast;
+        this.minSupport = model.getEnvironment().makeInt(offset - 1);
+        this.maxSupport = model.getEnvironment().makeInt(offset - 1);
+        this.toCheck = SetFactory.makeBipartiteSet(0);
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        if (fast && vIdx != 1) {
+            return IntEventType.boundAndInst();
+        }
+        return IntEventType.all();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        if (timestamp != model.getEnvironment().getTimeStamp()) {
+            // a previous propagation may have been interrupted by a failure
+            timestamp = model.getEnvironment().getTimeStamp();
+            toCheck.clear();
+            checkAll = false;
+        }
+        if (idxVarInProp == 0) {
+            checkAll = true;
+        } else if (idxVarInProp > 1 && index.contains(idxVarInProp - 2 + offset)) {
+            toCheck.add(idxVarInProp - 2);
+        }
+        // on index event, watched indices are lazily checked
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
     }
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            checkAll = true;
+            minSupport.set(offset - 1);
+            maxSupport.set(offset - 1);
+        }
         boolean filter;
         do {
             filter = index.updateBounds(offset, vars.length + offset - 3, this);
-            int lb = index.getLB();
-            int ub = index.getUB();
-            int min = MAX_VALUE / 2;
-            int max = MIN_VALUE / 2;
-            // 1. bottom up loop
-            for (int i = lb; i <= ub; i = index.nextValue(i)) {
-                if (disjoint(var, vars[2 + i - offset])) {
+            // 1. remove indices whose variable cannot be equal to var
+            // modified variables are visited even if all indices are checked, to invalidate their supports
+            ISetIterator iter = toCheck.iterator();
+            while (iter.hasNext()) {
+                int p = iter.nextInt();
+                int i = p + offset;
+                if (!checkAll && index.contains(i) && disjoint(var, vars[2 + p])) {
                     filter |= index.removeValue(i, this);
                 }
-                min = min(min, vars[2 + i - offset].getLB());
-                max = max(max, vars[2 + i - offset].getUB());
-            }
-            // 2. top-down loop for bounded domains
-            if (!index.hasEnumeratedDomain()) {
-                if (index.getUB() < ub) {
-                    for (int i = ub - 1; i >= lb; i = index.previousValue(i)) {
-                        if (disjoint(var, vars[2 + i - offset])) {
-                            filter |= index.removeValue(i, this);
-                        } else break;
-                    }
+                // the bound supported by this index may have changed
+                if (i == minSupport.get()) {
+                    minSupport.set(offset - 1);
+                }
+                if (i == maxSupport.get()) {
+                    maxSupport.set(offset - 1);
                 }
             }
-            filter |= var.updateBounds(min, max, this);
+            if (checkAll) {
+                filter |= checkAllIndices();
+            }
+            checkAll = false;
+            toCheck.clear();
+            // 2. update bounds of var from watched indices
+            if (!index.contains(minSupport.get()) || !index.contains(maxSupport.get())) {
+                computeSupports();
+            }
+            if (var.updateBounds(vars[2 + minSupport.get() - offset].getLB(),
+                    vars[2 + maxSupport.get() - offset].getUB(), this)) {
+                checkAll = true;
+                filter = true;
+            }
+            // 3. equality
             if (index.isInstantiated()) {
-                filter |= propagateEquality(var, vars[2 + index.getValue() - offset]);
+                int i = index.getValue();
+                if (propagateEquality(var, vars[2 + i - offset])) {
+                    checkAll = true;
+                    filter = true;
+                    minSupport.set(offset - 1);
+                    maxSupport.set(offset - 1);
+                }
             }
         } while (filter);
         if (var.isInstantiated() && index.isInstantiated()) {
@@ -97,6 +173,63 @@ public class PropElementV_fast extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * Removes all indices whose variable cannot be equal to var.
+     * @return true if the index variable has been modified
+     * @throws ContradictionException if no index remains
+     */
+    private boolean checkAllIndices() throws ContradictionException {
+        boolean filter = false;
+        int lb = index.getLB();
+        int ub = index.getUB();
+        // 1. bottom up loop
+        for (int i = lb; i <= ub; i = index.nextValue(i)) {
+            if (disjoint(var, vars[2 + i - offset])) {
+                filter |= index.removeValue(i, this);
+            }
+        }
+        // 2. top-down loop for bounded domains
+        if (!index.hasEnumeratedDomain()) {
+            if (index.getUB() < ub) {
+                for (int i = ub - 1; i >= lb; i = index.previousValue(i)) {
+                    if (disjoint(var, vars[2 + i - offset])) {
+                        filter |= index.removeValue(i, this);
+                    } else break;
+                }
+            }
+        }
+        if (filter) {
+            minSupport.set(offset - 1);
+            maxSupport.set(offset - 1);
+        }
+        return filter;
+    }
+
+    /**
+     * Finds, among candidate indices, the ones supporting the bounds of var
+     */
+    private void computeSupports() {
+        int lb = index.getLB();
+        int ub = index.getUB();
+        int min = MAX_VALUE;
+        int max = MIN_VALUE;
+        int imin = lb, imax = lb;
+        for (int i = lb; i <= ub; i = index.nextValue(i)) {
+            int l = vars[2 + i - offset].getLB();
+            int u = vars[2 + i - offset].getUB();
+            if (l < min) {
+                min = l;
+                imin = i;
+            }
+            if (u > max) {
+                max = u;
+                imax = i;
+            }
+        }
+        minSupport.set(imin);
+        maxSupport.set(imax);
+    }
+
     private boolean propagateEquality(IntVar a, IntVar b) throws ContradictionException {
         int s = a.getDomainSize() + b.getDomainSize();
         boolean filter = a.updateBounds(b.getLB(), b.getUB(), this);
@@ -91,11 +91,8 @@ public class PropLexInt extends Propagator<IntVar> {
                     return ESat.FALSE;
                 }//else xi == yi
             }
-            if (strict) {
-                return ESat.FALSE;
-            } else {
-                return ESat.eval(vars[n - 1].getValue() == vars[n - 1 + n].getValue());
-            }
+            // x and y are equal
+            return ESat.eval(!strict);
         }
         return ESat.UNDEFINED;
     }
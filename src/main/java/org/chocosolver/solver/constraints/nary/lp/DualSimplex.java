@@ -0,0 +1,409 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lp;
+
+import java.util.Arrays;
+
+/**
+ * A dual simplex over bounded variables, with a dense basis inverse.
+ * <p>
+ * The basis inverse stores m&sup2; doubles for m rows, and a refactorization needs as many more,
+ * so the number of rows is bounded by the caller (see
+ * {@link org.chocosolver.solver.Settings#getLinearRelaxationMaxRows()}).
+ * <p>
+ * The linear program is stated as: min c.x s.t. A.x - s = 0, lo <= (x,s) <= up,
+ * where x are the n structural columns, with finite bounds, and s are the m row activities,
+ * whose bounds are the (possibly infinite) bounds of the rows.
+ * The initial basis, made of the row activities, is dual feasible since structural columns are bounded.
+ * Then, each iteration keeps the basis dual feasible, so, when the bounds of the structural columns are modified,
+ * the resolution restarts from the last basis: that is a warm start.
+ * <p>
+ * Since the basis is dual feasible, any iterate gives valid dual multipliers,
+ * and the bound is computed by {@link #lagrangianBound(double[], double[], double[])},
+ * which does not rely on the accuracy of the simplex.
+ */
+class DualSimplex {
+
+    static final int OPTIMAL = 0, INFEASIBLE = 1, LIMIT = 2;
+
+    /**
+     * Tolerance on pivot elements
+     */
+    private static final double PIVOT = 1e-9;
+
+    /**
+     * Tolerance on bound violations
+     */
+    private static final double FEAS = 1e-7;
+
+    /**
+     * Number of pivots between two refactorizations of the basis inverse
+     */
+    private static final int REFACTOR = 64;
+
+    private static final int AT_LB = -1, AT_UB = -2;
+
+    /**
+     * Number of structural columns and number of rows
+     */
+    final int n, m;
+    /**
+     * Sparse structural columns: rows and coefficients
+     */
+    private final int[][] rowsOf;
+    private final double[][] coefsOf;
+    /**
+     * Costs, bounds and values of the n + m columns
+     */
+    final double[] c, lo, up, x;
+    /**
+     * head[r] is the column basic in row r
+     */
+    private final int[] head;
+    /**
+     * pos[k] is the row of column k if basic, AT_LB or AT_UB otherwise
+     */
+    private final int[] pos;
+    private final double[][] binv;
+    /**
+     * Dual values and reduced costs
+     */
+    final double[] y, d;
+    private final double[] tmp;
+    private int pivots;
+    /**
+     * Row proving infeasibility, and whether its column is below its lower bound
+     */
+    private int infRow;
+    private boolean infBelow;
+    /**
+     * Estimation of the rounding error of the last Lagrangian bound
+     */
+    double error;
+
+    /**
+     * @param rowsOf rows of each structural column
+     * @param coefsOf coefficients of each structural column
+     * @param rowLo lower bounds of the rows
+     * @param rowUp upper bounds of the rows
+     * @param cost cost of each structural column
+     */
+    DualSimplex(int[][] rowsOf, double[][] coefsOf, double[] rowLo, double[] rowUp, double[] cost) {
+        this.n = rowsOf.length;
+        this.m = rowLo.length;
+        this.rowsOf = rowsOf;
+        this.coefsOf = coefsOf;
+        this.c = new double[n + m];
+        this.lo = new double[n + m];
+        this.up = new double[n + m];
+        this.x = new double[n + m];
+        System.arraycopy(cost, 0, c, 0, n);
+        System.arraycopy(rowLo, 0, lo, n, m);
+        System.arraycopy(rowUp, 0, up, n, m);
+        this.head = new int[m];
+        this.pos = new int[n + m];
+        this.binv = new double[m][m];
+        this.y = new double[m];
+        this.d = new double[n + m];
+        this.tmp = new double[m];
+        slackBasis();
+    }
+
+    /**
+     * Sets the bounds of a structural column
+     */
+    void setBounds(int j, double l, double u) {
+        lo[j] = l;
+        up[j] = u;
+    }
+
+    /**
+     * Sets the bounds of the i^th row, possibly infinite to relax it
+     * (back to the initial basis if its activity is nonbasic at a bound which becomes infinite)
+     */
+    void setRowBounds(int i, double l, double u) {
+        int k = n + i;
+        lo[k] = l;
+        up[k] = u;
+        if (pos[k] == AT_LB && l == Double.NEGATIVE_INFINITY || pos[k] == AT_UB && u == Double.POSITIVE_INFINITY) {
+            slackBasis();
+        }
+    }
+
+    /**
+     * Runs the dual simplex from the current basis
+     * @param maxIter maximum number of pivots
+     * @return {@link #OPTIMAL}, {@link #INFEASIBLE} or {@link #LIMIT}
+     */
+    int solve(int maxIter) {
+        computeDuals();
+        for (int it = 0; ; it++) {
+            computePrimal();
+            // leaving row: the largest bound violation
+            int r = -1;
+            double viol = FEAS;
+            boolean below = false;
+            for (int i = 0; i < m; i++) {
+                int k = head[i];
+                if (lo[k] - x[k] > viol) {
+                    viol = lo[k] - x[k];
+                    r = i;
+                    below = true;
+                } else if (x[k] - up[k] > viol) {
+                    viol = x[k] - up[k];
+                    r = i;
+                    below = false;
+                }
+            }
+            if (r < 0) {
+                return OPTIMAL;
+            }
+            if (it == maxIter) {
+                return LIMIT;
+            }
+            // entering column: ratio test on the reduced costs
+            int q = -1;
+            double ratio = Double.POSITIVE_INFINITY, alphaq = 0;
+            double[] rho = binv[r];
+            for (int k = 0; k < n + m; k++) {
+                if (pos[k] >= 0 || lo[k] == up[k]) {
+                    continue;
+                }
+                double a = dot(rho, k);
+                if (Math.abs(a) < PIVOT) {
+                    continue;
+                }
+                boolean atLB = pos[k] == AT_LB;
+                if (below ? (atLB == a < 0) : (atLB == a > 0)) {
+                    double t = Math.abs(d[k]) / Math.abs(a);
+                    if (t < ratio || t == ratio && Math.abs(a) > Math.abs(alphaq)) {
+                        ratio = t;
+                        q = k;
+                        alphaq = a;
+                    }
+                }
+            }
+            if (q < 0) {
+                infRow = r;
+                infBelow = below;
+                return INFEASIBLE;
+            }
+            pivot(r, q, below);
+            computeDuals();
+        }
+    }
+
+    /**
+     * Computes a lower bound of cost.x which holds for any multipliers,
+     * as long as rows with an infinite bound are weighted with the right sign.
+     * @param mult multipliers of the rows, modified in place to the right sign
+     * @param cost costs of the n + m columns
+     * @param rc output, reduced costs of the structural columns
+     * @return the bound, see {@link #error} for an estimation of its rounding error
+     */
+    double lagrangianBound(double[] mult, double[] cost, double[] rc) {
+        for (int i = 0; i < m; i++) {
+            // the reduced cost of the i^th row activity is cost + mult[i]
+            if (mult[i] > 0 && lo[n + i] == Double.NEGATIVE_INFINITY
+                    || mult[i] < 0 && up[n + i] == Double.POSITIVE_INFINITY) {
+                mult[i] = 0;
+            }
+        }
+        double bound = 0, err = 0;
+        for (int k = 0; k < n + m; k++) {
+            double dk = cost[k] - dot(mult, k);
+            if (k < n) {
+                rc[k] = dk;
+            }
+            if (dk != 0) {
+                double t = dk * (dk > 0 ? lo[k] : up[k]);
+                bound += t;
+                err += Math.abs(t);
+            }
+        }
+        error = 1e-9 * err + 1e-6;
+        return bound;
+    }
+
+    /**
+     * @param mult output, multipliers of the rows proving the infeasibility found by the last call to solve,
+     *             that is, such that the Lagrangian bound of a null cost is positive
+     */
+    void farkas(double[] mult) {
+        for (int i = 0; i < m; i++) {
+            mult[i] = infBelow ? -binv[infRow][i] : binv[infRow][i];
+        }
+    }
+
+    /**
+     * @return v.M_k, the product of a row vector by the k^th column
+     */
+    private double dot(double[] v, int k) {
+        if (k >= n) {
+            return -v[k - n];
+        }
+        double s = 0;
+        int[] rows = rowsOf[k];
+        double[] coefs = coefsOf[k];
+        for (int t = 0; t < rows.length; t++) {
+            s += v[rows[t]] * coefs[t];
+        }
+        return s;
+    }
+
+    private void computeDuals() {
+        Arrays.fill(y, 0);
+        for (int r = 0; r < m; r++) {
+            double cb = c[head[r]];
+            if (cb != 0) {
+                double[] row = binv[r];
+                for (int i = 0; i < m; i++) {
+                    y[i] += cb * row[i];
+                }
+            }
+        }
+        for (int k = 0; k < n + m; k++) {
+            if (pos[k] >= 0) {
+                d[k] = 0;
+            } else {
+                d[k] = c[k] - dot(y, k);
+                // bound flipping keeps the basis dual feasible
+                if (d[k] > PIVOT && pos[k] == AT_UB && lo[k] > Double.NEGATIVE_INFINITY) {
+                    pos[k] = AT_LB;
+                } else if (d[k] < -PIVOT && pos[k] == AT_LB && up[k] < Double.POSITIVE_INFINITY) {
+                    pos[k] = AT_UB;
+                }
+            }
+        }
+    }
+
+    private void computePrimal() {
+        Arrays.fill(tmp, 0);
+        for (int k = 0; k < n + m; k++) {
+            if (pos[k] < 0) {
+                x[k] = pos[k] == AT_LB ? lo[k] : up[k];
+                if (x[k] != 0) {
+                    if (k >= n) {
+                        tmp[k - n] -= x[k];
+                    } else {
+                        int[] rows = rowsOf[k];
+                        double[] coefs = coefsOf[k];
+                        for (int t = 0; t < rows.length; t++) {
+                            tmp[rows[t]] += x[k] * coefs[t];
+                        }
+                    }
+                }
+            }
+        }
+        for (int r = 0; r < m; r++) {
+            double s = 0;
+            double[] row = binv[r];
+            for (int i = 0; i < m; i++) {
+                s += row[i] * tmp[i];
+            }
+            x[head[r]] = -s;
+        }
+    }
+
+    private void pivot(int r, int q, boolean below) {
+        double[] col = tmp;
+        for (int i = 0; i < m; i++) {
+            col[i] = dot(binv[i], q);
+        }
+        double[] pr = binv[r];
+        double piv = col[r];
+        for (int j = 0; j < m; j++) {
+            pr[j] /= piv;
+        }
+        for (int i = 0; i < m; i++) {
+            double f = col[i];
+            if (i != r && f != 0) {
+                double[] row = binv[i];
+                for (int j = 0; j < m; j++) {
+                    row[j] -= f * pr[j];
+                }
+            }
+        }
+        pos[head[r]] = below ? AT_LB : AT_UB;
+        head[r] = q;
+        pos[q] = r;
+        if (++pivots == REFACTOR) {
+            refactor();
+        }
+    }
+
+    /**
+     * Computes the basis inverse from scratch, by a Gauss-Jordan elimination of the basis
+     * whose operations are applied to the identity, in place of the basis inverse
+     * (back to the initial basis if the current one is singular)
+     */
+    private void refactor() {
+        pivots = 0;
+        double[][] b = new double[m][m];
+        for (int r = 0; r < m; r++) {
+            int k = head[r];
+            if (k >= n) {
+                b[k - n][r] = -1;
+            } else {
+                for (int t = 0; t < rowsOf[k].length; t++) {
+                    b[rowsOf[k][t]][r] += coefsOf[k][t];
+                }
+            }
+            Arrays.fill(binv[r], 0);
+            binv[r][r] = 1;
+        }
+        for (int p = 0; p < m; p++) {
+            int best = p;
+            for (int i = p + 1; i < m; i++) {
+                if (Math.abs(b[i][p]) > Math.abs(b[best][p])) {
+                    best = i;
+                }
+            }
+            if (Math.abs(b[best][p]) < PIVOT) {
+                slackBasis();
+                return;
+            }
+            swap(b, p, best);
+            swap(binv, p, best);
+            double piv = b[p][p];
+            for (int j = 0; j < m; j++) {
+                b[p][j] /= piv;
+                binv[p][j] /= piv;
+            }
+            for (int i = 0; i < m; i++) {
+                double f = b[i][p];
+                if (i != p && f != 0) {
+                    for (int j = 0; j < m; j++) {
+                        b[i][j] -= f * b[p][j];
+                        binv[i][j] -= f * binv[p][j];
+                    }
+                }
+            }
+        }
+    }
+
+    private static void swap(double[][] a, int i, int j) {
+        double[] t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    private void slackBasis() {
+        for (int j = 0; j < n; j++) {
+            pos[j] = c[j] >= 0 ? AT_LB : AT_UB;
+        }
+        for (int i = 0; i < m; i++) {
+            Arrays.fill(binv[i], 0);
+            binv[i][i] = -1;
+            head[i] = n + i;
+            pos[n + i] = i;
+        }
+        pivots = 0;
+    }
+}
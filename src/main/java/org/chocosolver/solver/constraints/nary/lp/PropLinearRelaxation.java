@@ -0,0 +1,327 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lp;
+
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.Arithmetic;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.sum.PropSum;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Propagator bounding an objective variable with the linear relaxation of the linear constraints of a model.
+ * <p>
+ * The relaxation is made of the posted arithmetic constraints and of the posted sum and scalar constraints
+ * (including their boolean versions), over the bounds of their variables; other constraints are ignored,
+ * which keeps the relaxation valid.
+ * Rows are copied once, when the propagator is created, but each one remembers its constraint: before each resolution,
+ * the rows of the constraints which are not posted anymore (see {@link org.chocosolver.solver.Model#unpost(Constraint...)})
+ * are relaxed, and restored if the constraints are posted again.
+ * Since the basis inverse of the simplex is dense, the number of rows is bounded by
+ * {@link org.chocosolver.solver.Settings#getLinearRelaxationMaxRows()}: over the limit, the rows over the objective
+ * variable are kept first, then the other ones in the order of the constraints.
+ * It is solved with a dual simplex ({@link DualSimplex}) which restarts from its last basis on each call,
+ * within a limited number of pivots.
+ * Then, the bound given by the dual multipliers updates the objective variable,
+ * and the reduced costs fix variables whose move away from their bound would exceed the current upper bound
+ * of the objective (reduced-cost fixing).
+ * Since the bound is computed from the multipliers, it is valid even if the simplex is stopped early.
+ * <p>
+ * The propagator only reacts to bound modifications. As solving the relaxation is costly, it is done on the initial
+ * propagation, when the bound of the objective the relaxation is compared to (its upper bound when minimizing)
+ * differs from the one of the last resolution in the current branch, and otherwise once every
+ * {@link org.chocosolver.solver.Settings#getLinearRelaxationFrequency()} calls.
+ * <p>
+ * This propagator is redundant: it never decides on its own that an instantiation is not a solution.
+ */
+public class PropLinearRelaxation extends Propagator<IntVar> {
+
+    /**
+     * The objective variable, the first variable of this propagator
+     */
+    private final IntVar objective;
+
+    /**
+     * 1 when minimizing, -1 when maximizing
+     */
+    private final int sign;
+
+    private final DualSimplex lp;
+
+    private final int maxIter;
+
+    private final double[] mult, cost, rc;
+
+    /**
+     * Constraint each row comes from, and bounds of the row while it is posted
+     */
+    private final Constraint[] sources;
+    private final double[] rowLo, rowUp;
+
+    /**
+     * Bound of the objective, compared to the relaxation, on the last resolution in the current branch
+     */
+    private final IStateInt lastCut;
+
+    /**
+     * Number of calls between two resolutions when the bound of the objective is unchanged
+     */
+    private final int frequency;
+
+    /**
+     * Number of calls since the last resolution
+     */
+    private int calls;
+
+    /**
+     * Creates a propagator bounding <i>objective</i> with the linear relaxation of <i>cstrs</i>
+     * @param objective the objective variable
+     * @param maximize whether the objective is maximized or minimized
+     * @param cstrs constraints of the model, those which are not linear or not posted are ignored
+     */
+    public PropLinearRelaxation(IntVar objective, boolean maximize, Constraint[] cstrs) {
+        super(columns(objective, cstrs), PropagatorPriority.VERY_SLOW, false);
+        this.objective = objective;
+        this.sign = maximize ? -1 : 1;
+        TIntIntHashMap index = new TIntIntHashMap(vars.length, .5f, -1, -1);
+        for (int j = 0; j < vars.length; j++) {
+            index.put(vars[j].getId(), j);
+        }
+        List<TIntArrayList> rows = new ArrayList<>();
+        List<TDoubleArrayList> coefs = new ArrayList<>();
+        for (int j = 0; j < vars.length; j++) {
+            rows.add(new TIntArrayList());
+            coefs.add(new TDoubleArrayList());
+        }
+        TDoubleArrayList lows = new TDoubleArrayList();
+        TDoubleArrayList ups = new TDoubleArrayList();
+        List<Row> linearRows = linearRows(objective, cstrs);
+        this.sources = new Constraint[linearRows.size()];
+        for (Row row : linearRows) {
+            int i = lows.size();
+            sources[i] = row.source;
+            for (int t = 0; t < row.vars.length; t++) {
+                int j = index.get(row.vars[t].getId());
+                rows.get(j).add(i);
+                coefs.get(j).add(row.coefs[t]);
+            }
+            lows.add(row.op == Operator.LE ? Double.NEGATIVE_INFINITY : row.rhs);
+            ups.add(row.op == Operator.GE ? Double.POSITIVE_INFINITY : row.rhs);
+        }
+        int[][] rowsOf = new int[vars.length][];
+        double[][] coefsOf = new double[vars.length][];
+        for (int j = 0; j < vars.length; j++) {
+            rowsOf[j] = rows.get(j).toArray();
+            coefsOf[j] = coefs.get(j).toArray();
+        }
+        double[] c = new double[vars.length];
+        c[0] = sign;
+        this.rowLo = lows.toArray();
+        this.rowUp = ups.toArray();
+        this.lp = new DualSimplex(rowsOf, coefsOf, this.rowLo, this.rowUp, c);
+        this.maxIter = 2 * (lp.n + lp.m) + 50;
+        this.mult = new double[lp.m];
+        this.cost = new double[lp.n + lp.m];
+        this.cost[0] = sign;
+        this.rc = new double[lp.n];
+        this.lastCut = model.getEnvironment().makeInt(Integer.MIN_VALUE);
+        this.frequency = Math.max(1, model.getSettings().getLinearRelaxationFrequency());
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        int cut = sign > 0 ? objective.getUB() : objective.getLB();
+        if (!PropagatorEventType.isFullPropagation(evtmask) && cut == lastCut.get() && ++calls < frequency) {
+            return;
+        }
+        calls = 0;
+        lastCut.set(cut);
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i].getStatus() == Constraint.Status.POSTED) {
+                lp.setRowBounds(i, rowLo[i], rowUp[i]);
+            } else {
+                lp.setRowBounds(i, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+            }
+        }
+        for (int j = 0; j < vars.length; j++) {
+            lp.setBounds(j, vars[j].getLB(), vars[j].getUB());
+        }
+        if (lp.solve(maxIter) == DualSimplex.INFEASIBLE) {
+            lp.farkas(mult);
+            if (lp.lagrangianBound(mult, new double[lp.n + lp.m], rc) > lp.error) {
+                fails();
+            }
+            return;
+        }
+        System.arraycopy(lp.y, 0, mult, 0, lp.m);
+        double bound = lp.lagrangianBound(mult, cost, rc);
+        double error = lp.error;
+        if (bound - error > Integer.MAX_VALUE) {
+            fails();
+        }
+        if (bound - error > Integer.MIN_VALUE) {
+            int b = (int) Math.ceil(bound - error);
+            if (sign > 0) {
+                objective.updateLowerBound(b, this);
+            } else {
+                objective.updateUpperBound(-b, this);
+            }
+        }
+        // reduced-cost fixing, with respect to the bounds the relaxation is solved with
+        double gap = (sign > 0 ? objective.getUB() : -objective.getLB()) - bound + error;
+        for (int j = 1; j < vars.length; j++) {
+            double lb = lp.lo[j], ub = lp.up[j];
+            if (rc[j] > 1e-9) {
+                double v = lb + gap / rc[j];
+                if (v < ub) {
+                    vars[j].updateUpperBound((int) Math.floor(v + 1e-9), this);
+                }
+            } else if (rc[j] < -1e-9) {
+                double v = ub + gap / rc[j];
+                if (v > lb) {
+                    vars[j].updateLowerBound((int) Math.ceil(v - 1e-9), this);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        return isCompletelyInstantiated() ? ESat.TRUE : ESat.UNDEFINED;
+    }
+
+    /**
+     * A linear row of a constraint: sum of coefs[i].vars[i] op rhs, with op among EQ, LE and GE
+     */
+    private static class Row {
+        final Constraint source;
+        final IntVar[] vars;
+        final int[] coefs;
+        final Operator op;
+        final long rhs;
+
+        Row(Constraint source, IntVar[] vars, int[] coefs, Operator op, long rhs) {
+            this.source = source;
+            this.vars = vars;
+            this.coefs = coefs;
+            this.op = op;
+            this.rhs = rhs;
+        }
+    }
+
+    /**
+     * @return the variables of the relaxation, the objective first
+     */
+    private static IntVar[] columns(IntVar objective, Constraint[] cstrs) {
+        List<IntVar> columns = new ArrayList<>();
+        TIntIntHashMap index = new TIntIntHashMap(16, .5f, -1, -1);
+        columns.add(objective);
+        index.put(objective.getId(), 0);
+        for (Row row : linearRows(objective, cstrs)) {
+            for (IntVar v : row.vars) {
+                if (!index.containsKey(v.getId())) {
+                    index.put(v.getId(), columns.size());
+                    columns.add(v);
+                }
+            }
+        }
+        return columns.toArray(new IntVar[columns.size()]);
+    }
+
+    /**
+     * @return the rows of the relaxation, at most {@link org.chocosolver.solver.Settings#getLinearRelaxationMaxRows()}
+     */
+    private static List<Row> linearRows(IntVar objective, Constraint[] cstrs) {
+        List<Row> rows = new ArrayList<>();
+        for (Constraint c : cstrs) {
+            if (c.getStatus() != Constraint.Status.POSTED) {
+                continue;
+            }
+            if (c instanceof Arithmetic) {
+                Arithmetic a = (Arithmetic) c;
+                IntVar[] vs = a.getVars();
+                if (a.getOp2() == Operator.NONE) {
+                    add(rows, c, vs, new int[]{1}, a.getOp1(), a.getCste());
+                } else if (a.getOp1() == Operator.PL || a.getOp1() == Operator.MN) {
+                    add(rows, c, vs, new int[]{1, a.getOp1() == Operator.PL ? 1 : -1}, a.getOp2(), a.getCste());
+                } else {
+                    // X op Y + C
+                    add(rows, c, vs, new int[]{1, -1}, a.getOp1(), a.getOp2() == Operator.PL ? a.getCste() : -a.getCste());
+                }
+            } else {
+                for (Propagator p : c.getPropagators()) {
+                    if (p instanceof PropSum) {
+                        PropSum s = (PropSum) p;
+                        IntVar[] vs = new IntVar[s.getNbVars()];
+                        int[] cs = new int[vs.length];
+                        for (int i = 0; i < vs.length; i++) {
+                            vs[i] = s.getVar(i);
+                            cs[i] = s.getCoefficient(i);
+                        }
+                        add(rows, c, vs, cs, s.getOperator(), s.getBound());
+                    }
+                }
+            }
+        }
+        int max = objective.getModel().getSettings().getLinearRelaxationMaxRows();
+        if (rows.size() > max) {
+            List<Row> kept = new ArrayList<>(max);
+            for (Row row : rows) {
+                if (kept.size() < max && Arrays.asList(row.vars).contains(objective)) {
+                    kept.add(row);
+                }
+            }
+            for (Row row : rows) {
+                if (kept.size() < max && !Arrays.asList(row.vars).contains(objective)) {
+                    kept.add(row);
+                }
+            }
+            rows = kept;
+        }
+        return rows;
+    }
+
+    private static void add(List<Row> rows, Constraint c, IntVar[] vs, int[] cs, Operator op, long rhs) {
+        switch (op) {
+            case EQ:
+            case LE:
+            case GE:
+                rows.add(new Row(c, vs, cs, op, rhs));
+                break;
+            case LT:
+                rows.add(new Row(c, vs, cs, Operator.LE, rhs - 1));
+                break;
+            case GT:
+                rows.add(new Row(c, vs, cs, Operator.GE, rhs + 1));
+                break;
+            default:
+                // disequalities are not relaxed
+                break;
+        }
+    }
+}
@@ -272,6 +272,12 @@ public class IntLinCombFactory {
 
                     }
                 }
+                if (OPERATOR != Operator.NQ && model.getSettings().enableIncrementalityOnSum(tmpV.length)) {
+                    int[] tmpC = new int[tmpV.length];
+                    Arrays.fill(tmpC, 0, b, 1);
+                    Arrays.fill(tmpC, b, tmpC.length, -1);
+                    return new SumConstraint("Sum", new PropScalarIncr(tmpV, tmpC, b, OPERATOR, RESULT));
+                }
                 return new SumConstraint("Sum", new PropSum(tmpV, b, OPERATOR, RESULT));
         }
     }
@@ -328,6 +334,9 @@ public class IntLinCombFactory {
             OPERATOR = Operator.LE;
             RESULT--;
         }
+        if (OPERATOR != Operator.NQ && s.getSettings().enableIncrementalityOnSum(tmpV.length)) {
+            return new SumConstraint("ScalarProduct", new PropScalarIncr(tmpV, tmpC, b, OPERATOR, RESULT));
+        }
         return new SumConstraint("ScalarProduct", new PropScalar(tmpV, tmpC, b, OPERATOR, RESULT));
     }
 
@@ -28,7 +28,7 @@ public class PropScalar extends PropSum {
     /**
      * The coefficients
      */
-    private final int[] c;
+    protected final int[] c;
 
     /**
      * Create a scalar product: SUM(x_i*c_i) o b
@@ -44,23 +44,34 @@ public class PropScalar extends PropSum {
         this.c = coeffs;
     }
 
+    PropScalar(IntVar[] variables, int[] coeffs, int pos, Operator o, int b, boolean reactOnFineEvent) {
+        super(variables, pos, o, b, computePriority(variables.length), reactOnFineEvent);
+        this.c = coeffs;
+    }
+
+
+    @Override
+    public int getCoefficient(int i) {
+        return c[i];
+    }
 
     @Override
     protected void prepare() {
         sumLB = sumUB = 0;
-        int i = 0, lb, ub;
+        int i = 0;
+        long lb, ub;
         maxI = 0;
         for (; i < pos; i++) { // first the positive coefficients
-            lb = vars[i].getLB() * c[i];
-            ub = vars[i].getUB() * c[i];
+            lb = (long) vars[i].getLB() * c[i];
+            ub = (long) vars[i].getUB() * c[i];
             sumLB += lb;
             sumUB += ub;
             I[i] = (ub - lb);
             if(maxI < I[i])maxI = I[i];
         }
         for (; i < l; i++) { // then the negative ones
-            lb = vars[i].getUB() * c[i];
-            ub = vars[i].getLB() * c[i];
+            lb = (long) vars[i].getUB() * c[i];
+            ub = (long) vars[i].getLB() * c[i];
             sumLB += lb;
             sumUB += ub;
             I[i] = (ub - lb);
@@ -72,8 +83,8 @@ public class PropScalar extends PropSum {
     @Override
     protected void filterOnEq() throws ContradictionException {
         boolean anychange;
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         do {
             anychange = false;
             if (F < 0 || E < 0) {
@@ -81,24 +92,25 @@ public class PropScalar extends PropSum {
             }
             if (maxI > F || maxI > E) {
                 maxI = 0;
-                int lb, ub, i = 0;
+                long lb, ub;
+                int i = 0;
                 // positive coefficients first
                 while (i < pos) {
                     if (I[i] - F > 0) {
-                        lb = vars[i].getLB() * c[i];
+                        lb = (long) vars[i].getLB() * c[i];
                         ub = lb + I[i];
                         if (vars[i].updateUpperBound(divFloor(F + lb, c[i]), this)) {
-                            int nub = vars[i].getUB() * c[i];
+                            long nub = (long) vars[i].getUB() * c[i];
                             E += nub - ub;
                             I[i] = nub - lb;
                             anychange = true;
                         }
                     }
                     if (I[i] - E > 0) {
-                        ub = vars[i].getUB() * c[i];
+                        ub = (long) vars[i].getUB() * c[i];
                         lb = ub - I[i];
                         if (vars[i].updateLowerBound(divCeil(ub - E, c[i]), this)) {
-                            int nlb = vars[i].getLB() * c[i];
+                            long nlb = (long) vars[i].getLB() * c[i];
                             F -= nlb - lb;
                             I[i] = ub - nlb;
                             anychange = true;
@@ -110,20 +122,20 @@ public class PropScalar extends PropSum {
                 // then negative ones
                 while (i < l) {
                     if (I[i] - F > 0) {
-                        lb = vars[i].getUB() * c[i];
+                        lb = (long) vars[i].getUB() * c[i];
                         ub = lb + I[i];
                         if (vars[i].updateLowerBound(divCeil(-F - lb, -c[i]), this)) {
-                            int nub = vars[i].getLB() * c[i];
+                            long nub = (long) vars[i].getLB() * c[i];
                             E += nub - ub;
                             I[i] = nub - lb;
                             anychange = true;
                         }
                     }
                     if (I[i] - E > 0) {
-                        ub = vars[i].getLB() * c[i];
+                        ub = (long) vars[i].getLB() * c[i];
                         lb = ub - I[i];
                         if (vars[i].updateUpperBound(divFloor(-ub + E, -c[i]), this)) {
-                            int nlb = vars[i].getUB() * c[i];
+                            long nlb = (long) vars[i].getUB() * c[i];
                             F -= nlb - lb;
                             I[i] = ub - nlb;
                             anychange = true;
@@ -142,22 +154,23 @@ public class PropScalar extends PropSum {
 
     @Override
     protected void filterOnLeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (F < 0) {
             fails();
         }
         if (maxI > F) {
-            int lb, ub, i = 0;
+            long lb, ub;
+            int i = 0;
             maxI = 0;
             // positive coefficients first
             while (i < pos) {
                 maxI = 0;
                 if (I[i] - F > 0) {
-                    lb = vars[i].getLB() * c[i];
+                    lb = (long) vars[i].getLB() * c[i];
                     ub = lb + I[i];
                     if (vars[i].updateUpperBound(divFloor(F + lb, c[i]), this)) {
-                        int nub = vars[i].getUB() * c[i];
+                        long nub = (long) vars[i].getUB() * c[i];
                         E += nub - ub;
                         I[i] = nub - lb;
                     }
@@ -168,10 +181,10 @@ public class PropScalar extends PropSum {
             // then negative ones
             while (i < l) {
                 if (I[i] - F > 0) {
-                    lb = vars[i].getUB() * c[i];
+                    lb = (long) vars[i].getUB() * c[i];
                     ub = lb + I[i];
                     if (vars[i].updateLowerBound(divCeil(-F - lb, -c[i]), this)) {
-                        int nub = vars[i].getLB() * c[i];
+                        long nub = (long) vars[i].getLB() * c[i];
                         E += nub - ub;
                         I[i] = nub - lb;
                     }
@@ -187,21 +200,22 @@ public class PropScalar extends PropSum {
 
     @Override
     protected void filterOnGeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (E < 0) {
             fails();
         }
         if (maxI > E) {
             maxI = 0;
-            int lb, ub, i = 0;
+            long lb, ub;
+            int i = 0;
             // positive coefficients first
             while (i < pos) {
                 if (I[i] - E > 0) {
-                    ub = vars[i].getUB() * c[i];
+                    ub = (long) vars[i].getUB() * c[i];
                     lb = ub - I[i];
                     if (vars[i].updateLowerBound(divCeil(ub - E, c[i]), this)) {
-                        int nlb = vars[i].getLB() * c[i];
+                        long nlb = (long) vars[i].getLB() * c[i];
                         F -= nlb - lb;
                         I[i] = ub - nlb;
                     }
@@ -212,10 +226,10 @@ public class PropScalar extends PropSum {
             // then negative ones
             while (i < l) {
                 if (I[i] - E > 0) {
-                    ub = vars[i].getLB() * c[i];
+                    ub = (long) vars[i].getLB() * c[i];
                     lb = ub - I[i];
                     if (vars[i].updateUpperBound(divFloor(-ub + E, -c[i]), this)) {
-                        int nlb = vars[i].getUB() * c[i];
+                        long nlb = (long) vars[i].getUB() * c[i];
                         F -= nlb - lb;
                         I[i] = ub - nlb;
                     }
@@ -231,17 +245,17 @@ public class PropScalar extends PropSum {
 
     @Override
     protected void filterOnNeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (F < 0 || E < 0) {
             setPassive();
             return;
         }
         int w = -1;
-        int sum = 0;
+        long sum = 0;
         for (int i = 0; i < l; i++) {
             if (vars[i].isInstantiated()) {
-                sum += vars[i].getValue() * c[i];
+                sum += (long) vars[i].getValue() * c[i];
             } else if (w == -1) {
                 w = i;
             } else return;
@@ -251,20 +265,24 @@ public class PropScalar extends PropSum {
                 this.fails();
             }
         } else if(c[w]!=0 && (b - sum)%c[w]==0){
-            vars[w].removeValue((b - sum)/c[w], this);
+            long v = (b - sum) / c[w];
+            if (v == (int) v) {
+                vars[w].removeValue((int) v, this);
+            }
         }
     }
 
     @Override
     public ESat isEntailed() {
-        int sumUB = 0, sumLB = 0, i = 0;
+        long sumUB = 0, sumLB = 0;
+        int i = 0;
         for (; i < pos; i++) { // first the positive coefficients
-            sumLB += vars[i].getLB() * c[i];
-            sumUB += vars[i].getUB() * c[i];
+            sumLB += (long) vars[i].getLB() * c[i];
+            sumUB += (long) vars[i].getUB() * c[i];
         }
         for (; i < l; i++) { // then the negative ones
-            sumLB += vars[i].getUB() * c[i];
-            sumUB += vars[i].getLB() * c[i];
+            sumLB += (long) vars[i].getUB() * c[i];
+            sumUB += (long) vars[i].getLB() * c[i];
         }
         return check(sumLB, sumUB);
     }
@@ -287,21 +305,21 @@ public class PropScalar extends PropSum {
     }
 
 
-    private int divFloor(int a, int b) {
+    private static int divFloor(long a, int b) {
         // <!> we assume b > 0
         if (a >= 0) {
-            return (a / b);
+            return toInt(a / b);
         } else {
-            return (a - b + 1) / b;
+            return toInt((a - b + 1) / b);
         }
     }
 
-    private int divCeil(int a, int b) {
+    private static int divCeil(long a, int b) {
         // <!> we assume b > 0
         if (a >= 0) {
-            return ((a + b - 1) / b);
+            return toInt((a + b - 1) / b);
         } else {
-            return a / b;
+            return toInt(a / b);
         }
     }
 
@@ -0,0 +1,190 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+
+/**
+ * A propagator for SUM(x_i*c_i) o b, where sums of bounds are maintained incrementally.
+ * <br/>
+ * Based on "Bounds Consistency Techniques for Long Linear Constraint" </br>
+ * W. Harvey and J. Schimpf
+ * <p>
+ * Sums of lower and upper bounds, and an upper approximation of the maximal variability,
+ * are updated on bound events only.
+ * When the maximal variability guarantees that no bound can be tightened,
+ * the propagation does not iterate over the variables.
+ *
+ * @see PropScalar
+ */
+public class PropScalarIncr extends PropScalar {
+
+    /**
+     * Last lower bound of each variable taken into account in the sums.
+     */
+    private final IStateInt[] lbs;
+    /**
+     * Last upper bound of each variable taken into account in the sums.
+     */
+    private final IStateInt[] ubs;
+    /**
+     * Sum of lower bounds maintained incrementally.
+     * Main reason this version exists.
+     */
+    private final IStateLong bLB;
+    /**
+     * Sum of upper bounds maintained incrementally.
+     * Main reason this version exists.
+     */
+    private final IStateLong bUB;
+    /**
+     * Upper approximation of the maximal variability.
+     */
+    private final IStateLong bMaxI;
+
+    /**
+     * Create a scalar product: SUM(x_i*c_i) o b, maintained incrementally.
+     * Variables and coefficients are excepted to be ordered wrt to coefficients: first positive ones then negative ones.
+     * A sum is a scalar product whose coefficients are either 1 or -1.
+     * @param variables list of integer variables
+     * @param coeffs list of coefficients
+     * @param pos position of the last positive coefficient
+     * @param o operator
+     * @param b bound to respect.
+     */
+    public PropScalarIncr(IntVar[] variables, int[] coeffs, int pos, Operator o, int b) {
+        super(variables, coeffs, pos, o, b, true);
+        IEnvironment environment = model.getEnvironment();
+        this.lbs = new IStateInt[l];
+        this.ubs = new IStateInt[l];
+        for (int i = 0; i < l; i++) {
+            lbs[i] = environment.makeInt(vars[i].getLB());
+            ubs[i] = environment.makeInt(vars[i].getUB());
+        }
+        this.bLB = environment.makeLong();
+        this.bUB = environment.makeLong();
+        this.bMaxI = environment.makeLong();
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        // both bounds are needed to maintain the sums
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            super.filter();
+            record();
+        } else {
+            filter();
+        }
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        int lb = vars[idxVarInProp].getLB();
+        int ub = vars[idxVarInProp].getUB();
+        long dlb = ((long) lb - lbs[idxVarInProp].get()) * c[idxVarInProp];
+        long dub = ((long) ub - ubs[idxVarInProp].get()) * c[idxVarInProp];
+        if (idxVarInProp < pos) {
+            bLB.add(dlb);
+            bUB.add(dub);
+        } else {
+            bLB.add(dub);
+            bUB.add(dlb);
+        }
+        lbs[idxVarInProp].set(lb);
+        ubs[idxVarInProp].set(ub);
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    @Override
+    protected void filter() throws ContradictionException {
+        sumLB = bLB.get();
+        sumUB = bUB.get();
+        maxI = bMaxI.get();
+        long F = b - sumLB;
+        long E = sumUB - b;
+        switch (o) {
+            case LE:
+                if (maxI <= F) {
+                    if (E <= 0) {
+                        setPassive();
+                    }
+                    return;
+                }
+                break;
+            case GE:
+                if (maxI <= E) {
+                    if (F <= 0) {
+                        setPassive();
+                    }
+                    return;
+                }
+                break;
+            case EQ:
+                if (maxI <= F && maxI <= E) {
+                    if (F <= 0 && E <= 0) {
+                        setPassive();
+                    }
+                    return;
+                }
+                break;
+        }
+        // some bounds may be tightened: compute exact variabilities and filter
+        super.filter();
+        record();
+    }
+
+    /**
+     * Record the current bounds of the variables, and compute sums and maximal variability from scratch.
+     * Needed after a filtering since this propagator is not informed of its own modifications.
+     */
+    private void record() {
+        long lb = 0, ub = 0, mi = 0;
+        for (int i = 0; i < l; i++) {
+            int vlb = vars[i].getLB();
+            int vub = vars[i].getUB();
+            if (lbs[i].get() != vlb) {
+                lbs[i].set(vlb);
+            }
+            if (ubs[i].get() != vub) {
+                ubs[i].set(vub);
+            }
+            long clb = (long) vlb * c[i];
+            long cub = (long) vub * c[i];
+            if (i < pos) {
+                lb += clb;
+                ub += cub;
+                mi = Math.max(mi, cub - clb);
+            } else {
+                lb += cub;
+                ub += clb;
+                mi = Math.max(mi, clb - cub);
+            }
+        }
+        bLB.set(lb);
+        bUB.set(ub);
+        bMaxI.set(mi);
+    }
+
+    @Override
+    protected PropSum opposite(){
+        return new PropScalarIncr(vars, c, pos, nop(o), b + nb(o));
+    }
+}
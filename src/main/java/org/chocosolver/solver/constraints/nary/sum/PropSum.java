@@ -48,22 +48,22 @@ public class PropSum extends Propagator<IntVar> {
     /**
      * Variability of each variable (ie domain amplitude)
      */
-    protected final int[] I;
+    protected final long[] I;
 
     /**
      * Stores the maximal variability
      */
-    protected int maxI;
+    protected long maxI;
 
     /**
-     * SUm of lower bounds
+     * SUm of lower bounds, stored as a long to prevent overflow
      */
-    protected int sumLB;
+    protected long sumLB;
 
     /**
-     * Sum of upper bounds
+     * Sum of upper bounds, stored as a long to prevent overflow
      */
-    protected int sumUB;
+    protected long sumUB;
 
     /**
      * The operator among EQ, LE, GE and NE
@@ -93,10 +93,32 @@ public class PropSum extends Propagator<IntVar> {
         this.o = o;
         this.b = b;
         l = variables.length;
-        I = new int[l];
+        I = new long[l];
         maxI = 0;
     }
 
+    /**
+     * @param i index of a variable of this propagator
+     * @return the coefficient of the i^th variable
+     */
+    public int getCoefficient(int i) {
+        return i < pos ? 1 : -1;
+    }
+
+    /**
+     * @return the operator among EQ, LE, GE and NE
+     */
+    public Operator getOperator() {
+        return o;
+    }
+
+    /**
+     * @return the bound to respect
+     */
+    public int getBound() {
+        return b;
+    }
+
     /**
      * Compute the priority of the propagator wrt the number of involved variables
      * @param nbvars number of variables
@@ -135,7 +157,7 @@ public class PropSum extends Propagator<IntVar> {
     protected void prepare() {
         sumLB = sumUB = 0;
         int i = 0;
-        int lb, ub;
+        long lb, ub;
         maxI = 0;
         for (; i < pos; i++) { // first the positive coefficients
             lb = vars[i].getLB();
@@ -146,8 +168,8 @@ public class PropSum extends Propagator<IntVar> {
             if(maxI < I[i])maxI = I[i];
         }
         for (; i < l; i++) { // then the negative ones
-            lb = -vars[i].getUB();
-            ub = -vars[i].getLB();
+            lb = -(long) vars[i].getUB();
+            ub = -(long) vars[i].getLB();
             sumLB += lb;
             sumUB += ub;
             I[i] = (ub - lb);
@@ -189,23 +211,24 @@ public class PropSum extends Propagator<IntVar> {
      */
     protected void filterOnEq() throws ContradictionException {
         boolean anychange;
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         do {
             anychange = false;
             if (F < 0 || E < 0) {
                 fails();
             }
             if (maxI > F || maxI > E) {
-                int lb, ub, i = 0;
+                long lb, ub;
+                int i = 0;
                 maxI = 0;
                 // positive coefficients first
                 while (i < pos) {
                     if (I[i] - F > 0) {
                         lb = vars[i].getLB();
                         ub = lb + I[i];
-                        if (vars[i].updateUpperBound(F + lb, this)) {
-                            int nub = vars[i].getUB();
+                        if (vars[i].updateUpperBound(toInt(F + lb), this)) {
+                            long nub = vars[i].getUB();
                             E += nub - ub;
                             I[i] = nub - lb;
                             anychange = true;
@@ -214,8 +237,8 @@ public class PropSum extends Propagator<IntVar> {
                     if (I[i] - E > 0) {
                         ub = vars[i].getUB();
                         lb = ub - I[i];
-                        if (vars[i].updateLowerBound(ub - E, this)) {
-                            int nlb = vars[i].getLB();
+                        if (vars[i].updateLowerBound(toInt(ub - E), this)) {
+                            long nlb = vars[i].getLB();
                             F -= nlb - lb;
                             I[i] = ub - nlb;
                             anychange = true;
@@ -227,20 +250,20 @@ public class PropSum extends Propagator<IntVar> {
                 // then negative ones
                 while (i < l) {
                     if (I[i] - F > 0) {
-                        lb = -vars[i].getUB();
+                        lb = -(long) vars[i].getUB();
                         ub = lb + I[i];
-                        if (vars[i].updateLowerBound(-F - lb, this)) {
-                            int nub = -vars[i].getLB();
+                        if (vars[i].updateLowerBound(toInt(-F - lb), this)) {
+                            long nub = -(long) vars[i].getLB();
                             E += nub - ub;
                             I[i] = nub - lb;
                             anychange = true;
                         }
                     }
                     if (I[i] - E > 0) {
-                        ub = -vars[i].getLB();
+                        ub = -(long) vars[i].getLB();
                         lb = ub - I[i];
-                        if (vars[i].updateUpperBound(-ub + E, this)) {
-                            int nlb = -vars[i].getUB();
+                        if (vars[i].updateUpperBound(toInt(-ub + E), this)) {
+                            long nlb = -(long) vars[i].getUB();
                             F -= nlb - lb;
                             I[i] = ub - nlb;
                             anychange = true;
@@ -263,21 +286,22 @@ public class PropSum extends Propagator<IntVar> {
      * @throws ContradictionException if contradiction is detected
      */
     protected void filterOnLeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (F < 0) {
             fails();
         }
         if (maxI > F) {
             maxI = 0;
-            int lb, ub, i = 0;
+            long lb, ub;
+            int i = 0;
             // positive coefficients first
             while (i < pos) {
                 if (I[i] - F > 0) {
                     lb = vars[i].getLB();
                     ub = lb + I[i];
-                    if (vars[i].updateUpperBound(F + lb, this)) {
-                        int nub = vars[i].getUB();
+                    if (vars[i].updateUpperBound(toInt(F + lb), this)) {
+                        long nub = vars[i].getUB();
                         E += nub - ub;
                         I[i] = nub - lb;
                     }
@@ -288,10 +312,10 @@ public class PropSum extends Propagator<IntVar> {
             // then negative ones
             while (i < l) {
                 if (I[i] - F > 0) {
-                    lb = -vars[i].getUB();
+                    lb = -(long) vars[i].getUB();
                     ub = lb + I[i];
-                    if (vars[i].updateLowerBound(-F - lb, this)) {
-                        int nub = -vars[i].getLB();
+                    if (vars[i].updateLowerBound(toInt(-F - lb), this)) {
+                        long nub = -(long) vars[i].getLB();
                         E += nub - ub;
                         I[i] = nub - lb;
                     }
@@ -310,21 +334,22 @@ public class PropSum extends Propagator<IntVar> {
      * @throws ContradictionException if contradiction is detected
      */
     protected void filterOnGeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (E < 0) {
             fails();
         }
         if(maxI > E) {
             maxI = 0;
-            int lb, ub, i = 0;
+            long lb, ub;
+            int i = 0;
             // positive coefficients first
             while (i < pos) {
                 if (I[i] - E > 0) {
                     ub = vars[i].getUB();
                     lb = ub - I[i];
-                    if (vars[i].updateLowerBound(ub - E, this)) {
-                        int nlb = vars[i].getLB();
+                    if (vars[i].updateLowerBound(toInt(ub - E), this)) {
+                        long nlb = vars[i].getLB();
                         F -= nlb - lb;
                         I[i] = ub - nlb;
                     }
@@ -335,10 +360,10 @@ public class PropSum extends Propagator<IntVar> {
             // then negative ones
             while (i < l) {
                 if (I[i] - E > 0) {
-                    ub = -vars[i].getLB();
+                    ub = -(long) vars[i].getLB();
                     lb = ub - I[i];
-                    if (vars[i].updateUpperBound(-ub + E, this)) {
-                        int nlb = -vars[i].getUB();
+                    if (vars[i].updateUpperBound(toInt(-ub + E), this)) {
+                        long nlb = -(long) vars[i].getUB();
                         F -= nlb - lb;
                         I[i] = ub - nlb;
                     }
@@ -357,14 +382,14 @@ public class PropSum extends Propagator<IntVar> {
      * @throws ContradictionException if contradiction is detected
      */
     protected void filterOnNeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (F < 0 || E < 0) {
             setPassive();
             return;
         }
         int w = -1;
-        int sum = 0;
+        long sum = 0;
         for (int i = 0; i < l; i++) {
             if (vars[i].isInstantiated()) {
                 sum += i < pos ? vars[i].getValue() : -vars[i].getValue();
@@ -377,13 +402,17 @@ public class PropSum extends Propagator<IntVar> {
                 this.fails();
             }
         } else {
-            vars[w].removeValue(w < pos ? b - sum : sum - b, this);
+            long v = w < pos ? b - sum : sum - b;
+            if (v == (int) v) {
+                vars[w].removeValue((int) v, this);
+            }
         }
     }
 
     @Override
     public ESat isEntailed() {
-        int sumUB = 0, sumLB = 0, i = 0;
+        long sumUB = 0, sumLB = 0;
+        int i = 0;
         for (; i < pos; i++) { // first the positive coefficients
             sumLB += vars[i].getLB();
             sumUB += vars[i].getUB();
@@ -401,7 +430,7 @@ public class PropSum extends Propagator<IntVar> {
      * @param sumUB sum of upper bounds
      * @return the entailment check
      */
-    protected ESat check(int sumLB, int sumUB){
+    protected ESat check(long sumLB, long sumUB){
         switch (o) {
             case NQ:
                 if (sumUB < b || sumLB > b) {
@@ -527,6 +556,23 @@ public class PropSum extends Propagator<IntVar> {
         return newrules;
     }
 
+    /**
+     * Casts a bound computed with long arithmetic to int.
+     * Values out of the int range are rounded to the closest int, which is safe when updating bounds
+     * since the resulting bound is weaker than the computed one.
+     * @param value a bound computed with long arithmetic
+     * @return the closest int
+     */
+    protected static int toInt(long value){
+        if (value > Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        if (value < Integer.MIN_VALUE) {
+            return Integer.MIN_VALUE;
+        }
+        return (int) value;
+    }
+
     protected static int nb(Operator co){
         switch (co){
             case LE:
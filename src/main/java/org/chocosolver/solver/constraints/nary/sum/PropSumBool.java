@@ -102,15 +102,15 @@ public class PropSumBool extends PropSum {
                 lb--;
             }
         }
-        sumLB = lb - sum.getUB();
-        sumUB = ub - sum.getLB();
+        sumLB = (long) lb - sum.getUB();
+        sumUB = (long) ub - sum.getLB();
     }
 
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnEq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (F < 0 || E < 0) {
             fails();
         }
@@ -118,12 +118,12 @@ public class PropSumBool extends PropSum {
         // deal with sum
         lb = -sum.getUB();
         ub = -sum.getLB();
-        if (sum.updateLowerBound(-F - lb, this)) {
+        if (sum.updateLowerBound(toInt(-F - lb), this)) {
             int nub = -sum.getLB();
             E += nub - ub;
             ub = nub;
         }
-        if (sum.updateUpperBound(-ub + E, this)) {
+        if (sum.updateUpperBound(toInt(-ub + E), this)) {
             int nlb = -sum.getUB();
             F -= nlb - lb;
         }
@@ -131,11 +131,11 @@ public class PropSumBool extends PropSum {
             // positive coefficients first
             while (i < pos) {
                 lb = vars[i].getLB();
-                if (F <= 0 && vars[i].updateUpperBound(F + lb, this)) {
+                if (F <= 0 && vars[i].updateUpperBound(toInt(F + lb), this)) {
                     E++;
                 }
                 ub = vars[i].getUB();
-                if (E <= 0 && vars[i].updateLowerBound(ub - E, this)) {
+                if (E <= 0 && vars[i].updateLowerBound(toInt(ub - E), this)) {
                     F++;
                 }
                 i++;
@@ -143,11 +143,11 @@ public class PropSumBool extends PropSum {
             // then negative ones
             while (i < l - 1) {
                 lb = vars[i].getUB();
-                if (F <= 0 && vars[i].updateLowerBound(-F + lb, this)) {
+                if (F <= 0 && vars[i].updateLowerBound(toInt(-F + lb), this)) {
                     E--;
                 }
                 ub = vars[i].getLB();
-                if (E <= 0 && vars[i].updateUpperBound(ub + E, this)) {
+                if (E <= 0 && vars[i].updateUpperBound(toInt(ub + E), this)) {
                     F--;
                 }
                 i++;
@@ -159,8 +159,8 @@ public class PropSumBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnLeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (F < 0) {
             fails();
         }
@@ -168,7 +168,7 @@ public class PropSumBool extends PropSum {
         // deal with sum
         lb = -sum.getUB();
         ub = -sum.getLB();
-        if (sum.updateLowerBound(-F - lb, this)) {
+        if (sum.updateLowerBound(toInt(-F - lb), this)) {
             int nub = -sum.getLB();
             E += nub - ub;
         }
@@ -176,7 +176,7 @@ public class PropSumBool extends PropSum {
             // positive coefficients first
             while (i < pos) {
                 lb = vars[i].getLB();
-                if (vars[i].updateUpperBound(F + lb, this)) {
+                if (vars[i].updateUpperBound(toInt(F + lb), this)) {
                     E++;
                 }
                 i++;
@@ -184,7 +184,7 @@ public class PropSumBool extends PropSum {
             // then negative ones
             while (i < l - 1) {
                 lb = vars[i].getUB();
-                if (vars[i].updateLowerBound(-F + lb, this)) {
+                if (vars[i].updateLowerBound(toInt(-F + lb), this)) {
                     E--;
                 }
                 i++;
@@ -198,8 +198,8 @@ public class PropSumBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnGeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         if (E < 0) {
             fails();
         }
@@ -207,7 +207,7 @@ public class PropSumBool extends PropSum {
         // deal with sum
         lb = -sum.getUB();
         ub = -sum.getLB();
-        if (sum.updateUpperBound(-ub + E, this)) {
+        if (sum.updateUpperBound(toInt(-ub + E), this)) {
             int nlb = -sum.getUB();
             F -= nlb - lb;
         }
@@ -215,7 +215,7 @@ public class PropSumBool extends PropSum {
             // positive coefficients first
             while (i < pos) {
                 ub = vars[i].getUB();
-                if (vars[i].updateLowerBound(ub - E, this)) {
+                if (vars[i].updateLowerBound(toInt(ub - E), this)) {
                     F++;
                 }
                 i++;
@@ -223,7 +223,7 @@ public class PropSumBool extends PropSum {
             // then negative ones
             while (i < l - 1) {
                 ub = vars[i].getLB();
-                if (vars[i].updateUpperBound(ub + E, this)) {
+                if (vars[i].updateUpperBound(toInt(ub + E), this)) {
                     F--;
                 }
                 i++;
@@ -122,8 +122,8 @@ public class PropSumBoolIncr extends PropSumBool {
 
     @Override
     protected void prepare() {
-        sumLB = bLB.get() - sum.getUB();
-        sumUB = bUB.get() - sum.getLB();
+        sumLB = (long) bLB.get() - sum.getUB();
+        sumUB = (long) bUB.get() - sum.getLB();
     }
 
     @Override
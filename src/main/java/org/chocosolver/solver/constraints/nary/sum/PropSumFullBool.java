@@ -89,18 +89,18 @@ public class PropSumFullBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnEq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         int lb, ub, i = 0;
         if (F <= 0 || E <= 0) { // the main reason we implemented a dedicated version
             // positive coefficients first
             while (i < pos) {
                 lb = vars[i].getLB();
-                if (F <= 0 && vars[i].updateUpperBound(F + lb, this)) {
+                if (F <= 0 && vars[i].updateUpperBound(toInt(F + lb), this)) {
                     E++;
                 }
                 ub = vars[i].getUB();
-                if (E <= 0 && vars[i].updateLowerBound(ub - E, this)) {
+                if (E <= 0 && vars[i].updateLowerBound(toInt(ub - E), this)) {
                     F++;
                 }
                 i++;
@@ -108,11 +108,11 @@ public class PropSumFullBool extends PropSum {
             // then negative ones
             while (i < l) {
                 lb = vars[i].getUB();
-                if (F <= 0 && vars[i].updateLowerBound(-F + lb, this)) {
+                if (F <= 0 && vars[i].updateLowerBound(toInt(-F + lb), this)) {
                     E--;
                 }
                 ub = vars[i].getLB();
-                if (E <= 0 && vars[i].updateUpperBound(ub + E, this)) {
+                if (E <= 0 && vars[i].updateUpperBound(toInt(ub + E), this)) {
                     F--;
                 }
                 i++;
@@ -124,14 +124,14 @@ public class PropSumFullBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnLeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         int lb, i = 0;
         if (F <= 0) { // the main reason we implemented a dedicated version
             // positive coefficients first
             while (i < pos) {
                 lb = vars[i].getLB();
-                if (vars[i].updateUpperBound(F + lb, this)) {
+                if (vars[i].updateUpperBound(toInt(F + lb), this)) {
                     E++;
                 }
                 i++;
@@ -139,7 +139,7 @@ public class PropSumFullBool extends PropSum {
             // then negative ones
             while (i < l) {
                 lb = vars[i].getUB();
-                if (vars[i].updateLowerBound(-F + lb, this)) {
+                if (vars[i].updateLowerBound(toInt(-F + lb), this)) {
                     E--;
                 }
                 i++;
@@ -153,15 +153,15 @@ public class PropSumFullBool extends PropSum {
     @SuppressWarnings({"NullableProblems"})
     @Override
     protected void filterOnGeq() throws ContradictionException {
-        int F = b - sumLB;
-        int E = sumUB - b;
+        long F = b - sumLB;
+        long E = sumUB - b;
         int ub, i = 0;
         // deal with sum
         if (E <= 0) { // the main reason we implemented a dedicated version
             // positive coefficients first
             while (i < pos) {
                 ub = vars[i].getUB();
-                if (vars[i].updateLowerBound(ub - E, this)) {
+                if (vars[i].updateLowerBound(toInt(ub - E), this)) {
                     F++;
                 }
                 i++;
@@ -169,7 +169,7 @@ public class PropSumFullBool extends PropSum {
             // then negative ones
             while (i < l) {
                 ub = vars[i].getLB();
-                if (vars[i].updateUpperBound(ub + E, this)) {
+                if (vars[i].updateUpperBound(toInt(ub + E), this)) {
                     F--;
                 }
                 i++;
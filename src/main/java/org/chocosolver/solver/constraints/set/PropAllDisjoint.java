@@ -16,6 +16,7 @@ import org.chocosolver.solver.variables.delta.ISetDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.solver.variables.events.SetEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.procedure.IntProcedure;
 
@@ -34,6 +35,10 @@ public class PropAllDisjoint extends Propagator<SetVar> {
     private int n, currentSet;
     private ISetDeltaMonitor[] sdm;
     private IntProcedure elementForced;
+    /**
+     * Set to <tt>true</tt> when all variables have bitset domains, so that the initial propagation is done word by word
+     */
+    private boolean words;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -60,6 +65,10 @@ public class PropAllDisjoint extends Propagator<SetVar> {
                 }
             }
         };
+        words = true;
+        for (int i = 0; i < n; i++) {
+            words &= sets[i].hasBitsetDomain();
+        }
     }
 
     //***********************************************************************************
@@ -73,7 +82,23 @@ public class PropAllDisjoint extends Propagator<SetVar> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        if (PropagatorEventType.isFullPropagation(evtmask)) {
+        if (PropagatorEventType.isFullPropagation(evtmask) && words) {
+            for (int i = 0; i < n; i++) {
+                ISet lb = vars[i].getLB();
+                if (!lb.isEmpty()) {
+                    for (int from = lb.min(), max = lb.max(); from <= max; from += 64) {
+                        long word = vars[i].getLBWord(from);
+                        if (word != 0) {
+                            for (int i2 = 0; i2 < n; i2++) {
+                                if (i2 != i) {
+                                    vars[i2].removeWord(from, word, this);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } else if (PropagatorEventType.isFullPropagation(evtmask)) {
             for (int i = 0; i < n; i++) {
                 for (int j : vars[i].getLB()) {
                     for (int i2 = 0; i2 < n; i2++) {
@@ -23,6 +23,7 @@ import org.chocosolver.solver.variables.delta.ISetDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.solver.variables.events.SetEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.tools.ArrayUtils;
@@ -36,6 +37,10 @@ public class PropIntersection extends Propagator<SetVar> {
     private int k;
     private ISetDeltaMonitor[] sdm;
     private IntProcedure intersectionForced, intersectionRemoved, setForced, setRemoved;
+    /**
+     * Set to <tt>true</tt> when all variables have bitset domains, so that the initial propagation is done word by word
+     */
+    private boolean words;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -48,6 +53,10 @@ public class PropIntersection extends Propagator<SetVar> {
         for (int i = 0; i <= k; i++) {
             sdm[i] = this.vars[i].monitorDelta(this);
         }
+        words = k > 0;
+        for (int i = 0; i <= k; i++) {
+            words &= vars[i].hasBitsetDomain();
+        }
         // PROCEDURES
         intersectionForced = element -> {
             for (int i = 0; i < k; i++) {
@@ -101,7 +110,11 @@ public class PropIntersection extends Propagator<SetVar> {
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         SetVar intersection = vars[k];
-        if (PropagatorEventType.isFullPropagation(evtmask)) {
+        if (PropagatorEventType.isFullPropagation(evtmask) && words) {
+            propagateWords();
+            for (int i = 0; i <= k; i++)
+                sdm[i].unfreeze();
+        } else if (PropagatorEventType.isFullPropagation(evtmask)) {
             ISetIterator iter = vars[0].getLB().iterator();
             while (iter.hasNext()){
                 int j = iter.nextInt();
@@ -137,6 +150,35 @@ public class PropIntersection extends Propagator<SetVar> {
         }
     }
 
+    /**
+     * Initial propagation, done word by word when all variables have bitset domains
+     */
+    private void propagateWords() throws ContradictionException {
+        SetVar intersection = vars[k];
+        ISet lb = vars[0].getLB();
+        if (!lb.isEmpty()) {
+            for (int from = lb.min(), max = lb.max(); from <= max; from += 64) {
+                long all = vars[0].getLBWord(from);
+                for (int i = 1; i < k && all != 0; i++) {
+                    all &= vars[i].getLBWord(from);
+                }
+                intersection.forceWord(from, all, this);
+            }
+        }
+        ISet ub = intersection.getUB();
+        if (!ub.isEmpty()) {
+            for (int from = ub.min(), max = ub.max(); from <= max; from += 64) {
+                long ker = intersection.getLBWord(from);
+                long all = ~0L;
+                for (int i = 0; i < k; i++) {
+                    vars[i].forceWord(from, ker, this);
+                    all &= vars[i].getUBWord(from);
+                }
+                intersection.removeWord(from, intersection.getUBWord(from) & ~ker & ~all, this);
+            }
+        }
+    }
+
     @Override
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
         sdm[idxVarInProp].freeze();
@@ -22,6 +22,7 @@ import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.delta.ISetDeltaMonitor;
 import org.chocosolver.solver.variables.events.SetEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.procedure.IntProcedure;
 
@@ -38,6 +39,10 @@ public class PropSubsetEq extends Propagator<SetVar> {
 
     private ISetDeltaMonitor[] sdm;
     private IntProcedure elementForced, elementRemoved;
+    /**
+     * Set to <tt>true</tt> when both variables have bitset domains, so that the initial propagation is done word by word
+     */
+    private boolean words;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -58,6 +63,7 @@ public class PropSubsetEq extends Propagator<SetVar> {
         }
         elementForced = element -> vars[1].force(element, this);
         elementRemoved = element -> vars[0].remove(element, this);
+        words = X.hasBitsetDomain() && Y.hasBitsetDomain();
     }
 
     //***********************************************************************************
@@ -74,15 +80,30 @@ public class PropSubsetEq extends Propagator<SetVar> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        ISetIterator iter = vars[0].getLB().iterator();
-        while (iter.hasNext()){
-            vars[1].force(iter.nextInt(), this);
-        }
-        iter = vars[0].getUB().iterator();
-        while (iter.hasNext()){
-            int j = iter.nextInt();
-            if (!vars[1].getUB().contains(j))
-                vars[0].remove(j, this);
+        if (words) {
+            ISet lb = vars[0].getLB();
+            if (!lb.isEmpty()) {
+                for (int from = lb.min(), max = lb.max(); from <= max; from += 64) {
+                    vars[1].forceWord(from, vars[0].getLBWord(from), this);
+                }
+            }
+            ISet ub = vars[0].getUB();
+            if (!ub.isEmpty()) {
+                for (int from = ub.min(), max = ub.max(); from <= max; from += 64) {
+                    vars[0].removeWord(from, vars[0].getUBWord(from) & ~vars[1].getUBWord(from), this);
+                }
+            }
+        } else {
+            ISetIterator iter = vars[0].getLB().iterator();
+            while (iter.hasNext()) {
+                vars[1].force(iter.nextInt(), this);
+            }
+            iter = vars[0].getUB().iterator();
+            while (iter.hasNext()) {
+                int j = iter.nextInt();
+                if (!vars[1].getUB().contains(j))
+                    vars[0].remove(j, this);
+            }
         }
         sdm[0].unfreeze();
         sdm[1].unfreeze();
@@ -23,6 +23,7 @@ import org.chocosolver.solver.variables.delta.ISetDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.solver.variables.events.SetEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.tools.ArrayUtils;
@@ -36,6 +37,10 @@ public class PropUnion extends Propagator<SetVar> {
     private int k;
     private ISetDeltaMonitor[] sdm;
     private IntProcedure unionForced, unionRemoved, setForced, setRemoved;
+    /**
+     * Set to <tt>true</tt> when all variables have bitset domains, so that the initial propagation is done word by word
+     */
+    private boolean words;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -54,6 +59,10 @@ public class PropUnion extends Propagator<SetVar> {
         for (int i = 0; i <= k; i++) {
             sdm[i] = this.vars[i].monitorDelta(this);
         }
+        words = true;
+        for (int i = 0; i <= k; i++) {
+            words &= vars[i].hasBitsetDomain();
+        }
         // PROCEDURES
         unionForced = element -> {
             int mate = -1;
@@ -105,7 +114,11 @@ public class PropUnion extends Propagator<SetVar> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
-        if (PropagatorEventType.isFullPropagation(evtmask)) {
+        if (PropagatorEventType.isFullPropagation(evtmask) && words) {
+            propagateWords();
+            for (int i = 0; i <= k; i++)
+                sdm[i].unfreeze();
+        } else if (PropagatorEventType.isFullPropagation(evtmask)) {
             SetVar union = vars[k];
             for (int i = 0; i < k; i++) {
                 ISetIterator iter = vars[i].getLB().iterator();
@@ -154,6 +167,48 @@ public class PropUnion extends Propagator<SetVar> {
         }
     }
 
+    /**
+     * Initial propagation, done word by word when all variables have bitset domains
+     */
+    private void propagateWords() throws ContradictionException {
+        SetVar union = vars[k];
+        for (int i = 0; i < k; i++) {
+            ISet lb = vars[i].getLB();
+            if (!lb.isEmpty()) {
+                for (int from = lb.min(), max = lb.max(); from <= max; from += 64) {
+                    union.forceWord(from, vars[i].getLBWord(from), this);
+                }
+            }
+            ISet ub = vars[i].getUB();
+            if (!ub.isEmpty()) {
+                for (int from = ub.min(), max = ub.max(); from <= max; from += 64) {
+                    vars[i].removeWord(from, vars[i].getUBWord(from) & ~union.getUBWord(from), this);
+                }
+            }
+        }
+        ISet ub = union.getUB();
+        if (!ub.isEmpty()) {
+            for (int from = ub.min(), max = ub.max(); from <= max; from += 64) {
+                // elements of at least one set, and of at least two sets
+                long one = 0L, two = 0L;
+                for (int i = 0; i < k; i++) {
+                    long word = vars[i].getUBWord(from);
+                    two |= one & word;
+                    one |= word;
+                }
+                // fails on the union if one of its mandatory elements belongs to no set
+                union.removeWord(from, union.getUBWord(from) & ~one, this);
+                long ker = union.getLBWord(from);
+                long single = ker & ~two;
+                for (int i = 0; i < k && single != 0; i++) {
+                    long word = single & vars[i].getUBWord(from);
+                    vars[i].forceWord(from, word, this);
+                    single &= ~word;
+                }
+            }
+        }
+    }
+
     @Override
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
         sdm[idxVarInProp].freeze();
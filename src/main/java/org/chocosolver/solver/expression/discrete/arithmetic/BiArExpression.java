@@ -14,6 +14,8 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.tools.MathUtils;
 import org.chocosolver.util.tools.VariableUtils;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -75,6 +77,22 @@ public class BiArExpression implements ArExpression {
             IntVar v1 = e1.intVar();
             IntVar v2 = e2.intVar();
             int[] bounds;
+            if (v1.isInstantiated() || v2.isInstantiated()) {
+                // affine expressions are declared as views, not as variables with a sum propagator
+                me = affineView(v1, v2);
+                if (me != null) {
+                    return me;
+                }
+            }
+            // an identical expression may already have been declared
+            List<Object> key = null;
+            if (model.getSettings().enableStructuralHashing()) {
+                key = structure(v1, v2);
+                me = (IntVar) model.getCachedVariables().get(key);
+                if (me != null) {
+                    return me;
+                }
+            }
             switch (op) {
                 case ADD:
                     bounds = VariableUtils.boundsForAddition(v1, v2);
@@ -121,10 +139,50 @@ public class BiArExpression implements ArExpression {
                 default:
                     throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
             }
+            if (key != null) {
+                model.getCachedVariables().put(key, me);
+            }
         }
         return me;
     }
 
+    /**
+     * @param v1 first variable
+     * @param v2 second variable
+     * @return a key identifying "v1 op v2", the operands of commutative operators being ordered
+     */
+    private List<Object> structure(IntVar v1, IntVar v2) {
+        boolean commutative = op == Operator.ADD || op == Operator.MUL || op == Operator.MIN || op == Operator.MAX;
+        if (commutative && v1.getId() > v2.getId()) {
+            return Arrays.asList(op, v2, v1);
+        }
+        return Arrays.asList(op, v1, v2);
+    }
+
+    /**
+     * @param v1 first variable
+     * @param v2 second variable, one of them being instantiated
+     * @return a view equal to "v1 op v2" if it is affine, <tt>null</tt> otherwise
+     */
+    private IntVar affineView(IntVar v1, IntVar v2) {
+        switch (op) {
+            case ADD:
+                return v2.isInstantiated() ?
+                        model.intAffineView(1, v1, v2.getValue()) :
+                        model.intAffineView(1, v2, v1.getValue());
+            case SUB:
+                return v2.isInstantiated() ?
+                        model.intAffineView(1, v1, -v2.getValue()) :
+                        model.intAffineView(-1, v2, v1.getValue());
+            case MUL:
+                return v2.isInstantiated() ?
+                        model.intAffineView(v2.getValue(), v1, 0) :
+                        model.intAffineView(v1.getValue(), v2, 0);
+            default:
+                return null;
+        }
+    }
+
     @Override
     public int ieval(int[] values, Map<IntVar, Integer> map) {
         return op.eval(e1.ieval(values, map), e2.ieval(values, map));
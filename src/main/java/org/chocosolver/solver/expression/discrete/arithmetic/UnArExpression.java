@@ -12,6 +12,8 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.tools.VariableUtils;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -78,9 +80,19 @@ public class UnArExpression implements ArExpression {
                     me = model.intAbsView(v);
                     break;
                 case SQR:
+                    // an identical expression may already have been declared
+                    List<Object> key = Arrays.asList(op, v);
+                    boolean hashing = model.getSettings().enableStructuralHashing();
+                    if (hashing && model.getCachedVariables().containsKey(key)) {
+                        me = (IntVar) model.getCachedVariables().get(key);
+                        break;
+                    }
                     int[] bounds = VariableUtils.boundsForMultiplication(v, v);
                     me = model.intVar(model.generateName("sqr_exp_"), bounds[0], bounds[1]);
                     model.times(v, v, me).post();
+                    if (hashing) {
+                        model.getCachedVariables().put(key, me);
+                    }
                     break;
                 default:
                     throw new UnsupportedOperationException("Unary arithmetic expressions does not support "+op.name());
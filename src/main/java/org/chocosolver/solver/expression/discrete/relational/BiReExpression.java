@@ -15,7 +15,9 @@ import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -76,6 +78,15 @@ public class BiReExpression extends ReExpression {
         if (me == null) {
             IntVar v1 = e1.intVar();
             IntVar v2 = e2.intVar();
+            // an identical relation may already have been reified
+            List<Object> key = null;
+            if (model.getSettings().enableStructuralHashing()) {
+                key = structure(v1, v2);
+                me = (BoolVar) model.getCachedVariables().get(key);
+                if (me != null) {
+                    return me;
+                }
+            }
             me = model.boolVar(model.generateName(op+"_exp_"));
             switch (op) {
                 case LT:
@@ -99,10 +110,36 @@ public class BiReExpression extends ReExpression {
                 default:
                     throw new UnsupportedOperationException("Binary arithmetic expressions does not support " + op.name());
             }
+            if (key != null) {
+                model.getCachedVariables().put(key, me);
+            }
         }
         return me;
     }
 
+    /**
+     * @param v1 first variable
+     * @param v2 second variable
+     * @return a key identifying "v1 op v2", where greater-than relations are reversed
+     * and the operands of symmetric relations are ordered
+     */
+    private List<Object> structure(IntVar v1, IntVar v2) {
+        switch (op) {
+            case GE:
+                return Arrays.asList(ReExpression.Operator.LE, v2, v1);
+            case GT:
+                return Arrays.asList(ReExpression.Operator.LT, v2, v1);
+            case EQ:
+            case NE:
+                if (v1.getId() > v2.getId()) {
+                    return Arrays.asList(op, v2, v1);
+                }
+                return Arrays.asList(op, v1, v2);
+            default:
+                return Arrays.asList(op, v1, v2);
+        }
+    }
+
     @Override
     public void extractVar(HashSet<IntVar> variables) {
         e1.extractVar(variables);
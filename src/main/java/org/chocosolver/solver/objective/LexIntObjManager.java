@@ -0,0 +1,198 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.lex.PropLexInt;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Objective manager of a lexicographic optimization problem:
+ * the objective variables are ordered wrt their significance, and a solution is better than another one
+ * if its vector of objective values is lexicographically better.
+ * <p>
+ * On each solution, the vector of objective values is recorded and a single lexicographic cut
+ * ({@link PropLexInt}) is updated to prevent the search from computing worse solutions.
+ * The cut is posted on the first solution and kept along the resolution,
+ * it is removed by {@link #resetBestBounds()}.
+ * <p>
+ * The bounds of this manager ({@link #getBestLB()}, {@link #getBestUB()}) are the ones of the most significant
+ * objective variable, which is also the one returned by {@link #getObjective()}.
+ *
+ * @since 19/10/2026
+ */
+class LexIntObjManager implements IObjectiveManager<IntVar> {
+
+    private static final long serialVersionUID = 3160519734582461752L;
+
+    /** The variables to optimize, from the most significant to the least significant one **/
+    transient private final IntVar[] objectives;
+
+    /** The variables to minimize, that is, the objectives or their opposite when maximizing **/
+    transient private final IntVar[] mobjectives;
+
+    /** Define how should the objectives be optimize */
+    private final ResolutionPolicy policy;
+
+    /** Values of mobjectives in the best solution found so far */
+    private final int[] best;
+
+    /** best lower bound of the most significant objective found so far **/
+    private int bestProvedLB;
+
+    /** best upper bound of the most significant objective found so far **/
+    private int bestProvedUB;
+
+    /** Whether the next solution should be strictly better than the best one */
+    private boolean strict;
+
+    /** The lexicographic cut, posted on the first solution */
+    transient private PropLexInt cut;
+
+    transient private Constraint cutCstr;
+
+    LexIntObjManager(IntVar[] objectives, ResolutionPolicy policy) {
+        assert objectives.length > 0;
+        assert policy == ResolutionPolicy.MINIMIZE || policy == ResolutionPolicy.MAXIMIZE;
+        this.objectives = objectives.clone();
+        this.policy = policy;
+        this.mobjectives = new IntVar[objectives.length];
+        Model model = objectives[0].getModel();
+        for (int i = 0; i < objectives.length; i++) {
+            mobjectives[i] = policy == ResolutionPolicy.MAXIMIZE ? model.intMinusView(objectives[i]) : objectives[i];
+        }
+        this.best = new int[objectives.length];
+        this.strict = true;
+        resetBestBounds();
+    }
+
+    @Override
+    public IntVar getObjective() {
+        return objectives[0];
+    }
+
+    @Override
+    public ResolutionPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public Number getBestLB() {
+        return bestProvedLB;
+    }
+
+    @Override
+    public Number getBestUB() {
+        return bestProvedUB;
+    }
+
+    @Override
+    public synchronized void updateBestLB(Number lb) {
+        if (bestProvedLB < lb.intValue()) {
+            bestProvedLB = lb.intValue();
+        }
+    }
+
+    @Override
+    public synchronized void updateBestUB(Number ub) {
+        if (bestProvedUB > ub.intValue()) {
+            bestProvedUB = ub.intValue();
+        }
+    }
+
+    @Override
+    public Number getBestSolutionValue() {
+        return policy == ResolutionPolicy.MINIMIZE ? bestProvedUB : bestProvedLB;
+    }
+
+    /**
+     * Informs the manager that a new solution has been found, with <i>n</i> as value of the most significant objective
+     */
+    @Override
+    public void updateBestSolution(Number n) {
+        if (policy == ResolutionPolicy.MINIMIZE) {
+            updateBestUB(n);
+        } else {
+            updateBestLB(n);
+        }
+    }
+
+    @Override
+    public void updateBestSolution() {
+        for (int i = 0; i < objectives.length; i++) {
+            assert mobjectives[i].isInstantiated();
+            best[i] = mobjectives[i].getValue();
+        }
+        // the most significant objective cannot be worse than in this solution
+        updateBestSolution(objectives[0].getValue());
+        if (cut == null) {
+            cut = new PropLexInt(mobjectives, best, strict);
+            cutCstr = new Constraint("LexObjectiveCut", cut);
+            objectives[0].getModel().post(cutCstr);
+        } else {
+            cut.updateIntVector(best);
+        }
+    }
+
+    /**
+     * @throws UnsupportedOperationException since a lexicographic cut is either strict or walking
+     */
+    @Override
+    public void setCutComputer(Function<Number, Number> cutComputer) {
+        throw new UnsupportedOperationException("A lexicographic cut is either strict or walking");
+    }
+
+    @Override
+    public void setStrictDynamicCut() {
+        setStrict(true);
+    }
+
+    @Override
+    public void setWalkingDynamicCut() {
+        setStrict(false);
+    }
+
+    private void setStrict(boolean strict) {
+        if (cut != null && this.strict != strict) {
+            throw new UnsupportedOperationException("The lexicographic cut is already posted");
+        }
+        this.strict = strict;
+    }
+
+    @Override
+    public void postDynamicCut() throws ContradictionException {
+        // the lexicographic cut is maintained by its propagator, only the bounds of the first objective are posted
+        objectives[0].updateBounds(bestProvedLB, bestProvedUB, this);
+    }
+
+    @Override
+    public void resetBestBounds() {
+        bestProvedLB = objectives[0].getLB() - 1;
+        bestProvedUB = objectives[0].getUB() + 1;
+        if (cutCstr != null) {
+            if (cutCstr.getStatus() == Constraint.Status.POSTED) {
+                objectives[0].getModel().unpost(cutCstr);
+            }
+            cut = null;
+            cutCstr = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LEX %s %s = %s", policy, Arrays.toString(objectives), cut == null ? "?" :
+                Arrays.toString(policy == ResolutionPolicy.MAXIMIZE ? Arrays.stream(best).map(v -> -v).toArray() : best));
+    }
+}
@@ -89,6 +89,26 @@ public final class ObjectiveFactory {
         return objman;
     }
 
+    /**
+     * Define the variables to optimize lexicographically (maximize or minimize):
+     * the first variable is the most significant one, then the second one, etc.
+     * By default, the manager uses {@link IObjectiveManager#setStrictDynamicCut()} to avoid exploring worse solutions.
+     * A single lexicographic cut, updated on each solution, is posted on the first solution.
+     *
+     * @param objectives variables to optimize, ordered wrt their significance
+     * @param policy    {{@link ResolutionPolicy#MINIMIZE}/{@link ResolutionPolicy#MAXIMIZE}
+     * @return the objective manager
+     * @throws IllegalArgumentException if the policy is {@link ResolutionPolicy#SATISFACTION}.
+     */
+    public static IObjectiveManager<IntVar> makeLexObjectiveManager(IntVar[] objectives, ResolutionPolicy policy) {
+        if (policy == ResolutionPolicy.SATISFACTION) {
+            throw new IllegalArgumentException("cant build lexicographic objective manager :" + policy);
+        }
+        IObjectiveManager<IntVar> objman = new LexIntObjManager(objectives, policy);
+        objman.setStrictDynamicCut();
+        return objman;
+    }
+
     /**
      * @param object to copy
      * @return copy built by a copy constructor if one exists, otherwise the parameter.
@@ -0,0 +1,233 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.chocosolver.solver.Solution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Set of mutually non-dominated points (and their solutions) of a multi-objective minimization problem.
+ * <p>
+ * Points are stored in a single flat array of coordinates.
+ * With two objectives, points are kept sorted by increasing first coordinate
+ * (hence by decreasing second coordinate), so that dominance queries run in logarithmic time.
+ * Otherwise, points are scanned linearly.
+ *
+ * @see PropParetoDominance
+ */
+public class ParetoArchive {
+
+    /**
+     * Number of objectives
+     */
+    private final int n;
+
+    /**
+     * Coordinates of the points, the i^th coordinate of the p^th point is stored at p * n + i
+     */
+    private int[] points;
+
+    /**
+     * Solution associated with each point
+     */
+    private Solution[] solutions;
+
+    /**
+     * Number of points
+     */
+    private int size;
+
+    /**
+     * Create an empty archive
+     *
+     * @param n number of objectives
+     */
+    public ParetoArchive(int n) {
+        this.n = n;
+        this.points = new int[n * 16];
+        this.solutions = new Solution[16];
+    }
+
+    /**
+     * @return the number of objectives
+     */
+    public int getNbObjectives() {
+        return n;
+    }
+
+    /**
+     * @return the number of points in this archive
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param p index of a point
+     * @param i index of an objective
+     * @return the i^th coordinate of the p^th point
+     */
+    public int get(int p, int i) {
+        return points[p * n + i];
+    }
+
+    /**
+     * @param p index of a point
+     * @return the solution associated with the p^th point
+     */
+    public Solution getSolution(int p) {
+        return solutions[p];
+    }
+
+    /**
+     * @return the solutions associated with the points of this archive
+     */
+    public List<Solution> getSolutions() {
+        return new ArrayList<>(Arrays.asList(solutions).subList(0, size));
+    }
+
+    /**
+     * @param point coordinates of a point
+     * @return <tt>true</tt> if a point of this archive is at most equal to <i>point</i> on every objective
+     */
+    public boolean isDominated(int[] point) {
+        if (n == 2) {
+            int k = countFirstAtMost(point[0]);
+            return k > 0 && points[2 * k - 1] <= point[1];
+        }
+        for (int p = 0; p < size; p++) {
+            if (dominates(p, point)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Add a point to this archive, unless it is dominated, and remove the points it dominates.
+     *
+     * @param point    coordinates of the point to add
+     * @param solution solution associated with the point
+     * @param removed  list which receives the solutions of the removed points
+     * @return <tt>true</tt> if the point has been added
+     */
+    public boolean add(int[] point, Solution solution, List<Solution> removed) {
+        if (isDominated(point)) {
+            return false;
+        }
+        if (n == 2) {
+            // dominated points have a first coordinate >= point[0] and a second one >= point[1]
+            int from = countFirstAtMost(point[0] - 1);
+            int to = indexSecondAtMost(point[1] - 1);
+            for (int p = from; p < to; p++) {
+                removed.add(solutions[p]);
+            }
+            splice(from, Math.max(from, to), point, solution);
+        } else {
+            int k = 0;
+            for (int p = 0; p < size; p++) {
+                if (isDominatedBy(p, point)) {
+                    removed.add(solutions[p]);
+                } else {
+                    if (k < p) {
+                        System.arraycopy(points, p * n, points, k * n, n);
+                        solutions[k] = solutions[p];
+                    }
+                    k++;
+                }
+            }
+            Arrays.fill(solutions, k, size, null);
+            size = k;
+            splice(size, size, point, solution);
+        }
+        return true;
+    }
+
+    /**
+     * With two objectives only.
+     *
+     * @param v an integer
+     * @return the number of points whose first coordinate is at most <i>v</i>
+     */
+    public int countFirstAtMost(int v) {
+        assert n == 2;
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (points[2 * mid] <= v) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * With two objectives only.
+     *
+     * @param v an integer
+     * @return the index of the first point whose second coordinate is at most <i>v</i>,
+     * or the number of points if there is no such point
+     */
+    public int indexSecondAtMost(int v) {
+        assert n == 2;
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (points[2 * mid + 1] > v) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Replace the points in [from, to) by <i>point</i>
+     */
+    private void splice(int from, int to, int[] point, Solution solution) {
+        int nsize = size - (to - from) + 1;
+        if (nsize > solutions.length) {
+            int cap = Math.max(nsize, solutions.length * 3 / 2 + 1);
+            points = Arrays.copyOf(points, cap * n);
+            solutions = Arrays.copyOf(solutions, cap);
+        }
+        System.arraycopy(points, to * n, points, (from + 1) * n, (size - to) * n);
+        System.arraycopy(solutions, to, solutions, from + 1, size - to);
+        if (nsize < size) {
+            Arrays.fill(solutions, nsize, size, null);
+        }
+        System.arraycopy(point, 0, points, from * n, n);
+        solutions[from] = solution;
+        size = nsize;
+    }
+
+    private boolean dominates(int p, int[] point) {
+        for (int i = 0; i < n; i++) {
+            if (points[p * n + i] > point[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isDominatedBy(int p, int[] point) {
+        for (int i = 0; i < n; i++) {
+            if (points[p * n + i] < point[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -8,10 +8,9 @@
  */
 package org.chocosolver.solver.objective;
 
-import org.chocosolver.sat.PropSat;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
-import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -31,7 +30,7 @@ public class ParetoOptimizer implements IMonitorSolution {
     //***********************************************************************************
 
     // Set of incomparable and Pareto-best solutions
-    private LinkedList<Solution> paretoFront;
+    private ParetoArchive paretoFront;
 
     private Model model;
 
@@ -44,8 +43,9 @@ public class ParetoOptimizer implements IMonitorSolution {
     private int n;
 
     // to post dynamical constraints
-    private int[] vals, lits;
-    private PropSat psat;
+    private IntVar[] mobj;
+    private int[] vals;
+    private PropParetoDominance dominance;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -54,7 +54,7 @@ public class ParetoOptimizer implements IMonitorSolution {
 	/**
      * Create an object to compute the Pareto front of a multi-objective problem.
      * Maintain the set of dominating solutions and
-     * posts constraints dynamically to prevent search from computing dominated ones.
+     * posts a constraint dynamically to prevent search from computing dominated ones.
      * This object must be used as follows:
      *
    	 *     model.getSolver().plugMonitor(paretoRecorder);
@@ -68,14 +68,17 @@ public class ParetoOptimizer implements IMonitorSolution {
      * @param objectives objective variables (must all be optimized in the same direction)
      */
     public ParetoOptimizer(final boolean maximize, final IntVar[] objectives) {
-        this.paretoFront = new LinkedList<>();
         this.objectives = objectives.clone();
         this.maximize = maximize;
         n = objectives.length;
         model = objectives[0].getModel();
-        psat = model.getMinisat().getPropSat();
+        this.paretoFront = new ParetoArchive(n);
+        // objectives are minimized by the dominance propagator
+        mobj = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            mobj[i] = maximize ? model.intMinusView(objectives[i]) : objectives[i];
+        }
         vals = new int[n];
-        lits = new int[n];
     }
 
     //***********************************************************************************
@@ -86,48 +89,27 @@ public class ParetoOptimizer implements IMonitorSolution {
     public void onSolution() {
         // get objective values
         for (int i = 0; i < n; i++) {
-            vals[i] = objectives[i].getValue();
-        }
-        // remove dominated solutions
-        for (int i = paretoFront.size() - 1; i >= 0; i--) {
-            if (isDominated(paretoFront.get(i), vals)) {
-                pool.add(paretoFront.remove(i));
-            }
-        }
-        // store current solution
-        if(pool.isEmpty()){
-            paretoFront.add(new Solution(model).record());
-        }else{
-            Solution solution = pool.remove();
-
-            solution.record();
-            paretoFront.add(solution);
+            vals[i] = maximize ? -objectives[i].getValue() : objectives[i].getValue();
         }
-        // post dynamical constraints to prevent search from computing dominated solutions
-        Operator symbol = Operator.GT;
-        if (!maximize) {
-            symbol = Operator.LT;
+        if (paretoFront.isDominated(vals)) {
+            return;
         }
-        for (int i = 0; i < n; i++) {
-            lits[i] = psat.makeLiteral(model.arithm(objectives[i], symbol.toString(), vals[i]).reify(), true);
+        // store current solution and remove dominated ones
+        Solution solution = pool.isEmpty() ? new Solution(model) : pool.remove();
+        paretoFront.add(vals, solution.record(), pool);
+        // post dynamical constraint to prevent search from computing dominated solutions
+        if (dominance == null) {
+            dominance = new PropParetoDominance(mobj, paretoFront);
+            new Constraint("ParetoDominance", dominance).post();
+        } else {
+            dominance.onArchiveUpdate();
         }
-        psat.addLearnt(lits);
     }
 
 	/**
      * @return the set of Pareto-best (possibly optimal) solutions found so far
      */
     public List<Solution> getParetoFront() {
-   		return paretoFront;
+   		return paretoFront.getSolutions();
    	}
-
-    private boolean isDominated(Solution solution, int[] vals) {
-        for (int i = 0; i < n; i++) {
-            int delta = solution.getIntVal(objectives[i]) - vals[i];
-            if ((delta > 0 && maximize) || (delta < 0 && !maximize)) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
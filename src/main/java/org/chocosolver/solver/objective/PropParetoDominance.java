@@ -0,0 +1,114 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+/**
+ * Propagator preventing objective variables (to minimize) from taking values
+ * dominated by, or equal to, a point of a {@link ParetoArchive}:
+ * for each point q of the archive, there must exist an objective i such that objectives[i] &lt; q[i].
+ * <p>
+ * This replaces one clause per point by a single propagator, whatever the size of the archive.
+ * With two objectives, the upper bound of each objective is computed by a binary search in the archive.
+ * Otherwise, the archive is scanned once.
+ *
+ * @see org.chocosolver.solver.objective.ParetoOptimizer
+ */
+public class PropParetoDominance extends Propagator<IntVar> {
+
+    /**
+     * The points to improve
+     */
+    private final ParetoArchive archive;
+
+    /**
+     * Current values of the objectives, for entailment checking
+     */
+    private final int[] values;
+
+    /**
+     * Create a propagator preventing <i>objectives</i> to be dominated by any point of <i>archive</i>
+     *
+     * @param objectives objective variables to minimize
+     * @param archive    set of points
+     */
+    public PropParetoDominance(IntVar[] objectives, ParetoArchive archive) {
+        super(objectives, PropagatorPriority.LINEAR, false);
+        this.archive = archive;
+        this.values = new int[objectives.length];
+    }
+
+    /**
+     * Inform this propagator that the archive has been modified
+     */
+    public void onArchiveUpdate() {
+        forcePropagationOnBacktrack();
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.combine(IntEventType.INSTANTIATE, IntEventType.INCLOW);
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (archive.size() == 0) {
+            return;
+        }
+        // filtering only depends on lower bounds, and only modifies upper bounds: a single pass is enough
+        if (vars.length == 2) {
+            // points which cannot be improved on the first objective must be improved on the second one
+            int k = archive.countFirstAtMost(vars[0].getLB());
+            if (k > 0) {
+                vars[1].updateUpperBound(archive.get(k - 1, 1) - 1, this);
+            }
+            // and vice versa
+            k = archive.indexSecondAtMost(vars[1].getLB());
+            if (k < archive.size()) {
+                vars[0].updateUpperBound(archive.get(k, 0) - 1, this);
+            }
+        } else {
+            for (int p = 0; p < archive.size(); p++) {
+                int support = -1;
+                for (int i = 0; i < vars.length; i++) {
+                    if (vars[i].getLB() < archive.get(p, i)) {
+                        if (support == -1) {
+                            support = i;
+                        } else {
+                            support = -2;
+                            break;
+                        }
+                    }
+                }
+                if (support == -1) {
+                    fails();
+                } else if (support >= 0) {
+                    vars[support].updateUpperBound(archive.get(p, support) - 1, this);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (isCompletelyInstantiated()) {
+            for (int i = 0; i < vars.length; i++) {
+                values[i] = vars[i].getValue();
+            }
+            return ESat.eval(!archive.isDominated(values));
+        }
+        return ESat.UNDEFINED;
+    }
+}
@@ -9,23 +9,24 @@
 package org.chocosolver.solver.search;
 
 import org.chocosolver.solver.ISelf;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
 import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.SolutionPool;
 import org.chocosolver.solver.Solver;
-import org.chocosolver.solver.constraints.Constraint;
-import org.chocosolver.solver.constraints.nary.lex.PropLexInt;
 import org.chocosolver.solver.objective.ParetoOptimizer;
 import org.chocosolver.solver.search.limits.ACounter;
 import org.chocosolver.solver.search.measure.IMeasures;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.criteria.Criterion;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Spliterator;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -144,6 +145,38 @@ public interface IResolutionHelper extends ISelf<Solver> {
         return solutions;
     }
 
+    /**
+     * Attempts to find all solutions of the declared satisfaction problem,
+     * and records the values of the variables of <i>pool</i> in it.
+     * <p>
+     * Contrary to {@link #findAllSolutions(Criterion...)}, no {@link Solution} object is created,
+     * which makes this method suited to the enumeration of many solutions.
+     * This method run the following instructions:
+     * <pre>
+     *     {@code
+     *     while (model.getSolver().solve()){
+     *          pool.record();
+     *     }
+     *     return pool;
+     *     }
+     * </pre>
+     *
+     * Note that it clears the current objective function, if any
+     *
+     * @param pool the pool which records the solutions
+     * @param stop optional criterion to stop the search before finding all solutions
+     * @return <i>pool</i>
+     */
+    default SolutionPool findAllSolutions(SolutionPool pool, Criterion... stop) {
+        _me().getModel().clearObjective();
+        _me().addStopCriterion(stop);
+        while (_me().solve()) {
+            pool.record();
+        }
+        _me().removeStopCriterion(stop);
+        return pool;
+    }
+
     /**
      * Attempts to find all solutions of the declared problem.
      * <ul>
@@ -177,36 +210,41 @@ public interface IResolutionHelper extends ISelf<Solver> {
      * @return a list that contained the found solutions.
      */
     default Stream<Solution> streamSolutions(Criterion... stop) {
-        _me().addStopCriterion(stop);
-        Spliterator<Solution> it = new Spliterator<Solution>() {
-
-            @Override
-            public boolean tryAdvance(Consumer<? super Solution> action) {
-                if (_me().solve()) {
-                    action.accept(new Solution(_me().getModel()).record());
-                    return true;
-                }
-                _me().removeStopCriterion(stop);
-                return false;
-            }
-
-            @Override
-            public Spliterator<Solution> trySplit() {
-                return null;
-            }
-
-            @Override
-            public long estimateSize() {
-                return Long.MAX_VALUE;
-            }
-
-            @Override
-            public int characteristics() {
-                return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT;
-            }
+        return StreamSupport.stream(new SolutionSpliterator(_me().getModel(), null, stop), false);
+    }
 
-        };
-        return StreamSupport.stream(it, false);
+    /**
+     * Attempts to find all solutions of the declared problem, as a stream which can be processed in parallel.
+     * <p>
+     * Before the resolution starts, the stream can be split (for instance, by calling {@link Stream#parallel()}):
+     * the domain of the first integer variable which is neither a constant nor a view,
+     * and which is not restricted to a single value yet, is split in two halves.
+     * The lower one is kept by the current model, the upper one is given to a new model,
+     * created by <i>factory</i>, and solved independently.
+     * <p>
+     * <i>factory</i> must create models identical to the one of this solver
+     * (same variables declared in the same order, same constraints and same search strategy),
+     * for instance by calling the method which built the model of this solver.
+     * Then, the value of a variable of the model of this solver can be read in any solution.
+     * <pre>
+     * {@code
+     *  Model model = modeller();
+     *  long nb = model.getSolver().streamSolutions(() -> modeller()).parallel().count();
+     * }
+     * </pre>
+     * <p>
+     * The halves are not posted as constraints: they are given as assumptions
+     * to {@link Solver#solveUnder(org.chocosolver.solver.constraints.Constraint...)} when the resolution of each model
+     * starts, so they are retracted by {@link Solver#reset()} and the model of this solver is left unchanged.
+     * <p>
+     * Note that stop criteria are shared by all models, so they should not depend on the state of a particular solver.
+     *
+     * @param factory creates a model identical to the one of this solver
+     * @param stop    optional criterion to stop the search before finding all/best solution
+     * @return a stream of solutions, which can be split before the resolution starts
+     */
+    default Stream<Solution> streamSolutions(Supplier<Model> factory, Criterion... stop) {
+        return StreamSupport.stream(new SolutionSpliterator(_me().getModel(), factory, stop), false);
     }
 
     /**
@@ -454,6 +492,10 @@ public interface IResolutionHelper extends ISelf<Solver> {
 	 *
      * Note that all variables will be recorded
      *
+     * The objectives are declared with {@link Model#setLexObjective(boolean, IntVar...)} during the resolution,
+     * so that a single lexicographic cut is updated on each solution,
+     * then the objective declared beforehand, if any, is restored.
+     *
      * @param objectives
      *          the list of objectives to find the optimal. A solution o1..on is optimal if lexicographically better than
      *          any other correct solution s1..sn
@@ -468,39 +510,26 @@ public interface IResolutionHelper extends ISelf<Solver> {
         if (objectives == null || objectives.length == 0) {
             return findSolution(stop);
         }
+        Model model = _me().getModel();
+        Variable objective = model.getObjective();
+        ResolutionPolicy policy = model.getResolutionPolicy();
+        // a single lexicographic cut is updated on each solution
+        model.setLexObjective(maximize, objectives);
         _me().addStopCriterion(stop);
         Solution sol = null;
-        Constraint clint = null;
-        PropLexInt plint = null;
-        // 1. copy objective variables and transform it if necessary
-        IntVar[] mobj = new IntVar[objectives.length];
-        for (int i = 0; i < objectives.length; i++) {
-            mobj[i] = maximize ? _me().getModel().intMinusView(objectives[i]) : objectives[i];
-        }
-        // 2. try to find a first solution
         while (_me().solve()) {
             if (sol == null) {
-                sol = new Solution(_me().getModel());
+                sol = new Solution(model);
             }
             sol.record();
-            // 3. extract values of each objective
-            int[] bestFound = new int[objectives.length];
-            for (int vIdx = 0; vIdx < objectives.length; vIdx++) {
-                bestFound[vIdx] = sol.getIntVal(objectives[vIdx]) * (maximize ? -1 : 1);
-            }
-            // 4. either update the constraint, or declare it if first solution
-            if (plint != null) {
-                plint.updateIntVector(bestFound);
-            } else {
-                plint = new PropLexInt(mobj, bestFound, true);
-                clint = new Constraint("lex objectives", plint);
-                clint.post();
-            }
-        }
-        if (clint != null) {
-            _me().getModel().unpost(clint);
         }
         _me().removeStopCriterion(stop);
+        // restore the declared objective, if any
+        if (objective == null) {
+            model.clearObjective();
+        } else {
+            model.setObjective(policy == ResolutionPolicy.MAXIMIZE, objective);
+        }
         return sol;
     }
 
@@ -0,0 +1,186 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A spliterator over the solutions of a model.
+ * <p>
+ * When a factory of models is given, the search space can be split before the resolution starts:
+ * the domain of an integer variable is split in two halves,
+ * the lower one is kept by this spliterator and the upper one is given to a new spliterator,
+ * which solves a new model created by the factory.
+ * The factory must create identical models (same variables, declared in the same order),
+ * so that the i^th variable of each model denotes the same variable.
+ * Then, solutions of any model can be read with the variables of any other model.
+ * <p>
+ * The bounds given by the splits are only recorded, and they are posted as assumptions when the resolution starts
+ * (see {@link Solver#solveUnder(Constraint...)}), so no constraint is permanently added to the models.
+ * A spliterator which has not been split, like the ones without factory, simply calls {@link Solver#solve()}.
+ *
+ * @see IResolutionHelper#streamSolutions(Supplier, Criterion...)
+ */
+class SolutionSpliterator implements Spliterator<Solution> {
+
+    /**
+     * The model to solve
+     */
+    private final Model model;
+
+    /**
+     * Factory of models to solve split parts, null if splitting is disabled
+     */
+    private final Supplier<Model> factory;
+
+    /**
+     * Stop criteria, added to each model
+     */
+    private final Criterion[] stop;
+
+    /**
+     * Bounds of the variables of {@link #model}, restricted by previous splits,
+     * they are not applied to {@link #model} before the resolution starts
+     */
+    private final int[] lbs, ubs;
+
+    /**
+     * Estimated number of solutions, halved on each split
+     */
+    private long estimate;
+
+    /**
+     * Set to <tt>true</tt> once the resolution has started
+     */
+    private boolean started;
+
+    /**
+     * @param model   model to solve
+     * @param factory factory creating models identical to <i>model</i>, or null
+     * @param stop    stop criteria
+     */
+    SolutionSpliterator(Model model, Supplier<Model> factory, Criterion... stop) {
+        this(model, factory, stop, null, null, Long.MAX_VALUE);
+    }
+
+    private SolutionSpliterator(Model model, Supplier<Model> factory, Criterion[] stop, int[] lbs, int[] ubs, long estimate) {
+        this.model = model;
+        this.factory = factory;
+        this.stop = stop;
+        this.estimate = estimate;
+        Variable[] vars = model.getVars();
+        this.lbs = new int[vars.length];
+        this.ubs = new int[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            if ((vars[i].getTypeAndKind() & Variable.KIND & Variable.INT) != 0) {
+                IntVar var = (IntVar) vars[i];
+                // restrict the new model like its parent
+                this.lbs[i] = lbs == null ? var.getLB() : Math.max(lbs[i], var.getLB());
+                this.ubs[i] = ubs == null ? var.getUB() : Math.min(ubs[i], var.getUB());
+            }
+        }
+        model.getSolver().addStopCriterion(stop);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Solution> action) {
+        boolean found;
+        Constraint[] restrictions = started || factory == null ? null : restrictions();
+        started = true;
+        if (restrictions == null || restrictions.length == 0) {
+            // not split, the resolution goes on from the current state of the solver
+            found = model.getSolver().solve();
+        } else {
+            found = model.getSolver().solveUnder(restrictions);
+        }
+        if (found) {
+            action.accept(new Solution(model).record());
+            return true;
+        }
+        model.getSolver().removeStopCriterion(stop);
+        return false;
+    }
+
+    /**
+     * @return constraints restricting the variables of {@link #model} to {@link #lbs} and {@link #ubs}
+     */
+    private Constraint[] restrictions() {
+        List<Constraint> cstrs = new ArrayList<>();
+        Variable[] vars = model.getVars();
+        for (int i = 0; i < vars.length; i++) {
+            if ((vars[i].getTypeAndKind() & Variable.KIND & Variable.INT) != 0) {
+                IntVar var = (IntVar) vars[i];
+                if (lbs[i] > var.getLB()) {
+                    cstrs.add(model.arithm(var, ">=", lbs[i]));
+                }
+                if (ubs[i] < var.getUB()) {
+                    cstrs.add(model.arithm(var, "<=", ubs[i]));
+                }
+            }
+        }
+        return cstrs.toArray(new Constraint[cstrs.size()]);
+    }
+
+    @Override
+    public Spliterator<Solution> trySplit() {
+        if (factory == null || started) {
+            return null;
+        }
+        Variable[] vars = model.getVars();
+        // the first variable, not a view or a constant, whose domain is not restricted to a single value
+        int i = 0;
+        while (i < vars.length && ((vars[i].getTypeAndKind() & Variable.TYPE) != Variable.VAR
+                || (vars[i].getTypeAndKind() & Variable.KIND & Variable.INT) == 0
+                || lbs[i] >= ubs[i])) {
+            i++;
+        }
+        if (i == vars.length) {
+            return null;
+        }
+        Model other = factory.get();
+        if (other.getNbVars() != vars.length) {
+            throw new SolverException("The factory of models to split the search space must create identical models");
+        }
+        int mid = lbs[i] + (ubs[i] - lbs[i]) / 2;
+        int lb = lbs[i];
+        lbs[i] = mid + 1;
+        estimate >>>= 1;
+        SolutionSpliterator split = new SolutionSpliterator(other, factory, stop, lbs, ubs, estimate);
+        lbs[i] = lb;
+        ubs[i] = mid;
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        if (factory == null) {
+            return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT;
+        }
+        // the split part is not a prefix of the solutions of this spliterator
+        return Spliterator.DISTINCT | Spliterator.NONNULL;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.strategy;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+/**
+ * Warm start heuristic.
+ * Composite heuristic which hacks a main strategy by assigning the variable it selects
+ * to its value in the hint of the solver (see {@link Solver#setHint(Solution)}), when possible.
+ * Otherwise, the decision of the main strategy is returned.
+ * <p>
+ * The variable ordering of the main strategy is kept, and the hint is read on each decision,
+ * so that it can be changed between two resolutions.
+ * A value is only forced when the domain of the variable is enumerated or when the value is a bound of the domain,
+ * so that the refutation of the decision removes it.
+ */
+public class WarmStart extends AbstractStrategy<Variable> {
+
+    /**
+     * The solver which declares the hint
+     */
+    private final Solver solver;
+
+    /**
+     * The main strategy declared in the solver
+     */
+    private final AbstractStrategy<Variable> mainStrategy;
+
+    /**
+     * Creates a warm start heuristic
+     * @param solver the solver declaring the hint
+     * @param mainStrategy the main strategy declared
+     */
+    public WarmStart(Solver solver, AbstractStrategy<Variable> mainStrategy) {
+        super(mainStrategy.vars);
+        this.solver = solver;
+        this.mainStrategy = mainStrategy;
+    }
+
+    @Override
+    public boolean init() {
+        return mainStrategy.init();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Decision<Variable> getDecision() {
+        Decision<Variable> decision = mainStrategy.getDecision();
+        Solution hint = solver.getHint();
+        if (decision != null && hint != null) {
+            Variable var = decision.getDecisionVariable();
+            if ((var.getTypeAndKind() & Variable.KIND & Variable.INT) != 0 && hint.hasIntVal((IntVar) var)) {
+                IntVar ivar = (IntVar) var;
+                int value = hint.getIntVal(ivar);
+                if (ivar.contains(value)
+                        && (ivar.hasEnumeratedDomain() || value == ivar.getLB() || value == ivar.getUB())) {
+                    decision.free();
+                    return (Decision) solver.getDecisionPath().makeIntDecision(ivar, DecisionOperatorFactory.makeIntEq(), value);
+                }
+            }
+        }
+        return decision;
+    }
+
+    /**
+     * @return the main strategy
+     */
+    public AbstractStrategy<Variable> getMainStrategy() {
+        return mainStrategy;
+    }
+}
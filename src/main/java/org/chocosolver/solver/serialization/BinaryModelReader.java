@@ -0,0 +1,291 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.serialization;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.Arithmetic;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.nary.alldifferent.AllDifferent;
+import org.chocosolver.solver.constraints.nary.sum.*;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.chocosolver.solver.serialization.BinaryModelWriter.*;
+
+/**
+ * Loads a model written by {@link BinaryModelWriter}.
+ * <p>
+ * Variables are declared with their stored domain and constraints are built directly from their propagators,
+ * without running the analysis done by the constraint factories.
+ * Files are memory-mapped, so that several processes loading the same file share its pages.
+ * <p>
+ * The search strategy is not stored: the one of the loaded model has to be declared again, if needed.
+ *
+ * @see BinaryModelWriter
+ */
+public class BinaryModelReader {
+
+    /**
+     * Input buffer
+     */
+    private final ByteBuffer in;
+
+    /**
+     * The model being loaded
+     */
+    private final Model model;
+
+    /**
+     * Variables of the model, in declaration order
+     */
+    private IntVar[] vars;
+
+    private BinaryModelReader(ByteBuffer in, Model model) {
+        this.in = in;
+        this.model = model;
+    }
+
+    /**
+     * Load the model stored in <i>path</i>
+     *
+     * @param path a file written by {@link BinaryModelWriter}
+     * @return the model stored in <i>path</i>
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the file is not a binary model
+     */
+    public static Model read(Path path) throws IOException {
+        return read(path, null);
+    }
+
+    /**
+     * Load the model stored in <i>path</i>
+     *
+     * @param path     a file written by {@link BinaryModelWriter}
+     * @param settings settings of the model to load, or null to use default ones
+     * @return the model stored in <i>path</i>
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the file is not a binary model
+     */
+    public static Model read(Path path, Settings settings) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), settings);
+        }
+    }
+
+    /**
+     * Load the model stored in <i>buffer</i>, from its current position
+     *
+     * @param buffer   a buffer containing a model written by {@link BinaryModelWriter}
+     * @param settings settings of the model to load, or null to use default ones
+     * @return the model stored in <i>buffer</i>
+     * @throws SolverException if the buffer does not contain a binary model
+     */
+    public static Model read(ByteBuffer buffer, Settings settings) {
+        if (buffer.getInt() != MAGIC) {
+            throw new SolverException("Not a binary model");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new SolverException("Unsupported binary model version: " + version);
+        }
+        BinaryModelReader reader = new BinaryModelReader(buffer, new Model(readString(buffer)));
+        if (settings != null) {
+            reader.model.set(settings);
+        }
+        reader.readVariables();
+        reader.readConstraints();
+        reader.readObjective();
+        return reader.model;
+    }
+
+    private void readVariables() {
+        vars = new IntVar[in.getInt()];
+        for (int i = 0; i < vars.length; i++) {
+            byte kind = in.get();
+            switch (kind) {
+                case V_INT:
+                    vars[i] = readIntVar(readString(in));
+                    break;
+                case V_BOOL:
+                    vars[i] = readBoolVar(readString(in));
+                    break;
+                case V_CSTE:
+                    vars[i] = model.intVar(readString(in), in.getInt());
+                    break;
+                case V_BOOL_CSTE: {
+                    String name = readString(in);
+                    vars[i] = model.boolVar(name, in.getInt() == 1);
+                }
+                break;
+                case V_AFFINE: {
+                    int a = in.getInt();
+                    IntVar var = vars[in.getInt()];
+                    vars[i] = model.intAffineView(a, var, in.getInt());
+                }
+                break;
+                case V_NOT:
+                    vars[i] = ((BoolVar) vars[in.getInt()]).not();
+                    break;
+                default:
+                    throw new SolverException("Unknown kind of variable: " + kind);
+            }
+        }
+    }
+
+    private BoolVar readBoolVar(String name) {
+        BoolVar var = model.boolVar(name);
+        int lb = in.getInt();
+        int ub = in.getInt();
+        if (lb == ub) {
+            try {
+                var.instantiateTo(lb, Cause.Null);
+            } catch (ContradictionException e) {
+                throw new SolverException("Empty domain for " + name);
+            }
+        }
+        return var;
+    }
+
+    private IntVar readIntVar(String name) {
+        boolean enumerated = in.get() != 0;
+        int n = in.getInt();
+        int lb = in.getInt();
+        int ub = in.getInt();
+        if (n == 1) {
+            return model.intVar(name, lb, ub, !enumerated);
+        }
+        int[] bounds = new int[2 * n];
+        bounds[0] = lb;
+        bounds[1] = ub;
+        for (int r = 2; r < bounds.length; r++) {
+            bounds[r] = in.getInt();
+        }
+        IntVar var = model.intVar(name, lb, bounds[bounds.length - 1], false);
+        try {
+            for (int r = 1; r < n; r++) {
+                var.removeInterval(bounds[2 * r - 1] + 1, bounds[2 * r] - 1, Cause.Null);
+            }
+        } catch (ContradictionException e) {
+            throw new SolverException("Empty domain for " + name);
+        }
+        return var;
+    }
+
+    private void readConstraints() {
+        int n = in.getInt();
+        for (int c = 0; c < n; c++) {
+            byte kind = in.get();
+            switch (kind) {
+                case C_ARITHM:
+                    readArithm().post();
+                    break;
+                case C_SUM: {
+                    String name = readString(in);
+                    new SumConstraint(name, readSum()).post();
+                }
+                break;
+                case C_ALLDIFF: {
+                    String type = readString(in);
+                    new AllDifferent(readVars(), type).post();
+                }
+                break;
+                default:
+                    throw new SolverException("Unknown kind of constraint: " + kind);
+            }
+        }
+    }
+
+    private Constraint readArithm() {
+        IntVar[] scope = readVars();
+        Operator op1 = Operator.values()[in.get()];
+        Operator op2 = Operator.values()[in.get()];
+        int cste = in.getInt();
+        if (scope.length == 1) {
+            return new Arithmetic(scope[0], op1, cste);
+        } else if (op2 == Operator.PL && cste == 0 && op1 != Operator.PL && op1 != Operator.MN) {
+            return new Arithmetic(scope[0], op1, scope[1]);
+        }
+        return new Arithmetic(scope[0], op1, scope[1], op2, cste);
+    }
+
+    private Propagator readSum() {
+        byte kind = in.get();
+        IntVar[] scope = readVars();
+        int[] coeffs = new int[scope.length];
+        int pos = 0;
+        for (int i = 0; i < scope.length; i++) {
+            coeffs[i] = in.getInt();
+            if (coeffs[i] > 0) {
+                pos++;
+            }
+        }
+        Operator o = Operator.values()[in.get()];
+        int b = in.getInt();
+        switch (kind) {
+            case P_SUM:
+                return new PropSum(scope, pos, o, b);
+            case P_SCALAR:
+                return new PropScalar(scope, coeffs, pos, o, b);
+            case P_SCALAR_INCR:
+                return new PropScalarIncr(scope, coeffs, pos, o, b);
+            case P_SUM_BOOL:
+                return new PropSumBool(bools(scope, scope.length - 1), pos, o, scope[scope.length - 1], b);
+            case P_SUM_BOOL_INCR:
+                return new PropSumBoolIncr(bools(scope, scope.length - 1), pos, o, scope[scope.length - 1], b);
+            case P_SUM_FULL_BOOL:
+                return new PropSumFullBool(bools(scope, scope.length), pos, o, b);
+            case P_SUM_FULL_BOOL_INCR:
+                return new PropSumFullBoolIncr(bools(scope, scope.length), pos, o, b);
+            default:
+                throw new SolverException("Unknown kind of sum: " + kind);
+        }
+    }
+
+    private static BoolVar[] bools(IntVar[] scope, int n) {
+        BoolVar[] bools = new BoolVar[n];
+        for (int i = 0; i < n; i++) {
+            bools[i] = (BoolVar) scope[i];
+        }
+        return bools;
+    }
+
+    private void readObjective() {
+        if (in.get() != 0) {
+            boolean maximize = in.get() != 0;
+            model.setObjective(maximize, vars[in.getInt()]);
+        }
+    }
+
+    private IntVar[] readVars() {
+        IntVar[] scope = new IntVar[in.getInt()];
+        for (int i = 0; i < scope.length; i++) {
+            scope[i] = vars[in.getInt()];
+        }
+        return scope;
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
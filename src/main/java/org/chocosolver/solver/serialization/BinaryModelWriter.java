@@ -0,0 +1,296 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.serialization;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.constraints.Arithmetic;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.nary.alldifferent.AllDifferent;
+import org.chocosolver.solver.constraints.nary.sum.*;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.view.*;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes a model in a compact binary format, to be loaded by {@link BinaryModelReader}.
+ * <p>
+ * The format stores, in this order:
+ * <ol>
+ *     <li>a header (magic number, version and name of the model),</li>
+ *     <li>the variables, in declaration order: integer and boolean variables with their current domain,
+ *     constants and affine or negation views,</li>
+ *     <li>the posted constraints, with the type of their propagators and their parameters,</li>
+ *     <li>the objective, if any.</li>
+ * </ol>
+ * Only arithmetic, linear (sum and scalar) and allDifferent constraints are supported,
+ * a {@link SolverException} is thrown when another kind of constraint or variable is met.
+ * The search strategy is not stored, since it is defined by code.
+ *
+ * @see BinaryModelReader
+ */
+public class BinaryModelWriter {
+
+    /**
+     * Magic number heading binary models
+     */
+    static final int MAGIC = 0x43484F43;
+
+    /**
+     * Version of the format
+     */
+    static final int VERSION = 1;
+
+    // kinds of variables
+    static final byte V_INT = 0;
+    static final byte V_BOOL = 1;
+    static final byte V_CSTE = 2;
+    static final byte V_BOOL_CSTE = 3;
+    static final byte V_AFFINE = 4;
+    static final byte V_NOT = 5;
+
+    // kinds of constraints
+    static final byte C_ARITHM = 0;
+    static final byte C_SUM = 1;
+    static final byte C_ALLDIFF = 2;
+
+    // kinds of sum propagators
+    static final byte P_SUM = 0;
+    static final byte P_SCALAR = 1;
+    static final byte P_SCALAR_INCR = 2;
+    static final byte P_SUM_BOOL = 3;
+    static final byte P_SUM_BOOL_INCR = 4;
+    static final byte P_SUM_FULL_BOOL = 5;
+    static final byte P_SUM_FULL_BOOL_INCR = 6;
+
+    /**
+     * Output stream
+     */
+    private final DataOutputStream out;
+
+    /**
+     * Maps the id of a variable to its index in the binary model
+     */
+    private final TIntIntHashMap indices;
+
+    private BinaryModelWriter(OutputStream out) {
+        this.out = new DataOutputStream(out);
+        this.indices = new TIntIntHashMap(16, .5f, -1, -1);
+    }
+
+    /**
+     * Write <i>model</i> in <i>path</i>, the file is created or overwritten.
+     *
+     * @param model a model, whose resolution has not started
+     * @param path  a file
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if a variable or a constraint of <i>model</i> cannot be written
+     */
+    public static void write(Model model, Path path) throws IOException {
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            write(model, os);
+        }
+    }
+
+    /**
+     * Write <i>model</i> in <i>out</i>, which is not closed.
+     *
+     * @param model a model, whose resolution has not started
+     * @param out   an output stream
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if a variable or a constraint of <i>model</i> cannot be written
+     */
+    public static void write(Model model, OutputStream out) throws IOException {
+        BinaryModelWriter writer = new BinaryModelWriter(out);
+        writer.out.writeInt(MAGIC);
+        writer.out.writeInt(VERSION);
+        writer.writeString(model.getName());
+        writer.writeVariables(model.getVars());
+        writer.writeConstraints(model.getCstrs());
+        writer.writeObjective(model);
+        writer.out.flush();
+    }
+
+    private void writeVariables(Variable[] vars) throws IOException {
+        out.writeInt(vars.length);
+        for (int i = 0; i < vars.length; i++) {
+            Variable var = vars[i];
+            int type = var.getTypeAndKind() & Variable.TYPE;
+            int kind = var.getTypeAndKind() & Variable.KIND;
+            if ((kind & Variable.INT) == 0) {
+                throw new SolverException("Cannot write " + var.getName() + ": only integer and boolean variables are supported");
+            }
+            IntVar ivar = (IntVar) var;
+            if (type == Variable.CSTE) {
+                out.writeByte(kind == Variable.BOOL ? V_BOOL_CSTE : V_CSTE);
+                writeString(var.getName());
+                out.writeInt(ivar.getValue());
+            } else if (type == Variable.VIEW) {
+                writeView((IntView) var);
+            } else if (kind == Variable.BOOL) {
+                out.writeByte(V_BOOL);
+                writeString(var.getName());
+                out.writeInt(ivar.getLB());
+                out.writeInt(ivar.getUB());
+            } else {
+                out.writeByte(V_INT);
+                writeString(var.getName());
+                out.writeBoolean(ivar.hasEnumeratedDomain());
+                writeDomain(ivar);
+            }
+            indices.put(var.getId(), i);
+        }
+    }
+
+    private void writeDomain(IntVar var) throws IOException {
+        if (var.getDomainSize() == var.getRange()) {
+            out.writeInt(1);
+            out.writeInt(var.getLB());
+            out.writeInt(var.getUB());
+            return;
+        }
+        int n = 0;
+        DisposableRangeIterator rit = var.getRangeIterator(true);
+        while (rit.hasNext()) {
+            n++;
+            rit.next();
+        }
+        out.writeInt(n);
+        rit.dispose();
+        rit = var.getRangeIterator(true);
+        while (rit.hasNext()) {
+            out.writeInt(rit.min());
+            out.writeInt(rit.max());
+            rit.next();
+        }
+        rit.dispose();
+    }
+
+    private void writeView(IntView view) throws IOException {
+        int a, b;
+        if (view instanceof OffsetView) {
+            a = 1;
+            b = ((OffsetView) view).cste;
+        } else if (view instanceof ScaleView) {
+            a = ((ScaleView) view).cste;
+            b = 0;
+        } else if (view instanceof MinusView) {
+            a = -1;
+            b = 0;
+        } else if (view instanceof AffineView) {
+            a = ((AffineView) view).a;
+            b = ((AffineView) view).b;
+        } else if (view instanceof BoolNotView) {
+            out.writeByte(V_NOT);
+            out.writeInt(index(view.getVariable()));
+            return;
+        } else {
+            throw new SolverException("Cannot write " + view.getName() + ": " + view.getClass().getSimpleName() + " is not supported");
+        }
+        out.writeByte(V_AFFINE);
+        out.writeInt(a);
+        out.writeInt(index(view.getVariable()));
+        out.writeInt(b);
+    }
+
+    private void writeConstraints(Constraint[] cstrs) throws IOException {
+        out.writeInt(cstrs.length);
+        for (Constraint c : cstrs) {
+            if (c instanceof Arithmetic) {
+                Arithmetic a = (Arithmetic) c;
+                out.writeByte(C_ARITHM);
+                writeVars(a.getVars());
+                out.writeByte(a.getOp1().ordinal());
+                out.writeByte(a.getOp2().ordinal());
+                out.writeInt(a.getCste());
+            } else if (c.getPropagators().length == 1 && c.getPropagator(0) instanceof PropSum) {
+                PropSum p = (PropSum) c.getPropagator(0);
+                out.writeByte(C_SUM);
+                writeString(c.getName());
+                out.writeByte(sumKind(p));
+                writeVars(p.getVars());
+                for (int i = 0; i < p.getNbVars(); i++) {
+                    out.writeInt(p.getCoefficient(i));
+                }
+                out.writeByte(p.getOperator().ordinal());
+                out.writeInt(p.getBound());
+            } else if (c instanceof AllDifferent) {
+                out.writeByte(C_ALLDIFF);
+                writeAllDifferent((AllDifferent) c);
+            } else {
+                throw new SolverException("Cannot write " + c.getName() + ": this constraint is not supported");
+            }
+        }
+    }
+
+    private static byte sumKind(PropSum p) {
+        Class<?> clazz = p.getClass();
+        if (clazz == PropSum.class) {
+            return P_SUM;
+        } else if (clazz == PropScalar.class) {
+            return P_SCALAR;
+        } else if (clazz == PropScalarIncr.class) {
+            return P_SCALAR_INCR;
+        } else if (clazz == PropSumBool.class) {
+            return P_SUM_BOOL;
+        } else if (clazz == PropSumBoolIncr.class) {
+            return P_SUM_BOOL_INCR;
+        } else if (clazz == PropSumFullBool.class) {
+            return P_SUM_FULL_BOOL;
+        } else if (clazz == PropSumFullBoolIncr.class) {
+            return P_SUM_FULL_BOOL_INCR;
+        }
+        throw new SolverException("Cannot write " + p + ": " + clazz.getSimpleName() + " is not supported");
+    }
+
+    private void writeAllDifferent(AllDifferent c) throws IOException {
+        writeString(c.getConsistency());
+        writeVars(c.getVars());
+    }
+
+    private void writeObjective(Model model) throws IOException {
+        if (model.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            out.writeBoolean(false);
+        } else {
+            out.writeBoolean(true);
+            out.writeBoolean(model.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE);
+            out.writeInt(index(model.getObjective()));
+        }
+    }
+
+    private void writeVars(Variable[] vars) throws IOException {
+        out.writeInt(vars.length);
+        for (Variable var : vars) {
+            out.writeInt(index(var));
+        }
+    }
+
+    private int index(Variable var) {
+        int idx = indices.get(var.getId());
+        if (idx < 0) {
+            throw new SolverException("Cannot write " + var.getName() + ": this variable is not declared before it is used");
+        }
+        return idx;
+    }
+
+    private void writeString(String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
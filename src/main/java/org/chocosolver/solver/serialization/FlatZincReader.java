@@ -0,0 +1,860 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.serialization;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a model from a FlatZinc instance.
+ * <p>
+ * The instance is read item by item: each declaration or constraint is turned into variables or constraints
+ * of the model as soon as it is parsed, only the symbol table (named parameters and variables) is kept in memory.
+ * Time spent reading the instance is stored as the reading time of the solver measures.
+ * <p>
+ * Integer and boolean parameters and variables (possibly in arrays, and sets of integers as parameters) are supported,
+ * together with the following builtins:
+ * <code>int_eq</code>, <code>int_ne</code>, <code>int_le</code>, <code>int_lt</code> (and their <code>_reif</code>
+ * versions), <code>int_lin_eq</code>, <code>int_lin_ne</code>, <code>int_lin_le</code> (and their <code>_reif</code>
+ * versions), <code>int_plus</code>, <code>int_times</code>, <code>int_div</code>, <code>int_mod</code>,
+ * <code>int_abs</code>, <code>int_min</code>, <code>int_max</code>, <code>int_pow</code>,
+ * <code>array_int_element</code>, <code>array_var_int_element</code>, <code>set_in</code>, <code>set_in_reif</code>,
+ * <code>bool2int</code>, <code>bool_eq</code>, <code>bool_not</code>, <code>bool_le</code>, <code>bool_lt</code>
+ * (and the <code>_reif</code> versions of these four), <code>bool_xor</code>, <code>bool_and</code>,
+ * <code>bool_or</code>, <code>bool_lin_eq</code>, <code>bool_lin_le</code>, <code>array_bool_and</code>,
+ * <code>array_bool_or</code>, <code>array_bool_xor</code>, <code>array_bool_element</code>,
+ * <code>array_var_bool_element</code>, <code>bool_clause</code> and <code>bool_clause_reif</code>,
+ * and the following global constraints:
+ * <code>all_different_int</code>, <code>table_int</code>, <code>table_bool</code>, <code>regular</code>,
+ * <code>circuit</code>, <code>subcircuit</code>, <code>cumulative</code>, <code>inverse</code>,
+ * <code>count_eq</code>, <code>lex_less_int</code>, <code>lex_lesseq_int</code>,
+ * <code>array_int_maximum</code> and <code>array_int_minimum</code>
+ * (names prefixed by <code>fzn_</code> are accepted too).
+ * A {@link SolverException} is thrown when another kind of variable or constraint is met.
+ * Annotations, including search annotations, are ignored.
+ */
+public class FlatZincReader {
+
+    /**
+     * Special tokens
+     */
+    private static final String EOF = "";
+
+    /**
+     * Input stream
+     */
+    private final PushbackReader in;
+
+    /**
+     * The model being built
+     */
+    private final Model model;
+
+    /**
+     * Parameters and variables declared so far: Integer, Boolean, int[] (sets), IntVar or Object[] (arrays)
+     */
+    private final Map<String, Object> symbols;
+
+    /**
+     * Current token
+     */
+    private String token;
+
+    /**
+     * Current line, for error messages
+     */
+    private int line;
+
+    private FlatZincReader(Reader in, Model model) {
+        this.in = new PushbackReader(in, 2);
+        this.model = model;
+        this.symbols = new HashMap<>();
+        this.line = 1;
+    }
+
+    /**
+     * Build the model of the FlatZinc instance stored in <i>path</i>
+     *
+     * @param path a FlatZinc file
+     * @return the model of the instance
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the instance is not valid or not supported
+     */
+    public static Model read(Path path) throws IOException {
+        return read(path, null);
+    }
+
+    /**
+     * Build the model of the FlatZinc instance stored in <i>path</i>
+     *
+     * @param path     a FlatZinc file
+     * @param settings settings of the model to build, or null to use default ones
+     * @return the model of the instance
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the instance is not valid or not supported
+     */
+    public static Model read(Path path, Settings settings) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader, path.getFileName().toString(), settings);
+        }
+    }
+
+    /**
+     * Build the model of the FlatZinc instance read from <i>reader</i>, which is not closed.
+     *
+     * @param reader   a reader
+     * @param name     name of the model
+     * @param settings settings of the model to build, or null to use default ones
+     * @return the model of the instance
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the instance is not valid or not supported
+     */
+    public static Model read(Reader reader, String name, Settings settings) throws IOException {
+        long start = System.nanoTime();
+        Model model = new Model(name);
+        if (settings != null) {
+            model.set(settings);
+        }
+        FlatZincReader fzn = new FlatZincReader(reader instanceof BufferedReader ? reader : new BufferedReader(reader), model);
+        fzn.nextToken();
+        while (!fzn.token.equals(EOF)) {
+            fzn.readItem();
+        }
+        model.getSolver().getMeasures().setReadingTimeCount(System.nanoTime() - start);
+        return model;
+    }
+
+    //***********************************************************************************
+    // ITEMS
+    //***********************************************************************************
+
+    private void readItem() throws IOException {
+        switch (token) {
+            case "predicate":
+                while (!token.equals(";")) {
+                    nextToken();
+                }
+                nextToken();
+                break;
+            case "constraint":
+                nextToken();
+                readConstraint();
+                break;
+            case "solve":
+                nextToken();
+                readSolve();
+                break;
+            case "array":
+                nextToken();
+                readArray();
+                break;
+            default:
+                readDeclaration();
+                break;
+        }
+    }
+
+    private void readDeclaration() throws IOException {
+        boolean var = accept("var");
+        Domain domain = readType();
+        expect(":");
+        String name = readIdentifier();
+        skipAnnotations();
+        Object value = null;
+        if (accept("=")) {
+            value = readExpression();
+        }
+        expect(";");
+        if (!var) {
+            if (value == null) {
+                throw error("parameter " + name + " has no value");
+            }
+            symbols.put(name, value);
+        } else if (value == null) {
+            symbols.put(name, declare(name, domain));
+        } else {
+            symbols.put(name, alias(name, domain, value));
+        }
+    }
+
+    private void readArray() throws IOException {
+        expect("[");
+        int lb = readInt();
+        expect("..");
+        int ub = readInt();
+        expect("]");
+        expect("of");
+        boolean var = accept("var");
+        Domain domain = readType();
+        expect(":");
+        String name = readIdentifier();
+        skipAnnotations();
+        Object[] values = null;
+        if (accept("=")) {
+            values = (Object[]) readExpression();
+        }
+        expect(";");
+        int n = ub - lb + 1;
+        if (values == null) {
+            if (!var) {
+                throw error("parameter " + name + " has no value");
+            }
+            values = new Object[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = declare(name + "[" + (i + lb) + "]", domain);
+            }
+        } else if (values.length != n) {
+            throw error("array " + name + " has " + values.length + " elements instead of " + n);
+        }
+        symbols.put(name, values);
+    }
+
+    /**
+     * Read the type of a declaration.
+     *
+     * @return null for booleans, the domain of integers otherwise
+     */
+    private Domain readType() throws IOException {
+        switch (token) {
+            case "bool":
+                nextToken();
+                return null;
+            case "int":
+                nextToken();
+                return new Domain(IntVar.MIN_INT_BOUND, IntVar.MAX_INT_BOUND, null);
+            case "set":
+                nextToken();
+                expect("of");
+                expect("int");
+                return Domain.SET;
+            case "{": {
+                int[] values = (int[]) readExpression();
+                if (values.length == 0) {
+                    throw error("empty domain");
+                }
+                return new Domain(values[0], values[values.length - 1], values);
+            }
+            default: {
+                int lb = readInt();
+                expect("..");
+                int ub = readInt();
+                return new Domain(lb, ub, null);
+            }
+        }
+    }
+
+    private IntVar declare(String name, Domain domain) {
+        if (domain == null) {
+            return model.boolVar(name);
+        } else if (domain == Domain.SET) {
+            throw error("set variables are not supported");
+        } else if (domain.values != null) {
+            return model.intVar(name, domain.values);
+        } else if (domain.lb == IntVar.MIN_INT_BOUND && domain.ub == IntVar.MAX_INT_BOUND) {
+            return model.intVar(name, domain.lb, domain.ub, true);
+        }
+        return model.intVar(name, domain.lb, domain.ub);
+    }
+
+    private IntVar alias(String name, Domain domain, Object value) {
+        if (value instanceof Integer) {
+            return model.intVar(name, (Integer) value);
+        } else if (value instanceof Boolean) {
+            return model.boolVar(name, (Boolean) value);
+        }
+        IntVar var = (IntVar) value;
+        if (domain == Domain.SET) {
+            throw error("set variables are not supported");
+        } else if (domain != null && domain.values != null) {
+            model.member(var, domain.values).post();
+        } else if (domain != null && (var.getLB() < domain.lb || var.getUB() > domain.ub)) {
+            model.member(var, domain.lb, domain.ub).post();
+        }
+        return var;
+    }
+
+    private void readSolve() throws IOException {
+        skipAnnotations();
+        switch (token) {
+            case "satisfy":
+                nextToken();
+                break;
+            case "minimize":
+                nextToken();
+                model.setObjective(Model.MINIMIZE, intVar(readExpression()));
+                break;
+            case "maximize":
+                nextToken();
+                model.setObjective(Model.MAXIMIZE, intVar(readExpression()));
+                break;
+            default:
+                throw error("unexpected " + token);
+        }
+        expect(";");
+    }
+
+    private void readConstraint() throws IOException {
+        String name = readIdentifier();
+        List<Object> args = new ArrayList<>();
+        expect("(");
+        while (!accept(")")) {
+            args.add(readExpression());
+            accept(",");
+        }
+        skipAnnotations();
+        expect(";");
+        if (name.startsWith("fzn_")) {
+            name = name.substring(4);
+        }
+        post(name, args);
+    }
+
+    //***********************************************************************************
+    // CONSTRAINTS
+    //***********************************************************************************
+
+    private void post(String name, List<Object> args) {
+        Object a0 = args.get(0);
+        Object a1 = args.size() > 1 ? args.get(1) : null;
+        Object a2 = args.size() > 2 ? args.get(2) : null;
+        switch (name) {
+            // integer builtins
+            case "int_eq":
+            case "bool_eq":
+            case "bool2int":
+                model.arithm(intVar(a0), "=", intVar(a1)).post();
+                break;
+            case "int_ne":
+            case "bool_not":
+                model.arithm(intVar(a0), "!=", intVar(a1)).post();
+                break;
+            case "int_le":
+            case "bool_le":
+                model.arithm(intVar(a0), "<=", intVar(a1)).post();
+                break;
+            case "int_lt":
+            case "bool_lt":
+                model.arithm(intVar(a0), "<", intVar(a1)).post();
+                break;
+            case "int_eq_reif":
+                model.arithm(intVar(a0), "=", intVar(a1)).reifyWith(boolVar(a2));
+                break;
+            case "int_ne_reif":
+                model.arithm(intVar(a0), "!=", intVar(a1)).reifyWith(boolVar(a2));
+                break;
+            case "int_le_reif":
+                model.arithm(intVar(a0), "<=", intVar(a1)).reifyWith(boolVar(a2));
+                break;
+            case "int_lt_reif":
+                model.arithm(intVar(a0), "<", intVar(a1)).reifyWith(boolVar(a2));
+                break;
+            case "int_lin_eq":
+            case "bool_lin_eq":
+                model.scalar(intVars(a1), ints(a0), "=", readInt(a2)).post();
+                break;
+            case "int_lin_ne":
+                model.scalar(intVars(a1), ints(a0), "!=", readInt(a2)).post();
+                break;
+            case "int_lin_le":
+            case "bool_lin_le":
+                model.scalar(intVars(a1), ints(a0), "<=", readInt(a2)).post();
+                break;
+            case "int_lin_eq_reif":
+                model.scalar(intVars(a1), ints(a0), "=", readInt(a2)).reifyWith(boolVar(args.get(3)));
+                break;
+            case "int_lin_ne_reif":
+                model.scalar(intVars(a1), ints(a0), "!=", readInt(a2)).reifyWith(boolVar(args.get(3)));
+                break;
+            case "int_lin_le_reif":
+                model.scalar(intVars(a1), ints(a0), "<=", readInt(a2)).reifyWith(boolVar(args.get(3)));
+                break;
+            case "int_plus":
+                model.arithm(intVar(a0), "+", intVar(a1), "=", intVar(a2)).post();
+                break;
+            case "int_times":
+                model.times(intVar(a0), intVar(a1), intVar(a2)).post();
+                break;
+            case "int_div":
+                model.div(intVar(a0), intVar(a1), intVar(a2)).post();
+                break;
+            case "int_mod":
+                model.mod(intVar(a0), intVar(a1), intVar(a2)).post();
+                break;
+            case "int_abs":
+                model.absolute(intVar(a1), intVar(a0)).post();
+                break;
+            case "int_min":
+                model.min(intVar(a2), intVar(a0), intVar(a1)).post();
+                break;
+            case "int_max":
+                model.max(intVar(a2), intVar(a0), intVar(a1)).post();
+                break;
+            case "int_pow":
+                intVar(a0).pow(intVar(a1)).eq(intVar(a2)).post();
+                break;
+            case "array_int_element":
+            case "array_bool_element":
+                model.element(intVar(a2), ints(a1), intVar(a0), 1).post();
+                break;
+            case "array_var_int_element":
+            case "array_var_bool_element":
+                model.element(intVar(a2), intVars(a1), intVar(a0), 1).post();
+                break;
+            case "set_in":
+                model.member(intVar(a0), (int[]) a1).post();
+                break;
+            case "set_in_reif":
+                model.member(intVar(a0), (int[]) a1).reifyWith(boolVar(a2));
+                break;
+            // boolean builtins
+            case "bool_eq_reif":
+                model.addClausesBoolIsEqVar(boolVar(a0), boolVar(a1), boolVar(a2));
+                break;
+            case "bool_xor":
+            case "bool_ne_reif":
+                model.addClausesBoolIsNeqVar(boolVar(a0), boolVar(a1), boolVar(a2));
+                break;
+            case "bool_le_reif":
+                model.addClausesBoolIsLeVar(boolVar(a0), boolVar(a1), boolVar(a2));
+                break;
+            case "bool_lt_reif":
+                model.addClausesBoolIsLtVar(boolVar(a0), boolVar(a1), boolVar(a2));
+                break;
+            case "bool_and":
+                model.addClausesBoolAndEqVar(boolVar(a0), boolVar(a1), boolVar(a2));
+                break;
+            case "bool_or":
+                model.addClausesBoolOrEqVar(boolVar(a0), boolVar(a1), boolVar(a2));
+                break;
+            case "array_bool_and":
+                model.addClausesBoolAndArrayEqVar(boolVars(a0), boolVar(a1));
+                break;
+            case "array_bool_or":
+                model.addClausesBoolOrArrayEqVar(boolVars(a0), boolVar(a1));
+                break;
+            case "array_bool_xor":
+                xor(boolVars(a0));
+                break;
+            case "bool_clause":
+                model.addClauses(boolVars(a0), boolVars(a1));
+                break;
+            case "bool_clause_reif":
+                model.addClausesBoolOrArrayEqVar(literals(boolVars(a0), boolVars(a1)), boolVar(a2));
+                break;
+            // global constraints
+            case "all_different_int":
+                model.allDifferent(intVars(a0)).post();
+                break;
+            case "table_int":
+            case "table_bool":
+                model.table(intVars(a0), tuples(intVars(a0).length, ints(a1))).post();
+                break;
+            case "regular":
+                model.regular(intVars(a0), automaton(readInt(a1), readInt(a2), ints(args.get(3)),
+                        readInt(args.get(4)), (int[]) args.get(5))).post();
+                break;
+            case "circuit":
+                model.circuit(intVars(a0), 1).post();
+                break;
+            case "subcircuit": {
+                IntVar[] vars = intVars(a0);
+                model.subCircuit(vars, 1, model.intVar(model.generateName("SUBCIRCUIT_"), 0, vars.length)).post();
+            }
+            break;
+            case "cumulative":
+                model.cumulative(tasks(intVars(a0), intVars(a1)), intVars(a2), intVar(args.get(3))).post();
+                break;
+            case "inverse":
+                model.inverseChanneling(intVars(a0), intVars(a1), 1, 1).post();
+                break;
+            case "count_eq":
+                model.count(intVar(a1), intVars(a0), intVar(a2)).post();
+                break;
+            case "lex_less_int":
+            case "lex_less_bool":
+                model.lexLess(intVars(a0), intVars(a1)).post();
+                break;
+            case "lex_lesseq_int":
+            case "lex_lesseq_bool":
+                model.lexLessEq(intVars(a0), intVars(a1)).post();
+                break;
+            case "array_int_maximum":
+                model.max(intVar(a0), intVars(a1)).post();
+                break;
+            case "array_int_minimum":
+                model.min(intVar(a0), intVars(a1)).post();
+                break;
+            default:
+                throw new SolverException("Unsupported FlatZinc constraint: " + name);
+        }
+    }
+
+    /**
+     * An odd number of variables in <i>vars</i> are true, computed with a chain of binary xor.
+     */
+    private void xor(BoolVar[] vars) {
+        if (vars.length == 0) {
+            model.falseConstraint().post();
+            return;
+        }
+        BoolVar parity = vars[0];
+        for (int i = 1; i < vars.length; i++) {
+            BoolVar next = model.boolVar(model.generateName("XOR_"));
+            model.addClausesBoolIsNeqVar(parity, vars[i], next);
+            parity = next;
+        }
+        model.addClauseTrue(parity);
+    }
+
+    /**
+     * Literals of a clause: the positive ones then the negation of the negative ones.
+     */
+    private static BoolVar[] literals(BoolVar[] pos, BoolVar[] neg) {
+        BoolVar[] literals = Arrays.copyOf(pos, pos.length + neg.length);
+        for (int i = 0; i < neg.length; i++) {
+            literals[pos.length + i] = neg[i].not();
+        }
+        return literals;
+    }
+
+    private static Tuples tuples(int arity, int[] flat) {
+        Tuples tuples = new Tuples(true);
+        for (int t = 0; t < flat.length; t += arity) {
+            tuples.add(Arrays.copyOfRange(flat, t, t + arity));
+        }
+        return tuples;
+    }
+
+    /**
+     * Automaton with states 1..q, state 0 being the failure state of FlatZinc.
+     */
+    private static FiniteAutomaton automaton(int q, int s, int[] d, int q0, int[] f) {
+        FiniteAutomaton automaton = new FiniteAutomaton();
+        for (int i = 0; i <= q; i++) {
+            automaton.addState();
+        }
+        for (int i = 1; i <= q; i++) {
+            for (int j = 1; j <= s; j++) {
+                int dest = d[(i - 1) * s + j - 1];
+                if (dest > 0) {
+                    automaton.addTransition(i, dest, j);
+                }
+            }
+        }
+        automaton.setInitialState(q0);
+        automaton.setFinal(f);
+        return automaton;
+    }
+
+    private Task[] tasks(IntVar[] starts, IntVar[] durations) {
+        Task[] tasks = new Task[starts.length];
+        for (int i = 0; i < tasks.length; i++) {
+            IntVar end = model.intVar(model.generateName("END_"),
+                    starts[i].getLB() + durations[i].getLB(), starts[i].getUB() + durations[i].getUB(), true);
+            tasks[i] = new Task(starts[i], durations[i], end);
+        }
+        return tasks;
+    }
+
+    //***********************************************************************************
+    // EXPRESSIONS
+    //***********************************************************************************
+
+    private Object readExpression() throws IOException {
+        switch (token) {
+            case "true":
+                nextToken();
+                return Boolean.TRUE;
+            case "false":
+                nextToken();
+                return Boolean.FALSE;
+            case "{": {
+                nextToken();
+                TIntArrayList values = new TIntArrayList();
+                while (!accept("}")) {
+                    values.add(readInt());
+                    accept(",");
+                }
+                values.sort();
+                return values.toArray();
+            }
+            case "[": {
+                nextToken();
+                List<Object> values = new ArrayList<>();
+                while (!accept("]")) {
+                    values.add(readExpression());
+                    accept(",");
+                }
+                return values.toArray();
+            }
+            default:
+                if (isInt(token)) {
+                    int lb = readInt();
+                    if (accept("..")) {
+                        int ub = readInt();
+                        int[] values = new int[Math.max(0, ub - lb + 1)];
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = lb + i;
+                        }
+                        return values;
+                    }
+                    return lb;
+                }
+                String name = readIdentifier();
+                Object value = symbols.get(name);
+                if (value == null) {
+                    throw error("unknown identifier " + name);
+                }
+                if (accept("[")) {
+                    int i = readInt();
+                    expect("]");
+                    value = ((Object[]) value)[i - 1];
+                }
+                return value;
+        }
+    }
+
+    private void skipAnnotations() throws IOException {
+        while (accept("::")) {
+            readIdentifier();
+            if (token.equals("(")) {
+                int depth = 0;
+                do {
+                    if (token.equals("(") || token.equals("[")) {
+                        depth++;
+                    } else if (token.equals(")") || token.equals("]")) {
+                        depth--;
+                    } else if (token.equals(EOF)) {
+                        throw error("unexpected end of file");
+                    }
+                    nextToken();
+                } while (depth > 0);
+            }
+        }
+    }
+
+    private IntVar intVar(Object value) {
+        if (value instanceof IntVar) {
+            return (IntVar) value;
+        } else if (value instanceof Boolean) {
+            return model.boolVar((Boolean) value);
+        } else if (value instanceof Integer) {
+            return model.intVar((Integer) value);
+        }
+        throw new SolverException("Not an integer variable: " + value);
+    }
+
+    private BoolVar boolVar(Object value) {
+        if (value instanceof Integer) {
+            return model.boolVar((Integer) value == 1);
+        }
+        IntVar var = intVar(value);
+        if (!(var instanceof BoolVar)) {
+            throw new SolverException("Not a boolean variable: " + var.getName());
+        }
+        return (BoolVar) var;
+    }
+
+    private IntVar[] intVars(Object value) {
+        Object[] values = (Object[]) value;
+        IntVar[] vars = new IntVar[values.length];
+        for (int i = 0; i < values.length; i++) {
+            vars[i] = intVar(values[i]);
+        }
+        return vars;
+    }
+
+    private BoolVar[] boolVars(Object value) {
+        Object[] values = (Object[]) value;
+        BoolVar[] vars = new BoolVar[values.length];
+        for (int i = 0; i < values.length; i++) {
+            vars[i] = boolVar(values[i]);
+        }
+        return vars;
+    }
+
+    private static int[] ints(Object value) {
+        Object[] values = (Object[]) value;
+        int[] ints = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ints[i] = readInt(values[i]);
+        }
+        return ints;
+    }
+
+    private static int readInt(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        if (!(value instanceof Integer)) {
+            throw new SolverException("Not an integer: " + value);
+        }
+        return (Integer) value;
+    }
+
+    //***********************************************************************************
+    // TOKENS
+    //***********************************************************************************
+
+    private boolean accept(String expected) throws IOException {
+        if (token.equals(expected)) {
+            nextToken();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String expected) throws IOException {
+        if (!accept(expected)) {
+            throw error("expected " + expected + " instead of " + (token.equals(EOF) ? "end of file" : token));
+        }
+    }
+
+    private String readIdentifier() throws IOException {
+        if (token.equals(EOF) || !Character.isLetter(token.charAt(0)) && token.charAt(0) != '_') {
+            throw error("expected an identifier instead of " + token);
+        }
+        String id = token;
+        nextToken();
+        return id;
+    }
+
+    private int readInt() throws IOException {
+        if (!isInt(token)) {
+            throw error("expected an integer instead of " + token);
+        }
+        int value;
+        try {
+            value = Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw error("integer out of range " + token);
+        }
+        nextToken();
+        return value;
+    }
+
+    private static boolean isInt(String token) {
+        return !token.isEmpty() && (Character.isDigit(token.charAt(0))
+                || token.charAt(0) == '-' && token.length() > 1);
+    }
+
+    private int read() throws IOException {
+        int c = in.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        int c = in.read();
+        if (c != -1) {
+            in.unread(c);
+        }
+        return c;
+    }
+
+    private void nextToken() throws IOException {
+        int c = read();
+        // skip blanks and comments
+        while (c != -1 && (Character.isWhitespace(c) || c == '%')) {
+            if (c == '%') {
+                while (c != -1 && c != '\n') {
+                    c = read();
+                }
+            } else {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            token = EOF;
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append((char) c);
+        if (Character.isLetter(c) || c == '_') {
+            while (Character.isLetterOrDigit(peek()) || peek() == '_') {
+                sb.append((char) read());
+            }
+        } else if (Character.isDigit(c) || c == '-') {
+            while (Character.isDigit(peek())) {
+                sb.append((char) read());
+            }
+            if (peek() == '.') {
+                // "1..3" is an interval, "1.5" is a float
+                read();
+                int d = peek();
+                in.unread('.');
+                if (d != '.') {
+                    throw error("floats are not supported");
+                }
+            } else if (peek() == 'e' || peek() == 'E') {
+                throw error("floats are not supported");
+            }
+        } else if (c == '.' && peek() == '.') {
+            sb.append((char) read());
+        } else if (c == ':' && peek() == ':') {
+            sb.append((char) read());
+        } else if (c == '"') {
+            while (peek() != -1 && peek() != '"') {
+                sb.append((char) read());
+            }
+            sb.append((char) read());
+        }
+        token = sb.toString();
+    }
+
+    /**
+     * Domain of an integer declaration, either an interval or a set of values
+     */
+    private static class Domain {
+
+        /**
+         * Type of the parameters declared as sets of integers
+         */
+        static final Domain SET = new Domain(0, 0, null);
+
+        final int lb, ub;
+
+        /**
+         * Sorted values, or null for an interval
+         */
+        final int[] values;
+
+        Domain(int lb, int ub, int[] values) {
+            this.lb = lb;
+            this.ub = ub;
+            this.values = values;
+        }
+    }
+
+    private SolverException error(String message) {
+        return new SolverException("FlatZinc, line " + line + ": " + message);
+    }
+}
@@ -0,0 +1,851 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.serialization;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
+import org.chocosolver.solver.expression.discrete.relational.ReExpression;
+import org.chocosolver.solver.variables.IntVar;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a model from an XCSP3 instance.
+ * <p>
+ * The instance is read with a StAX parser, element by element: each declaration or constraint is turned into
+ * variables or constraints of the model as soon as its closing tag is parsed, only the symbol table (variables and
+ * arrays of variables) is kept in memory.
+ * Time spent reading the instance is stored as the reading time of the solver measures.
+ * <p>
+ * Integer variables and arrays of integer variables (with a single domain) are supported, together with
+ * <code>blocks</code> and the following constraints:
+ * <code>intension</code> (functional form), <code>extension</code>, <code>allDifferent</code>,
+ * <code>allEqual</code>, <code>sum</code>, <code>maximum</code>, <code>minimum</code>, <code>element</code>,
+ * <code>ordered</code> and <code>instantiation</code>.
+ * Objectives are a single <code>minimize</code> or <code>maximize</code> element, either of type
+ * <code>expression</code>, <code>sum</code>, <code>maximum</code> or <code>minimum</code>.
+ * A {@link SolverException} is thrown when another kind of variable, constraint or objective is met.
+ * Annotations are ignored.
+ */
+public class XCSP3Reader {
+
+    /**
+     * Input stream
+     */
+    private final XMLStreamReader in;
+
+    /**
+     * The model being built
+     */
+    private final Model model;
+
+    /**
+     * Variables declared so far: IntVar or Array
+     */
+    private final Map<String, Object> symbols;
+
+    /**
+     * Functional expression being parsed and current position in it
+     */
+    private String expr;
+    private int pos;
+
+    private XCSP3Reader(XMLStreamReader in, Model model) {
+        this.in = in;
+        this.model = model;
+        this.symbols = new HashMap<>();
+    }
+
+    /**
+     * Build the model of the XCSP3 instance stored in <i>path</i>
+     *
+     * @param path an XCSP3 file
+     * @return the model of the instance
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the instance is not valid or not supported
+     */
+    public static Model read(Path path) throws IOException {
+        return read(path, null);
+    }
+
+    /**
+     * Build the model of the XCSP3 instance stored in <i>path</i>
+     *
+     * @param path     an XCSP3 file
+     * @param settings settings of the model to build, or null to use default ones
+     * @return the model of the instance
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the instance is not valid or not supported
+     */
+    public static Model read(Path path, Settings settings) throws IOException {
+        try (InputStream stream = Files.newInputStream(path)) {
+            return read(stream, path.getFileName().toString(), settings);
+        }
+    }
+
+    /**
+     * Build the model of the XCSP3 instance read from <i>stream</i>, which is not closed.
+     *
+     * @param stream   an input stream
+     * @param name     name of the model
+     * @param settings settings of the model to build, or null to use default ones
+     * @return the model of the instance
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the instance is not valid or not supported
+     */
+    public static Model read(InputStream stream, String name, Settings settings) throws IOException {
+        long start = System.nanoTime();
+        Model model = new Model(name);
+        if (settings != null) {
+            model.set(settings);
+        }
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader in = null;
+        try {
+            in = factory.createXMLStreamReader(new BufferedInputStream(stream));
+            XCSP3Reader xcsp = new XCSP3Reader(in, model);
+            while (in.hasNext()) {
+                if (in.next() == XMLStreamConstants.START_ELEMENT) {
+                    xcsp.readElement();
+                }
+            }
+        } catch (XMLStreamException e) {
+            if (e.getNestedException() instanceof IOException) {
+                throw (IOException) e.getNestedException();
+            }
+            throw new SolverException("XCSP3: " + e.getMessage());
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (XMLStreamException ignored) {
+                    // the underlying stream is not closed by the parser
+                }
+            }
+        }
+        model.getSolver().getMeasures().setReadingTimeCount(System.nanoTime() - start);
+        return model;
+    }
+
+    //***********************************************************************************
+    // ELEMENTS
+    //***********************************************************************************
+
+    private void readElement() throws XMLStreamException {
+        String name = in.getLocalName();
+        switch (name) {
+            case "instance":
+                if (!"XCSP3".equals(in.getAttributeValue(null, "format"))) {
+                    throw error("not an XCSP3 instance");
+                }
+                break;
+            case "variables":
+            case "constraints":
+            case "objectives":
+            case "block":
+                // containers, their children are read one by one
+                break;
+            case "annotations":
+                skip();
+                break;
+            case "var":
+                readVar();
+                break;
+            case "array":
+                readArray();
+                break;
+            case "minimize":
+            case "maximize":
+                readObjective(name);
+                break;
+            default:
+                readConstraint(name);
+                break;
+        }
+    }
+
+    private void readVar() throws XMLStreamException {
+        checkInteger();
+        String id = in.getAttributeValue(null, "id");
+        if (in.getAttributeValue(null, "as") != null) {
+            throw error("aliases of variables are not supported");
+        }
+        symbols.put(id, declare(id, readText()));
+    }
+
+    private void readArray() throws XMLStreamException {
+        checkInteger();
+        String id = in.getAttributeValue(null, "id");
+        String[] dims = in.getAttributeValue(null, "size").replaceAll("\\s", "").split("\\]\\[");
+        int[] sizes = new int[dims.length];
+        int n = 1;
+        for (int d = 0; d < dims.length; d++) {
+            sizes[d] = readInt(dims[d].replace("[", "").replace("]", ""));
+            n *= sizes[d];
+        }
+        String domain = readText();
+        IntVar[] vars = new IntVar[n];
+        int[] index = new int[sizes.length];
+        for (int i = 0; i < n; i++) {
+            StringBuilder name = new StringBuilder(id);
+            for (int k : index) {
+                name.append('[').append(k).append(']');
+            }
+            vars[i] = declare(name.toString(), domain);
+            // next index, last dimension first
+            for (int d = sizes.length - 1; d >= 0 && ++index[d] == sizes[d]; d--) {
+                index[d] = 0;
+            }
+        }
+        symbols.put(id, new Array(sizes, vars));
+    }
+
+    private void checkInteger() {
+        String type = in.getAttributeValue(null, "type");
+        if (type != null && !type.equals("integer")) {
+            throw error(type + " variables are not supported");
+        }
+    }
+
+    private IntVar declare(String name, String domain) {
+        String[] parts = domain.trim().split("\\s+");
+        if (parts.length == 1 && parts[0].contains("..")) {
+            int sep = parts[0].indexOf("..");
+            int lb = readBound(parts[0].substring(0, sep));
+            int ub = readBound(parts[0].substring(sep + 2));
+            return model.intVar(name, lb, ub, lb == IntVar.MIN_INT_BOUND || ub == IntVar.MAX_INT_BOUND);
+        }
+        if (parts[0].isEmpty()) {
+            throw error("empty domain for " + name);
+        }
+        TIntArrayList values = new TIntArrayList();
+        for (String part : parts) {
+            addValues(part, values);
+        }
+        values.sort();
+        return model.intVar(name, values.toArray());
+    }
+
+    private void readObjective(String name) throws XMLStreamException {
+        if (model.getObjective() != null) {
+            throw error("multiple objectives are not supported");
+        }
+        String type = in.getAttributeValue(null, "type");
+        Map<String, String> children = readChildren();
+        IntVar objective;
+        if (type == null || type.equals("expression")) {
+            check(children);
+            objective = expression(children.get("")).intVar();
+        } else {
+            check(children, "list", "coeffs");
+            IntVar[] vars = vars(list(children));
+            switch (type) {
+                case "sum":
+                    objective = scalar(vars, coeffs(children, vars.length));
+                    break;
+                case "maximum":
+                case "minimum":
+                    objective = extremum(type, vars);
+                    if (children.containsKey("coeffs")) {
+                        throw error("coefficients of a " + type + " objective are not supported");
+                    }
+                    break;
+                default:
+                    throw error("objectives of type " + type + " are not supported");
+            }
+        }
+        model.setObjective(name.equals("maximize") ? Model.MAXIMIZE : Model.MINIMIZE, objective);
+    }
+
+    //***********************************************************************************
+    // CONSTRAINTS
+    //***********************************************************************************
+
+    private void readConstraint(String name) throws XMLStreamException {
+        Map<String, String> children = readChildren();
+        switch (name) {
+            case "intension":
+                check(children, "function");
+                re(expression(children.containsKey("function") ? children.get("function") : children.get(""))).post();
+                break;
+            case "extension":
+                readExtension(children);
+                break;
+            case "allDifferent":
+                check(children, "list");
+                model.allDifferent(vars(list(children))).post();
+                break;
+            case "allEqual":
+                check(children, "list");
+                model.allEqual(vars(list(children))).post();
+                break;
+            case "sum": {
+                check(children, "list", "coeffs", "condition");
+                IntVar[] vars = vars(children.get("list"));
+                int[] coeffs = coeffs(children, vars.length);
+                String[] condition = condition(children.get("condition"));
+                Object operand = operand(condition[1]);
+                if (operand instanceof Integer) {
+                    model.scalar(vars, coeffs, condition[0], (Integer) operand).post();
+                } else {
+                    model.scalar(vars, coeffs, condition[0], (IntVar) operand).post();
+                }
+            }
+            break;
+            case "maximum":
+            case "minimum": {
+                check(children, "list", "condition");
+                IntVar extremum = extremum(name, vars(children.get("list")));
+                String[] condition = condition(children.get("condition"));
+                Object operand = operand(condition[1]);
+                if (operand instanceof Integer) {
+                    model.arithm(extremum, condition[0], (Integer) operand).post();
+                } else {
+                    model.arithm(extremum, condition[0], (IntVar) operand).post();
+                }
+            }
+            break;
+            case "element": {
+                check(children, "list", "index", "value");
+                if (!children.containsKey("index")) {
+                    throw error("element without index is not supported");
+                }
+                if (children.containsKey("index@rank") && !children.get("index@rank").equals("any")) {
+                    throw error("element with a rank is not supported");
+                }
+                String offset = children.get("list@startIndex");
+                model.element(vars(children.get("value"))[0], vars(children.get("list")), vars(children.get("index"))[0],
+                        offset == null ? 0 : readInt(offset)).post();
+            }
+            break;
+            case "ordered": {
+                check(children, "list", "operator");
+                IntVar[] vars = vars(children.get("list"));
+                String op = operator(children.get("operator"));
+                for (int i = 0; i < vars.length - 1; i++) {
+                    model.arithm(vars[i], op, vars[i + 1]).post();
+                }
+            }
+            break;
+            case "instantiation": {
+                check(children, "list", "values");
+                IntVar[] vars = vars(children.get("list"));
+                int[] values = ints(children.get("values"));
+                if (values.length != vars.length) {
+                    throw error("instantiation of " + vars.length + " variables with " + values.length + " values");
+                }
+                for (int i = 0; i < vars.length; i++) {
+                    model.arithm(vars[i], "=", values[i]).post();
+                }
+            }
+            break;
+            default:
+                throw error("unsupported constraint " + name);
+        }
+    }
+
+    private void readExtension(Map<String, String> children) {
+        check(children, "list", "supports", "conflicts");
+        IntVar[] vars = vars(children.get("list"));
+        boolean feasible = children.containsKey("supports");
+        String text = feasible ? children.get("supports") : children.get("conflicts");
+        if (text == null) {
+            throw error("extension without supports nor conflicts");
+        }
+        if (vars.length == 1) {
+            TIntArrayList values = new TIntArrayList();
+            for (String part : text.trim().split("\\s+")) {
+                if (!part.isEmpty()) {
+                    addValues(part, values);
+                }
+            }
+            values.sort();
+            if (feasible) {
+                model.member(vars[0], values.toArray()).post();
+            } else {
+                model.notMember(vars[0], values.toArray()).post();
+            }
+            return;
+        }
+        Tuples tuples = new Tuples(feasible);
+        String flat = text.replaceAll("\\s", "");
+        if (flat.contains("*")) {
+            if (!feasible || vars.length == 2) {
+                throw error("short tuples are only supported in supports of arity 3 or more");
+            }
+            // a value that no variable can take stands for '*'
+            int star = IntVar.MIN_INT_BOUND - 1;
+            tuples.setUniversalValue(star);
+            flat = flat.replace("*", Integer.toString(star));
+        }
+        if (!flat.isEmpty()) {
+            for (String tuple : flat.substring(1, flat.length() - 1).split("\\)\\(")) {
+                int[] values = ints(tuple.replace(',', ' '));
+                if (values.length != vars.length) {
+                    throw error("tuple (" + tuple + ") does not match the arity " + vars.length);
+                }
+                tuples.add(values);
+            }
+        }
+        model.table(vars, tuples).post();
+    }
+
+    private IntVar extremum(String name, IntVar[] vars) {
+        int lb = Integer.MAX_VALUE, ub = Integer.MIN_VALUE;
+        for (IntVar var : vars) {
+            lb = Math.min(lb, var.getLB());
+            ub = Math.max(ub, var.getUB());
+        }
+        if (name.equals("maximum")) {
+            IntVar max = model.intVar(model.generateName("MAX_"), lb, ub, true);
+            model.max(max, vars).post();
+            return max;
+        }
+        IntVar min = model.intVar(model.generateName("MIN_"), lb, ub, true);
+        model.min(min, vars).post();
+        return min;
+    }
+
+    private IntVar scalar(IntVar[] vars, int[] coeffs) {
+        long lb = 0, ub = 0;
+        for (int i = 0; i < vars.length; i++) {
+            lb += Math.min((long) coeffs[i] * vars[i].getLB(), (long) coeffs[i] * vars[i].getUB());
+            ub += Math.max((long) coeffs[i] * vars[i].getLB(), (long) coeffs[i] * vars[i].getUB());
+        }
+        IntVar sum = model.intVar(model.generateName("SUM_"),
+                (int) Math.max(lb, IntVar.MIN_INT_BOUND), (int) Math.min(ub, IntVar.MAX_INT_BOUND), true);
+        model.scalar(vars, coeffs, "=", sum).post();
+        return sum;
+    }
+
+    /**
+     * Read a condition like <code>(le,10)</code> or <code>(eq,z)</code>.
+     *
+     * @return the operator and the operand
+     */
+    private String[] condition(String text) {
+        if (text == null) {
+            throw error("missing condition");
+        }
+        String flat = text.replaceAll("\\s", "");
+        int comma = flat.indexOf(',');
+        if (!flat.startsWith("(") || !flat.endsWith(")") || comma < 0) {
+            throw error("invalid condition " + text);
+        }
+        return new String[]{operator(flat.substring(1, comma)), flat.substring(comma + 1, flat.length() - 1)};
+    }
+
+    private String operator(String op) {
+        switch (op.trim()) {
+            case "lt":
+                return "<";
+            case "le":
+                return "<=";
+            case "ge":
+                return ">=";
+            case "gt":
+                return ">";
+            case "eq":
+                return "=";
+            case "ne":
+                return "!=";
+            default:
+                throw error("unsupported operator " + op);
+        }
+    }
+
+    /**
+     * @return an Integer or an IntVar
+     */
+    private Object operand(String text) {
+        if (isInt(text)) {
+            return readInt(text);
+        }
+        return vars(text)[0];
+    }
+
+    private int[] coeffs(Map<String, String> children, int n) {
+        if (!children.containsKey("coeffs")) {
+            int[] coeffs = new int[n];
+            Arrays.fill(coeffs, 1);
+            return coeffs;
+        }
+        int[] coeffs = ints(children.get("coeffs"));
+        if (coeffs.length != n) {
+            throw error(n + " variables and " + coeffs.length + " coefficients");
+        }
+        return coeffs;
+    }
+
+    /**
+     * The list of a constraint, either as a <code>list</code> element or as the text of the constraint itself.
+     */
+    private static String list(Map<String, String> children) {
+        return children.containsKey("list") ? children.get("list") : children.get("");
+    }
+
+    /**
+     * Check that the constraint or objective read has no child but the <i>allowed</i> ones.
+     */
+    private void check(Map<String, String> children, String... allowed) {
+        for (String child : children.keySet()) {
+            if (child.isEmpty() || child.contains("@")) {
+                continue;
+            }
+            if (!Arrays.asList(allowed).contains(child)) {
+                throw error("unsupported element " + child);
+            }
+        }
+    }
+
+    //***********************************************************************************
+    // EXPRESSIONS
+    //***********************************************************************************
+
+    private ArExpression expression(String text) {
+        expr = text.trim();
+        pos = 0;
+        ArExpression e = term();
+        if (pos != expr.length()) {
+            throw error("unexpected " + expr.substring(pos) + " in " + expr);
+        }
+        return e;
+    }
+
+    private ArExpression term() {
+        skipBlanks();
+        int start = pos;
+        while (pos < expr.length() && "(),".indexOf(expr.charAt(pos)) < 0 && !Character.isWhitespace(expr.charAt(pos))) {
+            pos++;
+        }
+        String word = expr.substring(start, pos);
+        skipBlanks();
+        if (pos < expr.length() && expr.charAt(pos) == '(') {
+            pos++;
+            List<ArExpression> args = new ArrayList<>();
+            while (true) {
+                args.add(term());
+                skipBlanks();
+                char c = pos < expr.length() ? expr.charAt(pos++) : 0;
+                if (c == ')') {
+                    return apply(word, args);
+                } else if (c != ',') {
+                    throw error("expected ) in " + expr);
+                }
+            }
+        }
+        if (word.isEmpty()) {
+            throw error("unexpected end of " + expr);
+        }
+        if (isInt(word)) {
+            return model.intVar(readInt(word));
+        }
+        return vars(word)[0];
+    }
+
+    private void skipBlanks() {
+        while (pos < expr.length() && Character.isWhitespace(expr.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private ArExpression apply(String op, List<ArExpression> args) {
+        ArExpression a = args.get(0);
+        ArExpression[] others = args.subList(1, args.size()).toArray(new ArExpression[0]);
+        switch (op) {
+            case "neg":
+                return a.neg();
+            case "abs":
+                return a.abs();
+            case "sqr":
+                return a.sqr();
+            case "add":
+                return a.add(others);
+            case "sub":
+                return a.sub(others[0]);
+            case "mul":
+                return a.mul(others);
+            case "div":
+                return a.div(others[0]);
+            case "mod":
+                return a.mod(others[0]);
+            case "pow":
+                return a.pow(others[0]);
+            case "dist":
+                return a.dist(others[0]);
+            case "min":
+                return a.min(others);
+            case "max":
+                return a.max(others);
+            case "lt":
+                return a.lt(others[0]);
+            case "le":
+                return a.le(others[0]);
+            case "ge":
+                return a.ge(others[0]);
+            case "gt":
+                return a.gt(others[0]);
+            case "ne":
+                return a.ne(others[0]);
+            case "eq":
+                return a.eq(others);
+            case "not":
+                return re(a).not();
+            case "and":
+                return re(a).and(res(others));
+            case "or":
+                return re(a).or(res(others));
+            case "iff":
+                return re(a).iff(res(others));
+            case "xor":
+                return re(a).xor(re(others[0]));
+            case "imp":
+                return re(a).imp(re(others[0]));
+            default:
+                throw error("unsupported operator " + op + " in " + expr);
+        }
+    }
+
+    /**
+     * A 0/1 expression, seen as a relation
+     */
+    private static ReExpression re(ArExpression e) {
+        return e instanceof ReExpression ? (ReExpression) e : e.eq(1);
+    }
+
+    private static ReExpression[] res(ArExpression[] es) {
+        ReExpression[] res = new ReExpression[es.length];
+        for (int i = 0; i < es.length; i++) {
+            res[i] = re(es[i]);
+        }
+        return res;
+    }
+
+    //***********************************************************************************
+    // LISTS
+    //***********************************************************************************
+
+    /**
+     * Variables of a list of references like <code>x y[2] z[][1] w[0..3]</code>, integers being turned into
+     * constants.
+     */
+    private IntVar[] vars(String text) {
+        if (text == null) {
+            throw error("missing list of variables");
+        }
+        List<IntVar> vars = new ArrayList<>();
+        for (String ref : text.trim().split("\\s+")) {
+            if (ref.isEmpty()) {
+                continue;
+            }
+            if (isInt(ref)) {
+                vars.add(model.intVar(readInt(ref)));
+                continue;
+            }
+            int b = ref.indexOf('[');
+            String id = b < 0 ? ref : ref.substring(0, b);
+            Object value = symbols.get(id);
+            if (value == null) {
+                throw error("unknown identifier " + id);
+            }
+            if (value instanceof IntVar) {
+                if (b >= 0) {
+                    throw error(id + " is not an array");
+                }
+                vars.add((IntVar) value);
+            } else {
+                Array array = (Array) value;
+                String[] indices = b < 0 ? new String[array.sizes.length]
+                        : ref.substring(b + 1, ref.length() - 1).split("\\]\\[", -1);
+                if (indices.length != array.sizes.length) {
+                    throw error(ref + " does not match the dimensions of " + id);
+                }
+                collect(array, indices, 0, 0, vars);
+            }
+        }
+        return vars.toArray(new IntVar[0]);
+    }
+
+    private void collect(Array array, String[] indices, int d, int offset, List<IntVar> vars) {
+        if (d == indices.length) {
+            vars.add(array.vars[offset]);
+            return;
+        }
+        int from = 0, to = array.sizes[d] - 1;
+        String index = indices[d];
+        if (index != null && !index.isEmpty()) {
+            int sep = index.indexOf("..");
+            from = readInt(sep < 0 ? index : index.substring(0, sep));
+            to = sep < 0 ? from : readInt(index.substring(sep + 2));
+        }
+        if (from < 0 || to >= array.sizes[d]) {
+            throw error("index out of bounds " + index);
+        }
+        for (int i = from; i <= to; i++) {
+            collect(array, indices, d + 1, offset * array.sizes[d] + i, vars);
+        }
+    }
+
+    private int[] ints(String text) {
+        TIntArrayList values = new TIntArrayList();
+        for (String part : text.trim().split("\\s+")) {
+            if (!part.isEmpty()) {
+                addValues(part, values);
+            }
+        }
+        return values.toArray();
+    }
+
+    private void addValues(String part, TIntArrayList values) {
+        int sep = part.indexOf("..");
+        if (sep < 0) {
+            values.add(readInt(part));
+        } else {
+            int lb = readInt(part.substring(0, sep));
+            int ub = readInt(part.substring(sep + 2));
+            for (int v = lb; v <= ub; v++) {
+                values.add(v);
+            }
+        }
+    }
+
+    private int readBound(String text) {
+        switch (text) {
+            case "-infinity":
+                return IntVar.MIN_INT_BOUND;
+            case "+infinity":
+                return IntVar.MAX_INT_BOUND;
+            default:
+                return readInt(text);
+        }
+    }
+
+    private int readInt(String text) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw error("expected an integer instead of " + text);
+        }
+    }
+
+    private static boolean isInt(String token) {
+        return !token.isEmpty() && (Character.isDigit(token.charAt(0))
+                || (token.charAt(0) == '-' || token.charAt(0) == '+') && token.length() > 1);
+    }
+
+    //***********************************************************************************
+    // XML
+    //***********************************************************************************
+
+    /**
+     * Read the text of the current element, up to its closing tag.
+     */
+    private String readText() throws XMLStreamException {
+        String element = in.getLocalName();
+        StringBuilder text = new StringBuilder();
+        while (true) {
+            switch (in.next()) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    text.append(in.getText());
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    throw error("unsupported element " + in.getLocalName() + " in " + element);
+                case XMLStreamConstants.END_ELEMENT:
+                    return text.toString().trim();
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Read the children of the current element, up to its closing tag.
+     *
+     * @return the text of each child by name, the attributes of a child as <code>child@attribute</code> and the text
+     * of the element itself as the empty name
+     */
+    private Map<String, String> readChildren() throws XMLStreamException {
+        Map<String, String> children = new HashMap<>();
+        StringBuilder text = new StringBuilder();
+        while (true) {
+            switch (in.next()) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    text.append(in.getText());
+                    break;
+                case XMLStreamConstants.START_ELEMENT: {
+                    String child = in.getLocalName();
+                    for (int i = 0; i < in.getAttributeCount(); i++) {
+                        children.put(child + "@" + in.getAttributeLocalName(i), in.getAttributeValue(i));
+                    }
+                    children.put(child, readText());
+                }
+                break;
+                case XMLStreamConstants.END_ELEMENT:
+                    children.put("", text.toString().trim());
+                    return children;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private void skip() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = in.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Array of variables, stored row by row
+     */
+    private static class Array {
+
+        final int[] sizes;
+
+        final IntVar[] vars;
+
+        Array(int[] sizes, IntVar[] vars) {
+            this.sizes = sizes;
+            this.vars = vars;
+        }
+    }
+
+    private SolverException error(String message) {
+        return new SolverException("XCSP3, line " + in.getLocation().getLineNumber() + ": " + message);
+    }
+}
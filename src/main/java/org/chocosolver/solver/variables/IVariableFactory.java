@@ -218,6 +218,10 @@ public interface IVariableFactory extends ISelf<Model> {
             return boolVar(name);
         } else  if(boundedDomain) {
             return new IntervalIntVarImpl(name, lb, ub, _me());
+        } else if (_me().getSettings().enableSparseSetDomain(ub - lb + 1)) {
+            return new SparseSetIntVarImpl(name, lb, ub, _me());
+        } else if (_me().getSettings().enableRangeSetDomain(ub - lb + 1, 1)) {
+            return new RangeSetIntVarImpl(name, lb, ub, _me());
         } else {
             return new BitsetIntVarImpl(name, lb, ub, _me());
         }
@@ -250,9 +254,19 @@ public interface IVariableFactory extends ISelf<Model> {
             return intVar(name, values[0]);
         } else if (values.length == 2 && values[0] == 0 && values[1] == 1) {
             return boolVar(name);
+        } else if (_me().getSettings().enableSparseSetDomain(values.length)) {
+            return new SparseSetIntVarImpl(name, values, _me());
         } else {
             int gap = values[values.length - 1] - values[0];
-            if (gap > 30 && gap / values.length > 5) {
+            int nbRanges = 1;
+            for (int i = 1; i < values.length; i++) {
+                if (values[i] > values[i - 1] + 1) {
+                    nbRanges++;
+                }
+            }
+            if (_me().getSettings().enableRangeSetDomain(gap + 1, nbRanges)) {
+                return new RangeSetIntVarImpl(name, values, _me());
+            } else if (gap > 30 && gap / values.length > 5) {
                 return new BitsetArrayIntVarImpl(name, values, _me());
             } else {
                 return new BitsetIntVarImpl(name, values, _me());
@@ -12,6 +12,10 @@ import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.real.IntEqRealConstraint;
 import org.chocosolver.solver.variables.view.*;
+import org.chocosolver.util.tools.MathUtils;
+
+import java.util.Arrays;
+import java.util.List;
 
 import static java.lang.Math.max;
 
@@ -74,7 +78,7 @@ public interface IViewFactory extends ISelf<Model> {
             return _me().intVar(name, var.getValue() + cste);
         }
         if (_me().getSettings().enableViews()) {
-            return new OffsetView(var, cste);
+            return intAffineView(1, var, cste);
         } else {
             int lb = var.getLB() + cste;
             int ub = var.getUB() + cste;
@@ -101,11 +105,7 @@ public interface IViewFactory extends ISelf<Model> {
             return _me().intVar(-var.getValue());
         }
         if (_me().getSettings().enableViews()) {
-            if(var instanceof MinusView){
-                return ((MinusView)var).getVariable();
-            }else {
-                return new MinusView(var);
-            }
+            return intAffineView(-1, var, 0);
         } else {
             int ub = -var.getLB();
             int lb = -var.getUB();
@@ -152,7 +152,7 @@ public interface IViewFactory extends ISelf<Model> {
                     return _me().intVar(var.getValue() * cste);
                 }
                 if (_me().getSettings().enableViews()) {
-                    v2 = new ScaleView(var, cste);
+                    return intAffineView(cste, var, 0);
                 } else {
                     int lb = var.getLB() * cste;
                     int ub = var.getUB() * cste;
@@ -171,6 +171,109 @@ public interface IViewFactory extends ISelf<Model> {
         }
     }
 
+    /**
+     * Creates a view over <i>var</i> equal to <i>a*var+b</i>.
+     * <p>
+     * When <i>var</i> is itself an offset, minus, scale, affine or boolean negation view,
+     * the views are fused: the returned view directly observes the underlying variable,
+     * so that modifications are not forwarded through a chain of views.
+     * <p>
+     * <br/>- if <i>a</i> = 0 or <i>var</i> is instantiated, returns a fixed variable;
+     * <br/>- if <i>a</i> = 1 and <i>b</i> = 0, returns <i>var</i>;
+     * <br/>- if <i>a</i> = 1, returns an offset view;
+     * <br/>- if <i>a</i> = -1 and <i>b</i> = 0, returns a minus view;
+     * <br/>- if <i>a</i> &gt; 1 and <i>b</i> = 0, returns a scale view;
+     * <br/>- otherwise, returns an affine view;
+     * <p>
+     * @param a    a coefficient
+     * @param var  an integer variable
+     * @param b    a constant
+     * @return an IntVar equal to <i>a*var+b</i>
+     */
+    default IntVar intAffineView(int a, IntVar var, int b) {
+        if (_me().getSettings().enableViews()) {
+            // fuse the chain of views into a single one,
+            // unless the coefficients overflow: then, the new view observes the current one
+            while (var instanceof IntView) {
+                IntView view = (IntView) var;
+                long na, nb;
+                if (view instanceof OffsetView) {
+                    na = a;
+                    nb = b + (long) a * ((OffsetView) view).cste;
+                } else if (view instanceof ScaleView) {
+                    na = (long) a * ((ScaleView) view).cste;
+                    nb = b;
+                } else if (view instanceof MinusView) {
+                    na = -(long) a;
+                    nb = b;
+                } else if (view instanceof AffineView) {
+                    na = (long) a * ((AffineView) view).a;
+                    nb = b + (long) a * ((AffineView) view).b;
+                } else if (view instanceof BoolNotView) {
+                    na = -(long) a;
+                    nb = (long) b + a;
+                } else {
+                    break;
+                }
+                if (na != (int) na || nb != (int) nb) {
+                    break;
+                }
+                a = (int) na;
+                b = (int) nb;
+                var = view.getVariable();
+            }
+        }
+        if (a == 0) {
+            return _me().intVar(b);
+        }
+        if (var.isInstantiated()) {
+            long value = (long) a * var.getValue() + b;
+            if (value == (int) value) {
+                return _me().intVar((int) value);
+            }
+        }
+        if (a == 1 && b == 0) {
+            return var;
+        }
+        // an identical view may already exist
+        List<Object> key = null;
+        if (_me().getSettings().enableStructuralHashing()) {
+            key = Arrays.asList("affine", a, var, b);
+            Variable known = _me().getCachedVariables().get(key);
+            if (known != null) {
+                return (IntVar) known;
+            }
+        }
+        IntVar view;
+        if (_me().getSettings().enableViews()) {
+            if (a == 1) {
+                view = new OffsetView(var, b);
+            } else if (b == 0 && a == -1) {
+                view = new MinusView(var);
+            } else if (b == 0 && a > 0) {
+                view = new ScaleView(var, a);
+            } else {
+                view = new AffineView(a, var, b);
+            }
+        } else {
+            int lb = MathUtils.safeAdd(MathUtils.safeMultiply(a, a > 0 ? var.getLB() : var.getUB()), b);
+            int ub = MathUtils.safeAdd(MathUtils.safeMultiply(a, a > 0 ? var.getUB() : var.getLB()), b);
+            String name = "(" + a + "*" + var.getName() + (b >= 0 ? "+" : "-") + Math.abs(b) + ")";
+            IntVar ov;
+            if (var.hasEnumeratedDomain()) {
+                ov = _me().intVar(name, lb, ub, false);
+            } else {
+                ov = _me().intVar(name, lb, ub, true);
+            }
+            _me().scalar(new IntVar[]{var, ov}, new int[]{a, -1}, "=", -b).post();
+            view = ov;
+        }
+        if (key != null) {
+            _me().getCachedVariables().put(key, view);
+        }
+        return view;
+    }
+
     /**
      * Creates a view over <i>var</i> such that: |<i>var</i>|.
      * <p>
@@ -17,6 +17,7 @@ import org.chocosolver.solver.variables.events.IEventType;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.iterators.DisposableRangeIterator;
 import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
 
 
@@ -99,6 +100,50 @@ public interface IntVar extends ICause, Variable, Iterable<Integer>, ArExpressio
      */
     boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException;
 
+    /**
+     * Removes the values encoded in <code>mask</code> from the domain of <code>this</code>.
+     * The value <code>offset + i</code> is removed if the bit <code>i</code> of <code>mask</code> is set,
+     * that is, if <code>(mask[i / 64] &gt;&gt;&gt; (i % 64)) &amp; 1</code> is equal to 1.
+     * Behaves like {@link #removeValues(IntIterableSet, ICause)} but implementations
+     * based on bitsets can apply the removals one word at a time.
+     *
+     * @param mask   words encoding the values to remove
+     * @param offset value associated with the first bit of <code>mask</code>
+     * @param cause  removal release
+     * @return true if at least a value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    default boolean removeValues(long[] mask, int offset, ICause cause) throws ContradictionException {
+        boolean hasChanged = false;
+        for (int w = 0; w < mask.length; w++) {
+            // set bits are visited from the lowest one, without any allocation
+            for (long word = mask[w]; word != 0; word &= word - 1) {
+                int value = offset + (w << 6) + Long.numberOfTrailingZeros(word);
+                if (value > getUB()) {
+                    return hasChanged;
+                }
+                hasChanged |= removeValue(value, cause);
+            }
+        }
+        return hasChanged;
+    }
+
+    /**
+     * Removes all values from the domain of <code>this</code> except those encoded in <code>mask</code>.
+     * The value <code>offset + i</code> is kept if the bit <code>i</code> of <code>mask</code> is set.
+     * Behaves like {@link #removeAllValuesBut(IntIterableSet, ICause)} but implementations
+     * based on bitsets can apply the removals one word at a time.
+     *
+     * @param mask   words encoding the values to keep
+     * @param offset value associated with the first bit of <code>mask</code>
+     * @param cause  removal release
+     * @return true if a at least a value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    default boolean removeAllValuesBut(long[] mask, int offset, ICause cause) throws ContradictionException {
+        return removeAllValuesBut(new IntIterableRangeSet(mask, offset), cause);
+    }
+
     /**
      * Removes values between [<code>from, to</code>] from the domain of <code>this</code>. The instruction comes from <code>propagator</code>.
      * <ul>
@@ -111,6 +111,84 @@ public interface SetVar extends Variable {
      */
     boolean instantiateTo(int[] value, ICause cause) throws ContradictionException;
 
+    /**
+     * Adds to the lower bound the elements <code>from + k</code>, for each bit <i>k</i> set in <code>mask</code>.
+     * Observers are notified once.
+     *
+     * @param from first element of the word
+     * @param mask bits of the elements to add
+     * @param cause cause of values addition
+     * @return true iff at least one element has been added to the lower bound
+     * @throws ContradictionException if one of the elements does not belong to the upper bound
+     */
+    default boolean forceWord(int from, long mask, ICause cause) throws ContradictionException {
+        boolean change = false;
+        for (long word = mask; word != 0; word &= word - 1) {
+            change |= force(from + Long.numberOfTrailingZeros(word), cause);
+        }
+        return change;
+    }
+
+    /**
+     * Removes from the upper bound the elements <code>from + k</code>, for each bit <i>k</i> set in <code>mask</code>.
+     * Observers are notified once.
+     *
+     * @param from first element of the word
+     * @param mask bits of the elements to remove
+     * @param cause cause of values removal
+     * @return true iff at least one element has been removed from the upper bound
+     * @throws ContradictionException if one of the elements belongs to the lower bound
+     */
+    default boolean removeWord(int from, long mask, ICause cause) throws ContradictionException {
+        boolean change = false;
+        for (long word = mask; word != 0; word &= word - 1) {
+            change |= remove(from + Long.numberOfTrailingZeros(word), cause);
+        }
+        return change;
+    }
+
+    /**
+     * Returns the 64 elements of the lower bound starting from <code>from</code>:
+     * the bit <i>k</i> of the word is set iff <code>from + k</code> belongs to the lower bound.
+     *
+     * @param from first element of the word
+     * @return the bits of the word
+     */
+    default long getLBWord(int from) {
+        long word = 0L;
+        for (int k = 0; k < 64; k++) {
+            if (getLB().contains(from + k)) {
+                word |= 1L << k;
+            }
+        }
+        return word;
+    }
+
+    /**
+     * Returns the 64 elements of the upper bound starting from <code>from</code>:
+     * the bit <i>k</i> of the word is set iff <code>from + k</code> belongs to the upper bound.
+     *
+     * @param from first element of the word
+     * @return the bits of the word
+     */
+    default long getUBWord(int from) {
+        long word = 0L;
+        for (int k = 0; k < 64; k++) {
+            if (getUB().contains(from + k)) {
+                word |= 1L << k;
+            }
+        }
+        return word;
+    }
+
+    /**
+     * @return <tt>true</tt> if both bounds are stored in bitsets,
+     * that is, if word-level methods are done in constant time
+     */
+    default boolean hasBitsetDomain() {
+        return false;
+    }
+
     /**
      * Retrieves the current value of the variable if instantiated, otherwise the lower bound (kernel).
      *
@@ -8,37 +8,60 @@
  */
 package org.chocosolver.solver.variables.delta;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.search.loop.TimeStampedObject;
 
+import java.util.Arrays;
+
 /**
  * A class to store the removed value of an integer variable.
  * <p/>
  * It defines methods to <code>add</code> a value, <code>clear</code> the structure
  * and execute a <code>Procedure</code> for each value stored.
+ * <p/>
+ * Causes are stored once per sequence of consecutive removals with the same cause,
+ * which is the common case (bound updates, bulk removals, ...).
  */
 public final class EnumDelta extends TimeStampedObject implements IEnumDelta {
     private static final int SIZE = 32;
 
     private int[] rem;
+    /**
+     * Cause of each sequence of removals
+     */
     private ICause[] causes;
+    /**
+     * Rank of the first value of each sequence of removals
+     */
+    private int[] starts;
+    private int nbRuns;
     private int last;
 
     public EnumDelta(IEnvironment environment) {
 		super(environment);
         rem = new int[SIZE];
         causes = new ICause[SIZE];
+        starts = new int[SIZE];
     }
 
     private void ensureCapacity() {
         if (last >= rem.length) {
             int[] tmp = new int[last * 3 / 2 + 1];
-            ICause[] tmpc = new ICause[last * 3 / 2 + 1];
             System.arraycopy(rem, 0, tmp, 0, last);
-            System.arraycopy(causes, 0, tmpc, 0, last);
             rem = tmp;
+        }
+    }
+
+    private void ensureRunCapacity() {
+        if (nbRuns >= causes.length) {
+            ICause[] tmpc = new ICause[nbRuns * 3 / 2 + 1];
+            int[] tmps = new int[nbRuns * 3 / 2 + 1];
+            System.arraycopy(causes, 0, tmpc, 0, nbRuns);
+            System.arraycopy(starts, 0, tmps, 0, nbRuns);
             causes = tmpc;
+            starts = tmps;
         }
     }
 
@@ -46,6 +69,7 @@ public final class EnumDelta extends TimeStampedObject implements IEnumDelta {
     public void lazyClear() {
         if (needReset()) {
 			last = 0;
+			nbRuns = 0;
 			resetStamp();
         }
     }
@@ -60,10 +84,23 @@ public final class EnumDelta extends TimeStampedObject implements IEnumDelta {
     public void add(int value, ICause cause) {
 		lazyClear();
         ensureCapacity();
-        causes[last] = cause;
+        if (nbRuns == 0 || causes[nbRuns - 1] != cause) {
+            ensureRunCapacity();
+            causes[nbRuns] = cause;
+            starts[nbRuns++] = last;
+        }
         rem[last++] = value;
     }
 
+    /**
+     * @param idx rank of a value
+     * @return the sequence of removals the idx^th value belongs to
+     */
+    private int runOf(int idx) {
+        int r = Arrays.binarySearch(starts, 0, nbRuns, idx);
+        return r >= 0 ? r : -r - 2;
+    }
+
     @Override
     public int get(int idx) {
         return rem[idx];
@@ -71,7 +108,21 @@ public final class EnumDelta extends TimeStampedObject implements IEnumDelta {
 
     @Override
     public ICause getCause(int idx) {
-        return causes[idx];
+        if (idx < 0 || idx >= last) {
+            throw new IndexOutOfBoundsException("EnumDelta#getCause(): " + idx);
+        }
+        return causes[runOf(idx)];
+    }
+
+    @Override
+    public int nextCauseChange(int idx) {
+        int r = runOf(idx) + 1;
+        return r < nbRuns ? starts[r] : last;
+    }
+
+    @Override
+    public void copyTo(int from, int to, TIntArrayList values) {
+        values.add(rem, from, to - from);
     }
 
     @Override
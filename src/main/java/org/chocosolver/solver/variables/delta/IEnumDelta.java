@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.variables.delta;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.ICause;
 
 /**
@@ -34,4 +35,28 @@ public interface IEnumDelta extends IntDelta {
      * @throws IndexOutOfBoundsException if idx is out of the bounds
      */
     int get(int idx) throws IndexOutOfBoundsException;
+
+    /**
+     * Return the rank of the first value, stored after the idx^th one, whose cause differs from the idx^th value's one.
+     * Values stored in [idx, nextCauseChange(idx)[ share the same cause.
+     *
+     * @param idx rank of a value
+     * @return the rank of the next value with a different cause, or {@link #size()}
+     */
+    default int nextCauseChange(int idx) {
+        return idx + 1;
+    }
+
+    /**
+     * Add the values stored in [from, to[ to <i>values</i>
+     *
+     * @param from rank of the first value (inclusive)
+     * @param to   rank of the last value (exclusive)
+     * @param values list to fill
+     */
+    default void copyTo(int from, int to, TIntArrayList values) {
+        for (int i = from; i < to; i++) {
+            values.add(get(i));
+        }
+    }
 }
@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.variables.delta;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.procedure.SafeIntProcedure;
@@ -24,6 +25,17 @@ public interface IIntDeltaMonitor extends IDeltaMonitor {
 
     void forEachRemVal(IntProcedure proc) throws ContradictionException;
 
+    /**
+     * Add all removed values, except the ones removed by the monitoring propagator, to <i>values</i>.
+     * Should be preferred to {@link #forEachRemVal(IntProcedure)} when the values can be processed in a loop,
+     * since values are copied by slices.
+     *
+     * @param values list to fill, not cleared before
+     */
+    default void getRemovedValues(TIntArrayList values) {
+        forEachRemVal((SafeIntProcedure) values::add);
+    }
+
 	/**
      * @return a rough estimation of the number of removed values 
      */
@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.variables.delta.monitor;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -60,19 +61,38 @@ public class EnumDeltaMonitor extends TimeStampedObject implements IIntDeltaMoni
 
     @Override
     public void forEachRemVal(SafeIntProcedure proc) {
-		for (int i = frozenFirst; i < frozenLast; i++) {
+		for (int i = frozenFirst; i < frozenLast; ) {
+			int to = Math.min(delta.nextCauseChange(i), frozenLast);
 			if (propagator == Cause.Null || propagator != delta.getCause(i)) {
-				proc.execute(delta.get(i));
+				for (int j = i; j < to; j++) {
+					proc.execute(delta.get(j));
+				}
 			}
+			i = to;
 		}
     }
 
     @Override
     public void forEachRemVal(IntProcedure proc) throws ContradictionException {
-		for (int i = frozenFirst; i < frozenLast; i++) {
+		for (int i = frozenFirst; i < frozenLast; ) {
+			int to = Math.min(delta.nextCauseChange(i), frozenLast);
 			if (propagator == Cause.Null || propagator != delta.getCause(i)) {
-				proc.execute(delta.get(i));
+				for (int j = i; j < to; j++) {
+					proc.execute(delta.get(j));
+				}
 			}
+			i = to;
+		}
+    }
+
+    @Override
+    public void getRemovedValues(TIntArrayList values) {
+		for (int i = frozenFirst; i < frozenLast; ) {
+			int to = Math.min(delta.nextCauseChange(i), frozenLast);
+			if (propagator == Cause.Null || propagator != delta.getCause(i)) {
+				delta.copyTo(i, to, values);
+			}
+			i = to;
 		}
     }
 
@@ -71,6 +71,14 @@ public abstract class AbstractVariable implements Variable {
      */
     protected static final String MSG_BOUND = "new bounds are incorrect";
 
+    /**
+     * Shared empty arrays, replaced on first insertion
+     */
+    private static final Propagator[] NO_PROPAGATOR = new Propagator[0];
+    private static final int[] NO_INDEX = new int[0];
+    private static final IView[] NO_VIEW = new IView[0];
+    private static final IVariableMonitor[] NO_MONITOR = new IVariableMonitor[0];
+
     /**
      * Unique ID of this variable.
      */
@@ -137,10 +145,11 @@ public abstract class AbstractVariable implements Variable {
     protected AbstractVariable(String name, Model model) {
         this.name = name;
         this.model = model;
-        this.views = new IView[2];
-        this.monitors = new IVariableMonitor[2];
-        this.propagators = new Propagator[8];
-        this.pindices = new int[8];
+        // arrays are allocated on first insertion, many variables have no view nor monitor
+        this.views = NO_VIEW;
+        this.monitors = NO_MONITOR;
+        this.propagators = NO_PROPAGATOR;
+        this.pindices = NO_INDEX;
         this.dindices = new int[6];
         this.ID = this.model.nextId();
         this.model.associates(this);
@@ -175,11 +184,11 @@ public abstract class AbstractVariable implements Variable {
         // 1. ensure capacity
         if (dindices[5] == propagators.length) {
             Propagator[] tmp = propagators;
-            propagators = new Propagator[tmp.length * 3 / 2 + 1];
+            propagators = new Propagator[tmp.length == 0 ? 2 : tmp.length * 3 / 2 + 1];
             System.arraycopy(tmp, 0, propagators, 0, dindices[5]);
 
             int[] itmp = pindices;
-            pindices = new int[itmp.length * 3 / 2 + 1];
+            pindices = new int[propagators.length];
             System.arraycopy(itmp, 0, pindices, 0, dindices[5]);
             if(pindices.length != propagators.length){
                 throw new UnsupportedOperationException("error: pindices.length != propagators.length in "+this);
@@ -286,7 +295,10 @@ public abstract class AbstractVariable implements Variable {
     @Override
     public void notifyPropagators(IEventType event, ICause cause) throws ContradictionException {
         assert cause != null;
-        model.getSolver().getEngine().onVariableUpdate(this, event, cause);
+        // the engine does not need to be informed of an event when no propagator observes this variable
+        if (getNbProps() > 0) {
+            model.getSolver().getEngine().onVariableUpdate(this, event, cause);
+        }
         notifyMonitors(event);
         notifyViews(event, cause);
     }
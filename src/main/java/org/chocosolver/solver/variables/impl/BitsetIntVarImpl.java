@@ -296,6 +296,79 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         return hasRemoved || hasChanged;
     }
 
+    @Override
+    public boolean removeValues(long[] mask, int offset, ICause cause) throws ContradictionException {
+        return removeWords(mask, offset, false, cause);
+    }
+
+    @Override
+    public boolean removeAllValuesBut(long[] mask, int offset, ICause cause) throws ContradictionException {
+        return removeWords(mask, offset, true, cause);
+    }
+
+    /**
+     * Removes the values encoded in <i>mask</i>, or the ones not encoded in <i>mask</i> when <i>keep</i> is set,
+     * one word of {@link #VALUES} at a time. A single event is sent to observers.
+     */
+    private boolean removeWords(long[] mask, int offset, boolean keep, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = LB.get();
+        int oub = UB.get();
+        int shift = OFFSET - offset;
+        int count = SIZE.get();
+        for (int wi = olb >> 6; wi <= oub >> 6; wi++) {
+            long window = window(mask, shift + (wi << 6));
+            long rem = VALUES.getWord(wi) & (keep ? ~window : window);
+            if (rem != 0) {
+                // the iteration is mandatory for delta and observers
+                for (long bits = rem; bits != 0; bits &= bits - 1) {
+                    int value = (wi << 6) + Long.numberOfTrailingZeros(bits) + OFFSET;
+                    model.getSolver().getExplainer().removeValue(this, value, cause);
+                    if (count == 1) {
+                        this.contradiction(cause, MSG_REMOVE);
+                    }
+                    count--;
+                    if (reactOnRemoval) {
+                        delta.add(value, cause);
+                    }
+                }
+                VALUES.clearWord(wi, rem);
+            }
+        }
+        if (count == SIZE.get()) {
+            return false;
+        }
+        SIZE.set(count);
+        IntEventType e = IntEventType.REMOVE;
+        if (!VALUES.get(olb)) {
+            LB.set(VALUES.nextSetBit(olb));
+            e = IntEventType.INCLOW;
+        }
+        if (!VALUES.get(oub)) {
+            UB.set(VALUES.prevSetBit(oub));
+            e = e == IntEventType.INCLOW ? IntEventType.BOUND : IntEventType.DECUPP;
+        }
+        if (count == 1) {
+            e = IntEventType.INSTANTIATE;
+        }
+        this.notifyPropagators(e, cause);
+        return true;
+    }
+
+    /**
+     * @return the 64 bits of <i>mask</i> starting at bit <i>from</i>, which may be negative,
+     * bits out of <i>mask</i> being unset
+     */
+    private static long window(long[] mask, int from) {
+        int w = from >> 6;
+        int s = from & 63;
+        long word = w >= 0 && w < mask.length ? mask[w] >>> s : 0L;
+        if (s != 0 && w + 1 >= 0 && w + 1 < mask.length) {
+            word |= mask[w + 1] << (64 - s);
+        }
+        return word;
+    }
+
     @Override
     public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
         assert cause != null;
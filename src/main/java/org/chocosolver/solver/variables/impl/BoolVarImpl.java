@@ -65,7 +65,7 @@ public class BoolVarImpl extends AbstractVariable implements BoolVar {
     /**
      * Value iterator allowing for(int i:this) loops
      */
-    private IntVarValueIterator _javaIterator = new IntVarValueIterator(this);
+    private IntVarValueIterator _javaIterator;
     /**
      * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
      * on value removal
@@ -468,6 +468,9 @@ public class BoolVarImpl extends AbstractVariable implements BoolVar {
 
     @Override
     public Iterator<Integer> iterator() {
+        if (_javaIterator == null) {
+            _javaIterator = new IntVarValueIterator(this);
+        }
         _javaIterator.reset();
         return _javaIterator;
     }
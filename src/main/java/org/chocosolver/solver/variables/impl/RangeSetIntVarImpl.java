@@ -0,0 +1,802 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.EnumDelta;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.EnumDeltaMonitor;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.IntVarValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * <br/>IntVar implementation based on a reversible list of disjoint intervals.
+ * <p>
+ * The current domain is stored as sorted interval bounds, as in
+ * {@link org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet}, so the memory
+ * footprint depends on the number of holes and not on the size of the domain.
+ * Membership is checked by a binary search over the intervals, and removing a value within an interval
+ * splits it in two.
+ * The intervals are saved at most once per world, upon the first modification,
+ * and restored upon backtrack.
+ * This implementation is thus suited to huge enumerated domains with few holes (e.g., timestamps).
+ *
+ * @see BitsetIntVarImpl
+ * @see SparseSetIntVarImpl
+ */
+public final class RangeSetIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Valuated to <tt>true</tt> when removed values are stored.
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Bounds of the intervals of the current domain: [lb_1, ub_1, lb_2, ub_2, ...]
+     */
+    private int[] ELEMENTS;
+    /**
+     * Used size in {@link #ELEMENTS}, twice the number of intervals
+     */
+    private int SIZE;
+    /**
+     * Size of the current domain
+     */
+    private int CARDINALITY;
+    /**
+     * World index of the last save of the intervals
+     */
+    private int timestamp;
+    /**
+     * Delta object to store removed values
+     */
+    private IEnumDelta delta = NoDelta.singleton;
+    /**
+     * Disposable values iterator
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * Disposable ranges iterator
+     */
+    private DisposableRangeIterator _riterator;
+    /**
+     * Value iterator allowing for(int i:this) loops
+     */
+    private IntVarValueIterator _javaIterator;
+
+    //////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an {@link IntVar} based on a list of intervals built from ordered values.
+     *
+     * @param name         name of the variable
+     * @param sortedValues domain values
+     * @param model        the model to declare this variable in
+     */
+    public RangeSetIntVarImpl(String name, int[] sortedValues, Model model) {
+        super(name, model);
+        this.ELEMENTS = new int[2];
+        for (int i = 0; i < sortedValues.length; i++) {
+            if (SIZE > 0 && ELEMENTS[SIZE - 1] == sortedValues[i] - 1) {
+                ELEMENTS[SIZE - 1]++;
+            } else {
+                if (SIZE == ELEMENTS.length) {
+                    ELEMENTS = Arrays.copyOf(ELEMENTS, SIZE << 1);
+                }
+                ELEMENTS[SIZE++] = sortedValues[i];
+                ELEMENTS[SIZE++] = sortedValues[i];
+            }
+        }
+        this.CARDINALITY = sortedValues.length;
+        this.timestamp = -1;
+    }
+
+    /**
+     * Creates an {@link IntVar} based on a single interval [<i>min</i>, <i>max</i>].
+     *
+     * @param name  name of the variable
+     * @param min   lower bound
+     * @param max   upper bound
+     * @param model the model to declare this variable in
+     */
+    public RangeSetIntVarImpl(String name, int min, int max, Model model) {
+        super(name, model);
+        this.ELEMENTS = new int[]{min, max};
+        this.SIZE = 2;
+        this.CARDINALITY = max - min + 1;
+        this.timestamp = -1;
+    }
+
+    //////////////////////////////////////////////////////////////////////////////////////
+    // INTERVALS
+
+    /**
+     * @param value a value
+     * @return the position in {@link #ELEMENTS} of the last interval whose lower bound is smaller or equal
+     * to <i>value</i>, -2 if none
+     */
+    private int rangeOf(int value) {
+        int lo = 0;
+        int hi = (SIZE >> 1) - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ELEMENTS[mid << 1] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return hi << 1;
+    }
+
+    /**
+     * Saves the current intervals, if not already done in the current world.
+     */
+    private void save() {
+        IEnvironment env = model.getEnvironment();
+        int wi = env.getWorldIndex();
+        if (timestamp < wi) {
+            env.save(new Restore(Arrays.copyOf(ELEMENTS, SIZE), CARDINALITY, timestamp));
+            timestamp = wi;
+        }
+    }
+
+    /**
+     * Removes the values in [<i>from</i>, <i>to</i>] from the current domain, without notifying the propagators.
+     *
+     * @param from    lower bound of the values to remove
+     * @param to      upper bound of the values to remove
+     * @param explain set to <tt>true</tt> to explain each removal
+     * @param cause   removal releaser
+     * @return the number of removed values
+     * @throws ContradictionException if the domain becomes empty
+     */
+    private int clear(int from, int to, boolean explain, ICause cause) throws ContradictionException {
+        int i = rangeOf(from);
+        if (i < 0 || ELEMENTS[i + 1] < from) {
+            i += 2;
+        }
+        int j = rangeOf(to);
+        if (i > j) {
+            return 0;
+        }
+        int removed = 0;
+        for (int k = i; k <= j; k += 2) {
+            removed += Math.min(ELEMENTS[k + 1], to) - Math.max(ELEMENTS[k], from) + 1;
+        }
+        if (explain) {
+            for (int k = i; k <= j; k += 2) {
+                for (int v = Math.max(ELEMENTS[k], from), u = Math.min(ELEMENTS[k + 1], to); v <= u; v++) {
+                    model.getSolver().getExplainer().removeValue(this, v, cause);
+                }
+            }
+        }
+        if (removed == CARDINALITY) {
+            this.contradiction(cause, MSG_REMOVE);
+        }
+        if (reactOnRemoval) {
+            for (int k = i; k <= j; k += 2) {
+                for (int v = Math.max(ELEMENTS[k], from), u = Math.min(ELEMENTS[k + 1], to); v <= u; v++) {
+                    delta.add(v, cause);
+                }
+            }
+        }
+        save();
+        int lb = ELEMENTS[i];
+        int ub = ELEMENTS[j + 1];
+        // the remaining parts of the first and last intervals replace intervals i to j
+        int n = (lb < from ? 2 : 0) + (ub > to ? 2 : 0);
+        int size = SIZE + n - (j - i + 2);
+        if (size > ELEMENTS.length) {
+            ELEMENTS = Arrays.copyOf(ELEMENTS, Math.max(size, ELEMENTS.length + (ELEMENTS.length >> 1)));
+        }
+        System.arraycopy(ELEMENTS, j + 2, ELEMENTS, i + n, SIZE - j - 2);
+        if (lb < from) {
+            ELEMENTS[i++] = lb;
+            ELEMENTS[i++] = from - 1;
+        }
+        if (ub > to) {
+            ELEMENTS[i++] = to + 1;
+            ELEMENTS[i] = ub;
+        }
+        SIZE = size;
+        CARDINALITY -= removed;
+        return removed;
+    }
+
+    /**
+     * Notifies the propagators of removals, given the bounds before them.
+     */
+    private void notifyRemovals(int olb, int oub, ICause cause) throws ContradictionException {
+        IntEventType e = IntEventType.REMOVE;
+        if (isInstantiated()) {
+            e = IntEventType.INSTANTIATE;
+        } else if (olb < getLB()) {
+            e = oub > getUB() ? IntEventType.BOUND : IntEventType.INCLOW;
+        } else if (oub > getUB()) {
+            e = IntEventType.DECUPP;
+        }
+        this.notifyPropagators(e, cause);
+    }
+
+    /**
+     * Restores the intervals saved in a world upon backtrack.
+     */
+    private final class Restore implements IOperation {
+
+        private final int[] elements;
+        private final int cardinality;
+        private final int stamp;
+
+        Restore(int[] elements, int cardinality, int stamp) {
+            this.elements = elements;
+            this.cardinality = cardinality;
+            this.stamp = stamp;
+        }
+
+        @Override
+        public void undo() {
+            ELEMENTS = elements;
+            SIZE = elements.length;
+            CARDINALITY = cardinality;
+            timestamp = stamp;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (contains(value)) {
+            int olb = getLB();
+            int oub = getUB();
+            clear(value, value, true, cause);
+            notifyRemovals(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        int count = CARDINALITY;
+        for (int v = values.nextValue(olb - 1); v <= oub; v = values.nextValue(v)) {
+            if (contains(v)) {
+                clear(v, v, true, cause);
+            }
+        }
+        if (CARDINALITY < count) {
+            notifyRemovals(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        int count = CARDINALITY;
+        int v = olb;
+        while (v != Integer.MAX_VALUE) {
+            // removes the values up to the next value to keep
+            int w = values.nextValue(v - 1);
+            if (w != v) {
+                clear(v, w == Integer.MAX_VALUE ? oub : w - 1, true, cause);
+                if (w == Integer.MAX_VALUE) {
+                    break;
+                }
+            }
+            v = nextValue(w);
+        }
+        if (CARDINALITY < count) {
+            notifyRemovals(olb, oub, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (from <= getLB())
+            return updateLowerBound(to + 1, cause);
+        else if (getUB() <= to)
+            return updateUpperBound(from - 1, cause);
+        else if (clear(from, to, true, cause) > 0) {
+            this.notifyPropagators(IntEventType.REMOVE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            model.getSolver().getExplainer().instantiateTo(this, value, cause, getLB(), getUB());
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            model.getSolver().getExplainer().instantiateTo(this, value, cause, getLB(), getUB());
+            if (reactOnRemoval) {
+                for (int k = 0; k < SIZE; k += 2) {
+                    for (int v = ELEMENTS[k]; v <= ELEMENTS[k + 1]; v++) {
+                        if (v != value) {
+                            delta.add(v, cause);
+                        }
+                    }
+                }
+            }
+            save();
+            ELEMENTS[0] = ELEMENTS[1] = value;
+            SIZE = 2;
+            CARDINALITY = 1;
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getLB();
+        if (old < value) {
+            int oub = this.getUB();
+            model.getSolver().getExplainer().updateLowerBound(this, value, old, cause);
+            if (oub < value) {
+                this.contradiction(cause, MSG_LOW);
+            } else {
+                clear(old, value - 1, false, cause);
+                this.notifyPropagators(isInstantiated() ? IntEventType.INSTANTIATE : IntEventType.INCLOW, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int oub = this.getUB();
+        if (oub > value) {
+            int olb = this.getLB();
+            model.getSolver().getExplainer().updateUpperBound(this, value, oub, cause);
+            if (olb > value) {
+                this.contradiction(cause, MSG_UPP);
+            } else {
+                clear(value + 1, oub, false, cause);
+                this.notifyPropagators(isInstantiated() ? IntEventType.INSTANTIATE : IntEventType.DECUPP, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = this.getLB();
+        int oub = this.getUB();
+        boolean update = false;
+        if (olb < lb || oub > ub) {
+            if (olb < lb) model.getSolver().getExplainer().updateLowerBound(this, lb, olb, cause);
+            if (oub > ub) model.getSolver().getExplainer().updateUpperBound(this, ub, oub, cause);
+            IntEventType e = null;
+            if (oub < lb) {
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                e = IntEventType.INCLOW;
+                clear(olb, lb - 1, false, cause);
+                olb = getLB(); // required because we will treat upper bound just after
+            }
+            if (olb > ub) {
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                e = e == null ? IntEventType.DECUPP : IntEventType.BOUND;
+                clear(ub + 1, oub, false, cause);
+            }
+            if (isInstantiated()) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            update = true;
+        }
+        return update;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return CARDINALITY == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && ELEMENTS[0] == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        int i = rangeOf(aValue);
+        return i >= 0 && aValue <= ELEMENTS[i + 1];
+    }
+
+    /**
+     * Retrieves the current value of the variable if instantiated, otherwier the lower bound.
+     *
+     * @return the current value (or lower bound if not yet instantiated).
+     */
+    @Override
+    public int getValue() {
+        assert isInstantiated() : name + " not instantiated";
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return ELEMENTS[0];
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return ELEMENTS[SIZE - 1];
+    }
+
+    @Override
+    public int getDomainSize() {
+        return CARDINALITY;
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        if (aValue < getLB()) return getLB();
+        if (aValue >= getUB()) return Integer.MAX_VALUE;
+        int i = rangeOf(aValue);
+        return aValue < ELEMENTS[i + 1] ? aValue + 1 : ELEMENTS[i + 2];
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        int i = rangeOf(aValue + 1);
+        if (i >= 0 && aValue + 1 <= ELEMENTS[i + 1]) {
+            return ELEMENTS[i + 1] + 1;
+        }
+        return aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        if (aValue > getUB()) return getUB();
+        if (aValue <= getLB()) return Integer.MIN_VALUE;
+        int i = rangeOf(aValue);
+        if (aValue > ELEMENTS[i + 1]) {
+            return ELEMENTS[i + 1];
+        }
+        return aValue > ELEMENTS[i] ? aValue - 1 : ELEMENTS[i - 1];
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        int i = rangeOf(aValue - 1);
+        if (i >= 0 && aValue - 1 <= ELEMENTS[i + 1]) {
+            return ELEMENTS[i] - 1;
+        }
+        return aValue - 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IEnumDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (CARDINALITY == 1) {
+            s.append(this.getLB());
+        } else {
+            s.append('{').append(getLB());
+            int nb = 5;
+            for (int i = nextValue(getLB()); i < Integer.MAX_VALUE && nb > 0; i = nextValue(i)) {
+                s.append(',').append(i);
+                nb--;
+            }
+            if (nb == 0 && CARDINALITY > 6) {
+                s.append("...,").append(this.getUB());
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new EnumDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new EnumDeltaMonitor(delta, propagator);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void notifyMonitors(IEventType event) throws ContradictionException {
+        for (int i = mIdx - 1; i >= 0; i--) {
+            monitors[i].onUpdate(this, event);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Position of the current interval
+                 */
+                int range;
+                /**
+                 * Next value to return
+                 */
+                int value;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    range = 0;
+                    value = ELEMENTS[0];
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    range = SIZE - 2;
+                    value = ELEMENTS[SIZE - 1];
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return range < SIZE;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return range >= 0;
+                }
+
+                @Override
+                public int next() {
+                    int old = value;
+                    if (value < ELEMENTS[range + 1]) {
+                        value++;
+                    } else {
+                        range += 2;
+                        if (range < SIZE) {
+                            value = ELEMENTS[range];
+                        }
+                    }
+                    return old;
+                }
+
+                @Override
+                public int previous() {
+                    int old = value;
+                    if (value > ELEMENTS[range]) {
+                        value--;
+                    } else {
+                        range -= 2;
+                        if (range >= 0) {
+                            value = ELEMENTS[range + 1];
+                        }
+                    }
+                    return old;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Position of the current interval
+                 */
+                int range;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    range = 0;
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    range = SIZE - 2;
+                }
+
+                public boolean hasNext() {
+                    return range < SIZE;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return range >= 0;
+                }
+
+                public void next() {
+                    range += 2;
+                }
+
+                @Override
+                public void previous() {
+                    range -= 2;
+                }
+
+                @Override
+                public int min() {
+                    return ELEMENTS[range];
+                }
+
+                @Override
+                public int max() {
+                    return ELEMENTS[range + 1];
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        if (_javaIterator == null) {
+            _javaIterator = new IntVarValueIterator(this);
+        }
+        _javaIterator.reset();
+        return _javaIterator;
+    }
+}
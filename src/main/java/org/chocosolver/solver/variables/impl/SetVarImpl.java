@@ -24,6 +24,7 @@ import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.chocosolver.util.objects.setDataStructures.Set_ReadOnly;
+import org.chocosolver.util.objects.setDataStructures.bitset.Set_Std_BitSet;
 
 /**
  * Set variable to represent a set of integers, i.e. a value is a set
@@ -240,6 +241,67 @@ public class SetVarImpl extends AbstractVariable implements SetVar {
         return changed;
     }
 
+    @Override
+    public boolean forceWord(int from, long mask, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!hasBitsetDomain()) {
+            return SetVar.super.forceWord(from, mask, cause);
+        }
+        if ((mask & ~getUBWord(from)) != 0) {
+            contradiction(cause, "");
+        }
+        long add = mask & ~getLBWord(from);
+        if (add != 0) {
+            ((Set_Std_BitSet) lb).addWord(from, add);
+            if (reactOnModification) {
+                for (; add != 0; add &= add - 1) {
+                    delta.add(from + Long.numberOfTrailingZeros(add), SetDelta.LB, cause);
+                }
+            }
+            notifyPropagators(SetEventType.ADD_TO_KER, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeWord(int from, long mask, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!hasBitsetDomain()) {
+            return SetVar.super.removeWord(from, mask, cause);
+        }
+        if ((mask & getLBWord(from)) != 0) {
+            contradiction(cause, "");
+        }
+        long rem = mask & getUBWord(from);
+        if (rem != 0) {
+            ((Set_Std_BitSet) ub).removeWord(from, rem);
+            if (reactOnModification) {
+                for (; rem != 0; rem &= rem - 1) {
+                    delta.add(from + Long.numberOfTrailingZeros(rem), SetDelta.UB, cause);
+                }
+            }
+            notifyPropagators(SetEventType.REMOVE_FROM_ENVELOPE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long getLBWord(int from) {
+        return lb instanceof Set_Std_BitSet ? ((Set_Std_BitSet) lb).getWord(from) : SetVar.super.getLBWord(from);
+    }
+
+    @Override
+    public long getUBWord(int from) {
+        return ub instanceof Set_Std_BitSet ? ((Set_Std_BitSet) ub).getWord(from) : SetVar.super.getUBWord(from);
+    }
+
+    @Override
+    public boolean hasBitsetDomain() {
+        return lb instanceof Set_Std_BitSet && ub instanceof Set_Std_BitSet;
+    }
+
     @Override
     public SetDelta getDelta() {
         return delta;
@@ -0,0 +1,830 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.EnumDelta;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.EnumDeltaMonitor;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.IntVarValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * <br/>IntVar implementation based on a reversible sparse set.
+ * <p>
+ * Indices of the initial values are stored in a dense array, the current domain being the prefix of size {@link #SIZE}.
+ * Removing a value swaps its index with the last one of the prefix and decrements the size,
+ * so the dense and sparse arrays themselves never need to be restored upon backtrack.
+ * The present indices are also recorded in a reversible bitset, which gives the next and previous values
+ * of the domain in a time proportional to the number of words between them, whatever the size of the domain.
+ * The price is that a removal also saves the modified word of this bitset (once per word and per world),
+ * so a backtrack restores the size, the bounds and every word modified since the matching choice point,
+ * not only the size.
+ * Testing whether a value belongs to the domain and getting the domain size remain constant time.
+ *
+ * @see BitsetIntVarImpl
+ * @see BitsetArrayIntVarImpl
+ */
+public final class SparseSetIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Valuated to <tt>true</tt> when removed values are stored.
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Initial domain values, sorted
+     */
+    private final int[] VALUES;
+    /**
+     * Set to <tt>true</tt> when initial domain values are consecutive
+     */
+    private final boolean CONSECUTIVE;
+    /**
+     * Indices of values, the current domain is made of the first {@link #SIZE} ones
+     */
+    private final int[] DENSE;
+    /**
+     * Position of each index in {@link #DENSE}
+     */
+    private final int[] SPARSE;
+    /**
+     * Index of the lower bound of the current domain
+     */
+    private final IStateInt LB;
+    /**
+     * Index of the upper bound of the current domain
+     */
+    private final IStateInt UB;
+    /**
+     * Size of the current domain
+     */
+    private final IStateInt SIZE;
+    /**
+     * Present indices, used to find the closest ones to a given index
+     */
+    private final IStateBitSet PRESENT;
+    /**
+     * Delta object to store removed values
+     */
+    private IEnumDelta delta = NoDelta.singleton;
+    /**
+     * Disposable values iterator
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * Disposable ranges iterator
+     */
+    private DisposableRangeIterator _riterator;
+    /**
+     * Value iterator allowing for(int i:this) loops
+     */
+    private IntVarValueIterator _javaIterator = new IntVarValueIterator(this);
+
+    //////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an {@link IntVar} based on a sparse set of ordered values.
+     *
+     * @param name         name of the variable
+     * @param sortedValues domain values
+     * @param model        the model to declare this variable in
+     */
+    public SparseSetIntVarImpl(String name, int[] sortedValues, Model model) {
+        super(name, model);
+        IEnvironment env = model.getEnvironment();
+        int length = sortedValues.length;
+        this.VALUES = sortedValues.clone();
+        this.CONSECUTIVE = VALUES[length - 1] - VALUES[0] == length - 1;
+        this.DENSE = new int[length];
+        this.SPARSE = new int[length];
+        for (int i = 0; i < length; i++) {
+            DENSE[i] = SPARSE[i] = i;
+        }
+        this.LB = env.makeInt(0);
+        this.UB = env.makeInt(length - 1);
+        this.SIZE = env.makeInt(length);
+        this.PRESENT = env.makeBitSet(length);
+        this.PRESENT.set(0, length);
+    }
+
+    /**
+     * Creates an {@link IntVar} based on a sparse set of values in [<i>min</i>, <i>max</i>].
+     *
+     * @param name  name of the variable
+     * @param min   lower bound
+     * @param max   upper bound
+     * @param model the model to declare this variable in
+     */
+    public SparseSetIntVarImpl(String name, int min, int max, Model model) {
+        this(name, ArrayUtils.array(min, max), model);
+    }
+
+    //////////////////////////////////////////////////////////////////////////////////////
+    // SPARSE SET
+
+    /**
+     * @param value a value
+     * @return the index of <i>value</i> in {@link #VALUES}, -1 if it does not belong to the initial domain
+     */
+    private int indexOf(int value) {
+        if (value < VALUES[0] || value > VALUES[VALUES.length - 1]) {
+            return -1;
+        }
+        if (CONSECUTIVE) {
+            return value - VALUES[0];
+        }
+        int i = Arrays.binarySearch(VALUES, value);
+        return i >= 0 ? i : -1;
+    }
+
+    private boolean has(int index) {
+        return SPARSE[index] < SIZE.get();
+    }
+
+    private void swap(int index, int position) {
+        int other = DENSE[position];
+        int p = SPARSE[index];
+        DENSE[position] = index;
+        SPARSE[index] = position;
+        DENSE[p] = other;
+        SPARSE[other] = p;
+    }
+
+    /**
+     * Removes a present index, without updating the bounds
+     */
+    private void clear(int index, ICause cause) {
+        int last = SIZE.add(-1);
+        swap(index, last);
+        PRESENT.clear(index);
+        if (reactOnRemoval) {
+            delta.add(VALUES[index], cause);
+        }
+    }
+
+    /**
+     * Removes present indices in [from, to], without updating the bounds.
+     * Only the present indices are visited.
+     */
+    private void clear(int from, int to, boolean explain, ICause cause) {
+        for (int i = nextIndex(from); i > -1 && i <= to; i = nextIndex(i + 1)) {
+            if (explain) {
+                model.getSolver().getExplainer().removeValue(this, VALUES[i], cause);
+            }
+            clear(i, cause);
+        }
+    }
+
+    /**
+     * @return the smallest present index greater or equal to <i>index</i>, -1 if none
+     */
+    private int nextIndex(int index) {
+        if (index >= VALUES.length) {
+            return -1;
+        }
+        return PRESENT.nextSetBit(index);
+    }
+
+    /**
+     * @return the greatest present index smaller or equal to <i>index</i>, -1 if none
+     */
+    private int prevIndex(int index) {
+        if (index < 0) {
+            return -1;
+        }
+        return PRESENT.prevSetBit(index);
+    }
+
+    /**
+     * Restores the bounds after removals, and notifies the propagators.
+     */
+    private void notifyRemovals(ICause cause) throws ContradictionException {
+        IntEventType e = IntEventType.REMOVE;
+        int lb = LB.get();
+        int ub = UB.get();
+        if (!has(lb)) {
+            LB.set(nextIndex(lb));
+            e = IntEventType.INCLOW;
+        }
+        if (!has(ub)) {
+            UB.set(prevIndex(ub));
+            e = e == IntEventType.INCLOW ? IntEventType.BOUND : IntEventType.DECUPP;
+        }
+        if (isInstantiated()) {
+            e = IntEventType.INSTANTIATE;
+        }
+        this.notifyPropagators(e, cause);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int index = indexOf(value);
+        boolean change = index > -1 && has(index);
+        if (change) {
+            model.getSolver().getExplainer().removeValue(this, value, cause);
+            if (SIZE.get() == 1) {
+                this.contradiction(cause, MSG_REMOVE);
+            }
+            clear(index, cause);
+            notifyRemovals(cause);
+        }
+        return change;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int count = SIZE.get();
+        // the current position is swapped with an already visited one
+        for (int p = count - 1; p >= 0; p--) {
+            int value = VALUES[DENSE[p]];
+            if (values.contains(value)) {
+                model.getSolver().getExplainer().removeValue(this, value, cause);
+                if (SIZE.get() == 1) {
+                    this.contradiction(cause, MSG_REMOVE);
+                }
+                clear(DENSE[p], cause);
+            }
+        }
+        if (SIZE.get() < count) {
+            notifyRemovals(cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int count = SIZE.get();
+        // the current position is swapped with an already visited one
+        for (int p = count - 1; p >= 0; p--) {
+            int value = VALUES[DENSE[p]];
+            if (!values.contains(value)) {
+                model.getSolver().getExplainer().removeValue(this, value, cause);
+                if (SIZE.get() == 1) {
+                    this.contradiction(cause, MSG_REMOVE);
+                }
+                clear(DENSE[p], cause);
+            }
+        }
+        if (SIZE.get() < count) {
+            notifyRemovals(cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (from <= getLB())
+            return updateLowerBound(to + 1, cause);
+        else if (getUB() <= to)
+            return updateUpperBound(from - 1, cause);
+        else {
+            int count = SIZE.get();
+            int lb = LB.get();
+            int ub = UB.get();
+            int f = ArrayUtils.binarySearchInc(VALUES, lb, ub + 1, from, true);
+            int t = ArrayUtils.binarySearchInc(VALUES, lb, ub + 1, to, false);
+            clear(f, t, true, cause);
+            if (SIZE.get() < count) {
+                this.notifyPropagators(IntEventType.REMOVE, cause);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            model.getSolver().getExplainer().instantiateTo(this, value, cause, getLB(), getUB());
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            model.getSolver().getExplainer().instantiateTo(this, value, cause, getLB(), getUB());
+            int index = indexOf(value);
+            swap(index, 0);
+            if (reactOnRemoval) {
+                int size = SIZE.get();
+                for (int p = 1; p < size; p++) {
+                    delta.add(VALUES[DENSE[p]], cause);
+                }
+            }
+            this.SIZE.set(1);
+            this.PRESENT.clear(LB.get(), index);
+            this.PRESENT.clear(index + 1, UB.get() + 1);
+            this.LB.set(index);
+            this.UB.set(index);
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getLB();
+        if (old < value) {
+            int oub = this.getUB();
+            model.getSolver().getExplainer().updateLowerBound(this, value, old, cause);
+            if (oub < value) {
+                this.contradiction(cause, MSG_LOW);
+            } else {
+                IntEventType e = IntEventType.INCLOW;
+                int lb = LB.get();
+                int i = ArrayUtils.binarySearchInc(VALUES, lb, UB.get() + 1, value, true);
+                clear(lb, i - 1, false, cause);
+                LB.set(nextIndex(i));
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int oub = this.getUB();
+        if (oub > value) {
+            int olb = this.getLB();
+            model.getSolver().getExplainer().updateUpperBound(this, value, oub, cause);
+            if (olb > value) {
+                this.contradiction(cause, MSG_UPP);
+            } else {
+                IntEventType e = IntEventType.DECUPP;
+                int ub = UB.get();
+                int i = ArrayUtils.binarySearchInc(VALUES, LB.get(), ub + 1, value, false);
+                clear(i + 1, ub, false, cause);
+                UB.set(prevIndex(i));
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = this.getLB();
+        int oub = this.getUB();
+        boolean update = false;
+        if (olb < lb || oub > ub) {
+            if (olb < lb) model.getSolver().getExplainer().updateLowerBound(this, lb, olb, cause);
+            if (oub > ub) model.getSolver().getExplainer().updateUpperBound(this, ub, oub, cause);
+            IntEventType e = null;
+            if (oub < lb) {
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                e = IntEventType.INCLOW;
+                int ilb = LB.get();
+                int i = ArrayUtils.binarySearchInc(VALUES, ilb, UB.get() + 1, lb, true);
+                clear(ilb, i - 1, false, cause);
+                LB.set(nextIndex(i));
+                olb = getLB(); // required because we will treat upper bound just after
+            }
+            if (olb > ub) {
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                e = e == null ? IntEventType.DECUPP : IntEventType.BOUND;
+                int iub = UB.get();
+                int i = ArrayUtils.binarySearchInc(VALUES, LB.get(), iub + 1, ub, false);
+                clear(i + 1, iub, false, cause);
+                UB.set(prevIndex(i));
+            }
+            if (isInstantiated()) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            update = true;
+        }
+        return update;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return SIZE.get() == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && contains(value);
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        int index = indexOf(aValue);
+        return index > -1 && has(index);
+    }
+
+    /**
+     * Retrieves the current value of the variable if instantiated, otherwier the lower bound.
+     *
+     * @return the current value (or lower bound if not yet instantiated).
+     */
+    @Override
+    public int getValue() {
+        assert isInstantiated() : name + " not instantiated";
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return VALUES[LB.get()];
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return VALUES[UB.get()];
+    }
+
+    @Override
+    public int getDomainSize() {
+        return SIZE.get();
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        int lb = LB.get();
+        if (aValue < VALUES[lb]) return VALUES[lb];
+        int ub = UB.get();
+        if (aValue >= VALUES[ub]) return Integer.MAX_VALUE;
+        int i = ArrayUtils.binarySearchInc(VALUES, lb, ub + 1, aValue, true);
+        if (VALUES[i] == aValue) {
+            i++;
+        }
+        return VALUES[nextIndex(i)];
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        int lb = LB.get();
+        int ub = UB.get();
+        if (VALUES[lb] - 1 <= aValue && aValue <= VALUES[ub]) {
+            int i = ArrayUtils.binarySearchInc(VALUES, lb, ub + 1, aValue + 1, true);
+            while (i <= ub && VALUES[i] == aValue + 1 && has(i)) {
+                aValue++;
+                i++;
+            }
+        }
+        return aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        int ub = UB.get();
+        if (aValue > VALUES[ub]) return VALUES[ub];
+        int lb = LB.get();
+        if (aValue <= VALUES[lb]) return Integer.MIN_VALUE;
+        int i = ArrayUtils.binarySearchInc(VALUES, lb, ub + 1, aValue, false);
+        if (VALUES[i] == aValue) {
+            i--;
+        }
+        return VALUES[prevIndex(i)];
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        int lb = LB.get();
+        int ub = UB.get();
+        if (VALUES[lb] <= aValue && aValue <= VALUES[ub] + 1) {
+            int i = ArrayUtils.binarySearchInc(VALUES, lb, ub + 1, aValue - 1, false);
+            while (i >= lb && VALUES[i] == aValue - 1 && has(i)) {
+                aValue--;
+                i--;
+            }
+        }
+        return aValue - 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IEnumDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (SIZE.get() == 1) {
+            s.append(this.getLB());
+        } else {
+            s.append('{').append(getLB());
+            int nb = 5;
+            for (int i = nextValue(getLB()); i < Integer.MAX_VALUE && nb > 0; i = nextValue(i)) {
+                s.append(',').append(i);
+                nb--;
+            }
+            if (nb == 0 && SIZE.get() > 6) {
+                s.append("...,").append(this.getUB());
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new EnumDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new EnumDeltaMonitor(delta, propagator);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void notifyMonitors(IEventType event) throws ContradictionException {
+        for (int i = mIdx - 1; i >= 0; i--) {
+            monitors[i].onUpdate(this, event);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Current position of the iterator
+                 */
+                int index;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    index = LB.get();
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    index = UB.get();
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return index != -1;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return index != -1;
+                }
+
+                @Override
+                public int next() {
+                    int old = VALUES[index];
+                    index = index < UB.get() ? nextIndex(index + 1) : -1;
+                    return old;
+                }
+
+                @Override
+                public int previous() {
+                    int old = VALUES[index];
+                    index = index > LB.get() ? prevIndex(index - 1) : -1;
+                    return old;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Current range starting point
+                 */
+                int from;
+                /**
+                 * Current range ending point
+                 */
+                int to;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.from = LB.get();
+                    extendUp();
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.to = UB.get();
+                    extendDown();
+                }
+
+                private void extendUp() {
+                    this.to = from;
+                    while (to < UB.get() && has(to + 1) && VALUES[to] == VALUES[to + 1] - 1) {
+                        to++;
+                    }
+                }
+
+                private void extendDown() {
+                    this.from = to;
+                    while (from > LB.get() && has(from - 1) && VALUES[from - 1] == VALUES[from] - 1) {
+                        from--;
+                    }
+                }
+
+                public boolean hasNext() {
+                    return this.from != -1;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.to != -1;
+                }
+
+                public void next() {
+                    this.from = to < UB.get() ? nextIndex(to + 1) : -1;
+                    if (from != -1) {
+                        extendUp();
+                    }
+                }
+
+                @Override
+                public void previous() {
+                    this.to = from > LB.get() ? prevIndex(from - 1) : -1;
+                    if (to != -1) {
+                        extendDown();
+                    }
+                }
+
+                @Override
+                public int min() {
+                    return VALUES[from];
+                }
+
+                @Override
+                public int max() {
+                    return VALUES[to];
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        _javaIterator.reset();
+        return _javaIterator;
+    }
+}
@@ -0,0 +1,446 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.view;
+
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.tools.MathUtils;
+
+import static org.chocosolver.solver.variables.events.IntEventType.DECUPP;
+import static org.chocosolver.solver.variables.events.IntEventType.INCLOW;
+
+/**
+ * declare an IntVar based on X, A and B, such as A * X + B, where A is a non-zero integer.
+ * <p>
+ * Such a view fuses a chain of offset, minus and scale views into a single one (see
+ * {@link org.chocosolver.solver.variables.IViewFactory#intAffineView(int, IntVar, int)}),
+ * so that events are forwarded by a single view.
+ * <p>
+ * Based on "Views and Iterators for Generic Constraint Implementations" <br/>
+ * C. Shulte and G. Tack.<br/>
+ * Eleventh International Conference on Principles and Practice of Constraint Programming
+ *
+ * @see OffsetView
+ * @see ScaleView
+ * @see MinusView
+ */
+public final class AffineView extends IntView {
+
+    /**
+     * The coefficient, different from 0
+     */
+    public final int a;
+
+    /**
+     * The offset
+     */
+    public final int b;
+
+    /**
+     * Create a <i>a<i/> &times; <i>var<i/> + <i>b</i> view
+     * @param a a non-zero integer
+     * @param var a variable
+     * @param b an integer
+     */
+    public AffineView(final int a, final IntVar var, final int b) {
+        super("(" + a + "*" + var.getName() + (b >= 0 ? "+" : "-") + Math.abs(b) + ")", var);
+        assert (a != 0) : "view coefficient must be != 0";
+        this.a = a;
+        this.b = b;
+    }
+
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        var.createDelta();
+        if (var.getDelta() == NoDelta.singleton) {
+            return IIntDeltaMonitor.Default.NONE;
+        }
+        return new ViewDeltaMonitor(var.monitorDelta(propagator)) {
+            @Override
+            protected int transform(int value) {
+                return a * value + b;
+            }
+        };
+    }
+
+    @Override
+    protected boolean doInstantiateVar(int value) throws ContradictionException {
+        if ((value - b) % a != 0) {
+            this.contradiction(this, MSG_INST);
+        }
+        return var.instantiateTo((value - b) / a, this);
+    }
+
+    @Override
+    protected boolean doUpdateLowerBoundOfVar(int value) throws ContradictionException {
+        if (a > 0) {
+            return var.updateLowerBound(MathUtils.divCeil(value - b, a), this);
+        } else {
+            return var.updateUpperBound(MathUtils.divFloor(value - b, a), this);
+        }
+    }
+
+    @Override
+    protected boolean doUpdateUpperBoundOfVar(int value) throws ContradictionException {
+        if (a > 0) {
+            return var.updateUpperBound(MathUtils.divFloor(value - b, a), this);
+        } else {
+            return var.updateLowerBound(MathUtils.divCeil(value - b, a), this);
+        }
+    }
+
+    @Override
+    protected boolean doRemoveValueFromVar(int value) throws ContradictionException {
+        return (value - b) % a == 0 && var.removeValue((value - b) / a, this);
+    }
+
+    @Override
+    protected boolean doRemoveIntervalFromVar(int from, int to) throws ContradictionException {
+        if (a > 0) {
+            return var.removeInterval(MathUtils.divCeil(from - b, a), MathUtils.divFloor(to - b, a), this);
+        } else {
+            return var.removeInterval(MathUtils.divCeil(to - b, a), MathUtils.divFloor(from - b, a), this);
+        }
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return (value - b) % a == 0 && var.contains((value - b) / a);
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return (value - b) % a == 0 && var.isInstantiatedTo((value - b) / a);
+    }
+
+    @Override
+    public int getValue() {
+        return a * var.getValue() + b;
+    }
+
+    @Override
+    public int getLB() {
+        return a * (a > 0 ? var.getLB() : var.getUB()) + b;
+    }
+
+    @Override
+    public int getUB() {
+        return a * (a > 0 ? var.getUB() : var.getLB()) + b;
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    @Override
+    public int nextValue(int v) {
+        int value;
+        if (a > 0) {
+            value = var.nextValue(MathUtils.divFloor(v - b, a));
+            if (value == Integer.MAX_VALUE) {
+                return Integer.MAX_VALUE;
+            }
+        } else {
+            value = var.previousValue(MathUtils.divCeil(v - b, a));
+            if (value == Integer.MIN_VALUE) {
+                return Integer.MAX_VALUE;
+            }
+        }
+        return a * value + b;
+    }
+
+    @Override
+    public int nextValueOut(int v) {
+        if (a == 1) {
+            return var.nextValueOut(v - b) + b;
+        } else if (a == -1) {
+            return b - var.previousValueOut(b - v);
+        }
+        // two consecutive values cannot both be in the view
+        return contains(v + 1) ? v + 2 : v + 1;
+    }
+
+    @Override
+    public int previousValue(int v) {
+        int value;
+        if (a > 0) {
+            value = var.previousValue(MathUtils.divCeil(v - b, a));
+            if (value == Integer.MIN_VALUE) {
+                return Integer.MIN_VALUE;
+            }
+        } else {
+            value = var.nextValue(MathUtils.divFloor(v - b, a));
+            if (value == Integer.MAX_VALUE) {
+                return Integer.MIN_VALUE;
+            }
+        }
+        return a * value + b;
+    }
+
+    @Override
+    public int previousValueOut(int v) {
+        if (a == 1) {
+            return var.previousValueOut(v - b) + b;
+        } else if (a == -1) {
+            return b - var.nextValueOut(b - v);
+        }
+        // two consecutive values cannot both be in the view
+        return contains(v - 1) ? v - 2 : v - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + a + " * " + this.var.toString() + (b >= 0 ? " + " : " - ") + Math.abs(b) + ") = [" + getLB() + "," + getUB() + "]";
+    }
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                DisposableValueIterator vit;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    vit = var.getValueIterator(a > 0);
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    vit = var.getValueIterator(a < 0);
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return a > 0 ? vit.hasNext() : vit.hasPrevious();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return a > 0 ? vit.hasPrevious() : vit.hasNext();
+                }
+
+                @Override
+                public int next() {
+                    return a * (a > 0 ? vit.next() : vit.previous()) + b;
+                }
+
+                @Override
+                public int previous() {
+                    return a * (a > 0 ? vit.previous() : vit.next()) + b;
+                }
+
+                @Override
+                public void dispose() {
+                    super.dispose();
+                    vit.dispose();
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            if (a == 1 || a == -1) {
+                _riterator = new DisposableRangeIterator() {
+
+                    DisposableRangeIterator vir;
+
+                    @Override
+                    public void bottomUpInit() {
+                        super.bottomUpInit();
+                        vir = var.getRangeIterator(a > 0);
+                    }
+
+                    @Override
+                    public void topDownInit() {
+                        super.topDownInit();
+                        vir = var.getRangeIterator(a < 0);
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return a > 0 ? vir.hasNext() : vir.hasPrevious();
+                    }
+
+                    @Override
+                    public boolean hasPrevious() {
+                        return a > 0 ? vir.hasPrevious() : vir.hasNext();
+                    }
+
+                    @Override
+                    public void next() {
+                        if (a > 0) {
+                            vir.next();
+                        } else {
+                            vir.previous();
+                        }
+                    }
+
+                    @Override
+                    public void previous() {
+                        if (a > 0) {
+                            vir.previous();
+                        } else {
+                            vir.next();
+                        }
+                    }
+
+                    @Override
+                    public int min() {
+                        return a * (a > 0 ? vir.min() : vir.max()) + b;
+                    }
+
+                    @Override
+                    public int max() {
+                        return a * (a > 0 ? vir.max() : vir.min()) + b;
+                    }
+
+                    @Override
+                    public void dispose() {
+                        super.dispose();
+                        vir.dispose();
+                    }
+                };
+            } else {
+                // |a| > 1, so no range anymore!
+                _riterator = new DisposableRangeIterator() {
+
+                    DisposableValueIterator vit;
+                    int min, max;
+
+                    @Override
+                    public void bottomUpInit() {
+                        super.bottomUpInit();
+                        vit = getValueIterator(true);
+                        min = max = vit.hasNext() ? vit.next() : Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public void topDownInit() {
+                        super.topDownInit();
+                        vit = getValueIterator(false);
+                        min = max = vit.hasPrevious() ? vit.previous() : Integer.MIN_VALUE;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return min != Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public boolean hasPrevious() {
+                        return max != Integer.MIN_VALUE;
+                    }
+
+                    @Override
+                    public void next() {
+                        min = max = vit.hasNext() ? vit.next() : Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public void previous() {
+                        min = max = vit.hasPrevious() ? vit.previous() : Integer.MIN_VALUE;
+                    }
+
+                    @Override
+                    public int min() {
+                        return min;
+                    }
+
+                    @Override
+                    public int max() {
+                        return max;
+                    }
+
+                    @Override
+                    public void dispose() {
+                        super.dispose();
+                        vit.dispose();
+                    }
+                };
+            }
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public int transformValue(int value) {
+        return a * value + b;
+    }
+
+    @Override
+    public int reverseValue(int value) {
+        return (value - b) / a;
+    }
+
+    @Override
+    public IEventType transformEvent(IEventType evt) {
+        if (a < 0) {
+            if (evt == INCLOW) {
+                return DECUPP;
+            } else if (evt == DECUPP) {
+                return INCLOW;
+            }
+        }
+        return evt;
+    }
+
+    @Override
+    public void justifyEvent(IntVar var, ICause cause, IntEventType mask, int one, int two, int three) {
+        switch (mask) {
+            case DECUPP:
+                if (a > 0) {
+                    model.getSolver().getExplainer().updateUpperBound(this, a * one + b, a * two + b, var);
+                } else {
+                    model.getSolver().getExplainer().updateLowerBound(this, a * one + b, a * two + b, var);
+                }
+                break;
+            case INCLOW:
+                if (a > 0) {
+                    model.getSolver().getExplainer().updateLowerBound(this, a * one + b, a * two + b, var);
+                } else {
+                    model.getSolver().getExplainer().updateUpperBound(this, a * one + b, a * two + b, var);
+                }
+                break;
+            case REMOVE:
+                model.getSolver().getExplainer().removeValue(this, a * one + b, var);
+                break;
+            case INSTANTIATE:
+                if (a > 0) {
+                    model.getSolver().getExplainer().instantiateTo(this, a * one + b, var, a * two + b, a * three + b);
+                } else {
+                    model.getSolver().getExplainer().instantiateTo(this, a * one + b, var, a * three + b, a * two + b);
+                }
+                break;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.util.objects.graphs.UndirectedGraph;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.sort.ArraySort;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Backtrackable index of pairwise overlapping intervals, shared by scheduling and packing propagators.
+ * <p>
+ * Each of the <i>n</i> items is associated with a half-open interval [start, end).
+ * The index stores, in a backtrackable undirected graph, an edge between every pair of items whose intervals
+ * may overlap. It is built once by a sweep over sorted interval bounds, in O(n log n + k) where k is
+ * the number of overlapping pairs, and then maintained incrementally:
+ * since intervals can only shrink during search, pairs are only removed, and removals are undone on backtrack.
+ * <p>
+ * Created for {@link org.chocosolver.solver.constraints.nary.cumulative.PropGraphCumulative}
+ * and {@link org.chocosolver.solver.constraints.nary.PropDiffN}.
+ */
+public class IntervalOverlapIndex {
+
+    /**
+     * A predicate over a pair of items.
+     */
+    @FunctionalInterface
+    public interface PairPredicate {
+        /**
+         * @param i an item
+         * @param j another item
+         * @return <tt>true</tt> if the pair satisfies the predicate
+         */
+        boolean test(int i, int j);
+    }
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final int n;
+    private final UndirectedGraph overlaps;
+    private final int[] events;
+    private final int[] dates;
+    private final ArraySort<Integer> sorter;
+    private final int[] active;
+    private final int[] position;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Creates an empty backtrackable overlap index over <i>n</i> items.
+     *
+     * @param model model providing the backtrackable environment
+     * @param n     number of items
+     * @param type  data structure storing neighbors of each item
+     */
+    public IntervalOverlapIndex(Model model, int n, SetType type) {
+        this.n = n;
+        this.overlaps = new UndirectedGraph(model, n, type, true);
+        this.events = new int[2 * n];
+        this.dates = new int[2 * n];
+        this.sorter = new ArraySort<>(2 * n, false, true);
+        this.active = new int[n];
+        this.position = new int[n];
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    /**
+     * Computes from scratch the pairs of items whose intervals overlap, with a sweep.
+     * Two items overlap if their intervals [start, end) intersect.
+     * An empty interval (start = end) is considered to overlap the intervals containing its start,
+     * as well as intervals starting at the same date: <i>accept</i> can be used to discard the latter.
+     *
+     * @param start     start of the interval of an item (included)
+     * @param end       end of the interval of an item (excluded)
+     * @param relevant  items which are not relevant are not connected to any other item
+     * @param accept    additional condition for two overlapping items to be connected (e.g., overlap on another dimension)
+     */
+    public void build(IntUnaryOperator start, IntUnaryOperator end, IntPredicate relevant, PairPredicate accept) {
+        for (int i = 0; i < n; i++) {
+            overlaps.getNeighOf(i).clear();
+        }
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            if (relevant.test(i)) {
+                int s = start.applyAsInt(i);
+                int e = end.applyAsInt(i);
+                if (s <= e) {
+                    dates[i] = s;
+                    dates[i + n] = e;
+                    events[k++] = i;
+                    events[k++] = i + n;
+                }
+            }
+        }
+        // sort by date, ends before starts so that adjacent intervals are not connected
+        // (except for empty intervals, which must start before they end)
+        sorter.sort(events, k, (e1, e2) -> {
+            if (dates[e1] == dates[e2]) {
+                return rank(e1) - rank(e2);
+            }
+            return Integer.compare(dates[e1], dates[e2]);
+        });
+        int nbActive = 0;
+        for (int t = 0; t < k; t++) {
+            int ev = events[t];
+            if (ev < n) {
+                for (int a = 0; a < nbActive; a++) {
+                    if (accept.test(active[a], ev)) {
+                        overlaps.addEdge(active[a], ev);
+                    }
+                }
+                position[ev] = nbActive;
+                active[nbActive++] = ev;
+            } else {
+                int i = ev - n;
+                int last = active[--nbActive];
+                active[position[i]] = last;
+                position[last] = position[i];
+            }
+        }
+    }
+
+    private int rank(int event) {
+        if (event < n) {
+            return 1;
+        }
+        return dates[event] == dates[event - n] ? 2 : 0;
+    }
+
+    /**
+     * Removes the pairs, involving <i>i</i>, that do not satisfy <i>stillOverlap</i> anymore.
+     * Removals are undone upon backtrack.
+     *
+     * @param i            an item whose interval has changed
+     * @param stillOverlap returns <tt>true</tt> if two items may still overlap
+     * @return the number of items that may still overlap with <i>i</i>
+     */
+    public int refresh(int i, PairPredicate stillOverlap) {
+        ISetIterator iter = overlaps.getNeighOf(i).iterator();
+        while (iter.hasNext()) {
+            int j = iter.nextInt();
+            if (!stillOverlap.test(i, j)) {
+                overlaps.removeEdge(i, j);
+            }
+        }
+        return overlaps.getNeighOf(i).size();
+    }
+
+    /**
+     * Disconnects <i>i</i> from all other items, for instance when its interval becomes irrelevant.
+     * Removals are undone upon backtrack.
+     *
+     * @param i an item
+     */
+    public void remove(int i) {
+        ISetIterator iter = overlaps.getNeighOf(i).iterator();
+        while (iter.hasNext()) {
+            overlaps.removeEdge(i, iter.nextInt());
+        }
+    }
+
+    /**
+     * @param i an item
+     * @return the set of items that may overlap with <i>i</i>
+     */
+    public ISet getOverlapping(int i) {
+        return overlaps.getNeighOf(i);
+    }
+
+    /**
+     * @param i an item
+     * @param j another item
+     * @return <tt>true</tt> if <i>i</i> and <i>j</i> may overlap
+     */
+    public boolean mayOverlap(int i, int j) {
+        return overlaps.edgeExists(i, j);
+    }
+
+    /**
+     * @return the number of items
+     */
+    public int size() {
+        return n;
+    }
+}
@@ -108,6 +108,90 @@ public class Set_Std_BitSet implements ISet {
 		return offset+ values.prevSetBit(values.length());
 	}
 
+	/**
+	 * @return the smallest allowed value in the set
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Returns the 64 elements starting from <code>from</code>:
+	 * the bit <i>k</i> of the word is set iff <code>from + k</code> is in the set.
+	 *
+	 * @param from first element of the word
+	 * @return the bits of the word
+	 */
+	public long getWord(int from) {
+		int i = from - offset;
+		if (i <= -64) {
+			return 0L;
+		} else if (i < 0) {
+			return values.getWord(0) << -i;
+		}
+		int s = i & 63;
+		long word = values.getWord(i >> 6) >>> s;
+		if (s != 0) {
+			word |= values.getWord((i >> 6) + 1) << (64 - s);
+		}
+		return word;
+	}
+
+	/**
+	 * Adds the elements <code>from + k</code>, for each bit <i>k</i> set in <code>mask</code>.
+	 *
+	 * @param from first element of the word
+	 * @param mask bits of the elements to add
+	 * @return the number of added elements
+	 */
+	public int addWord(int from, long mask) {
+		long add = mask & ~getWord(from);
+		if (add == 0) {
+			return 0;
+		}
+		int i = from - offset;
+		if (i + Long.numberOfTrailingZeros(add) < 0) {
+			throw new IllegalStateException("Cannot add " + (from + Long.numberOfTrailingZeros(add)) + " to set of offset " + offset);
+		}
+		if (i < 0) {
+			values.setWord(0, add >>> -i);
+		} else {
+			values.setWord(i >> 6, add << i);
+			if ((i & 63) != 0) {
+				values.setWord((i >> 6) + 1, add >>> (64 - (i & 63)));
+			}
+		}
+		int n = Long.bitCount(add);
+		card.add(n);
+		return n;
+	}
+
+	/**
+	 * Removes the elements <code>from + k</code>, for each bit <i>k</i> set in <code>mask</code>.
+	 *
+	 * @param from first element of the word
+	 * @param mask bits of the elements to remove
+	 * @return the number of removed elements
+	 */
+	public int removeWord(int from, long mask) {
+		long rem = mask & getWord(from);
+		if (rem == 0) {
+			return 0;
+		}
+		int i = from - offset;
+		if (i < 0) {
+			values.clearWord(0, rem >>> -i);
+		} else {
+			values.clearWord(i >> 6, rem << i);
+			if ((i & 63) != 0) {
+				values.clearWord((i >> 6) + 1, rem >>> (64 - (i & 63)));
+			}
+		}
+		int n = Long.bitCount(rem);
+		card.add(-n);
+		return n;
+	}
+
 	@Override
 	public String toString() {
 		String st = "{";
@@ -98,6 +98,21 @@ public class IntIterableRangeSet implements IntIterableSet {
         addAll(values);
     }
 
+    /**
+     * Create an interval-based ordered set initialized to the values encoded in a bit mask:
+     * <code>offset + i</code> belongs to the set if the bit <code>i</code> of <code>mask</code> is set.
+     * @param mask words encoding the values
+     * @param offset value associated with the first bit of <code>mask</code>
+     */
+    public IntIterableRangeSet(long[] mask, int offset) {
+        this();
+        for (int w = 0; w < mask.length; w++) {
+            for (long word = mask[w]; word != 0; word &= word - 1) {
+                add(offset + (w << 6) + Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
 	//***********************************************************************************
 	// METHODS
 	//***********************************************************************************
@@ -0,0 +1,91 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory;
+
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+public class StateBitSetTest {
+
+    @DataProvider(name = "size")
+    public Object[][] getSizes(){
+        // one word of 32 bits, one word of 64 bits and several words
+        return new Object[][]{{20}, {50}, {200}};
+    }
+
+    @Test(groups="1s", timeOut=60000, dataProvider = "size")
+    public void testBulkOperations(int size) {
+        Random rnd = new Random();
+        for (int seed = 0; seed < 50; seed++) {
+            rnd.setSeed(seed);
+            EnvironmentTrailing env = new EnvironmentBuilder().fromFlat().build();
+            IStateBitSet set = env.makeBitSet(size);
+            BitSet ref = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                if (rnd.nextBoolean()) {
+                    set.set(i);
+                    ref.set(i);
+                }
+            }
+            BitSet init = (BitSet) ref.clone();
+            env.worldPush();
+            for (int k = 0; k < 5; k++) {
+                BitSet m = new BitSet(size);
+                for (int i = 0; i < size; i++) {
+                    if (rnd.nextInt(3) > 0) {
+                        m.set(i);
+                    }
+                }
+                long[] mask = m.toLongArray();
+                switch (rnd.nextInt(4)) {
+                    case 0:
+                        set.and(mask);
+                        ref.and(m);
+                        break;
+                    case 1:
+                        set.or(mask);
+                        ref.or(m);
+                        break;
+                    case 2:
+                        set.andNot(mask);
+                        ref.andNot(m);
+                        break;
+                    case 3:
+                        int w = rnd.nextInt((size + 63) >> 6);
+                        long word = 0L;
+                        for (int i = w << 6; i < Math.min(size, (w + 1) << 6); i++) {
+                            if (ref.get(i)) {
+                                word |= 1L << i;
+                            }
+                            if (m.get(i)) {
+                                ref.clear(i);
+                            }
+                        }
+                        Assert.assertEquals(set.getWord(w), word, "seed " + seed);
+                        set.clearWord(w, w < mask.length ? mask[w] : 0L);
+                        break;
+                }
+                for (int i = 0; i < size; i++) {
+                    Assert.assertEquals(set.get(i), ref.get(i), "seed " + seed);
+                }
+                Assert.assertEquals(set.cardinality(), ref.cardinality());
+                Assert.assertEquals(set.prevSetBit(size - 1), ref.previousSetBit(size - 1));
+            }
+            env.worldPop();
+            for (int i = 0; i < size; i++) {
+                Assert.assertEquals(set.get(i), init.get(i), "seed " + seed);
+            }
+        }
+    }
+}
@@ -23,6 +23,8 @@ import org.testng.annotations.Test;
 
 import java.text.MessageFormat;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
@@ -422,6 +424,42 @@ public class ModelTest {
         Assert.assertEquals(m.getSolver().streamSolutions().count(), 2);
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStreamSolutionsAfterSolve() {
+        Model m = ProblemMaker.makeNQueenWithOneAlldifferent(8);
+        Assert.assertTrue(m.getSolver().solve());
+        // the stream goes on from the first solution
+        Assert.assertEquals(m.getSolver().streamSolutions().count(), 91);
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStreamSolutionsInParallel() {
+        Model m = ProblemMaker.makeNQueenWithOneAlldifferent(8);
+        IntVar[] vars = m.retrieveIntVars(true);
+        int nbCstrs = m.getNbCstrs();
+        Set<String> solutions = m.getSolver()
+                .streamSolutions(() -> ProblemMaker.makeNQueenWithOneAlldifferent(8))
+                .parallel()
+                .map(s -> {
+                    StringBuilder st = new StringBuilder();
+                    for (IntVar v : vars) {
+                        st.append(s.getIntVal(v)).append(' ');
+                    }
+                    return st.toString();
+                })
+                .collect(Collectors.toSet());
+        Assert.assertEquals(solutions.size(), 92);
+        m.getSolver().reset();
+        // splits do not add constraints to the model
+        Assert.assertEquals(m.getNbCstrs(), nbCstrs);
+        long count = m.getSolver()
+                .streamSolutions(() -> ProblemMaker.makeNQueenWithOneAlldifferent(8))
+                .parallel()
+                .count();
+        Assert.assertEquals(count, 92);
+    }
+
     @Test(groups = "1s", timeOut = 60000)
     public void testFindOptimalSolution() {
         Model m = ProblemMaker.makeGolombRuler(8);
@@ -0,0 +1,97 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.chocosolver.solver.ModelTest.knapsack;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+public class ParallelBoundProbingTest {
+
+    @Test(groups="1s", timeOut=60000)
+    public void testMinimize() {
+        ParallelBoundProbing probing = new ParallelBoundProbing();
+        for (int i = 0; i < 4; i++) {
+            Model model = ProblemMaker.makeGolombRuler(6);
+            model.getSolver().setSearch(inputOrderLBSearch((IntVar[]) model.getHook("ticks")));
+            probing.addModel(model);
+        }
+        Assert.assertTrue(probing.solve());
+        Assert.assertTrue(probing.isOptimal());
+        IntVar[] ticks = (IntVar[]) probing.getModels().get(0).getHook("ticks");
+        Assert.assertEquals(probing.getBestSolution().getIntVal(ticks[5]), 17);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testMaximize() {
+        ParallelBoundProbing probing = new ParallelBoundProbing();
+        for (int i = 0; i < 3; i++) {
+            probing.addModel(knapsack());
+        }
+        Assert.assertTrue(probing.solve());
+        Assert.assertTrue(probing.isOptimal());
+        IntVar power = (IntVar) probing.getModels().get(1).getObjective();
+        Assert.assertEquals(probing.getBestSolution().getIntVal(power), 51);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNoSolution() {
+        ParallelBoundProbing probing = new ParallelBoundProbing();
+        for (int i = 0; i < 2; i++) {
+            Model model = ProblemMaker.makeGolombRuler(6);
+            IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+            model.arithm(ticks[5], "<", 17).post();
+            probing.addModel(model);
+        }
+        Assert.assertFalse(probing.solve());
+        Assert.assertTrue(probing.isOptimal());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSolveTwice() {
+        ParallelBoundProbing probing = new ParallelBoundProbing();
+        for (int i = 0; i < 3; i++) {
+            probing.addModel(knapsack());
+        }
+        Assert.assertTrue(probing.solve());
+        // shared bounds are kept between probes, but not between resolutions
+        Assert.assertTrue(probing.solve());
+        Assert.assertTrue(probing.isOptimal());
+        IntVar power = (IntVar) probing.getModels().get(0).getObjective();
+        Assert.assertEquals(probing.getBestSolution().getIntVal(power), 51);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = IllegalStateException.class)
+    public void testFailure() {
+        ParallelBoundProbing probing = new ParallelBoundProbing();
+        for (int i = 0; i < 2; i++) {
+            Model model = knapsack();
+            model.getSolver().plugMonitor((IMonitorSolution) () -> {
+                throw new IllegalStateException();
+            });
+            probing.addModel(model);
+        }
+        probing.solve();
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testSatisfaction() {
+        ParallelBoundProbing probing = new ParallelBoundProbing();
+        Model model = knapsack();
+        model.clearObjective();
+        probing.addModel(model);
+        probing.solve();
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class SolutionPoolTest {
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAllSolutions() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.allDifferent(x).post();
+        SolutionPool pool = model.getSolver().findAllSolutions(new SolutionPool(new IntVar[]{x[0], x[2]}, 2, false));
+        Assert.assertEquals(pool.size(), 24);
+        model.getSolver().reset();
+        List<Solution> solutions = model.getSolver().findAllSolutions();
+        Assert.assertEquals(solutions.size(), 24);
+        for (int s = 0; s < 24; s++) {
+            Assert.assertEquals(pool.getIntVal(s, x[0]), solutions.get(s).getIntVal(x[0]));
+            Assert.assertEquals(pool.get(s, 1), solutions.get(s).getIntVal(x[2]));
+            Assert.assertEquals(pool.getColumn(1)[s], solutions.get(s).getIntVal(x[2]));
+            Assert.assertEquals(pool.getSolution(s).getIntVal(x[2]), solutions.get(s).getIntVal(x[2]));
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDeduplicate() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 3);
+        model.allDifferent(x[0], x[1], x[2]).post();
+        SolutionPool pool = new SolutionPool(new IntVar[]{x[0], x[3]}, 1, true);
+        model.getSolver().plugMonitor(pool);
+        Set<String> ref = new HashSet<>();
+        while (model.getSolver().solve()) {
+            ref.add(x[0].getValue() + " " + x[3].getValue());
+        }
+        Assert.assertEquals(pool.size(), ref.size());
+        Set<String> found = new HashSet<>();
+        int[] values = new int[2];
+        for (int s = 0; s < pool.size(); s++) {
+            pool.getValues(s, values);
+            Assert.assertTrue(found.add(values[0] + " " + values[1]));
+        }
+        Assert.assertEquals(found, ref);
+        pool.clear();
+        Assert.assertEquals(pool.size(), 0);
+    }
+}
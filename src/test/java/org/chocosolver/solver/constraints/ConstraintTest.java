@@ -9,6 +9,7 @@
 package org.chocosolver.solver.constraints;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.strategy.Search;
@@ -112,6 +113,48 @@ public class ConstraintTest {
     }
 
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReifyTwice() {
+        Model m = new Model();
+        m.set(new Settings() {
+            @Override
+            public boolean enableStructuralHashing() {
+                return true;
+            }
+        });
+        IntVar v = m.intVar(0, 2);
+        IntVar w = m.intVar(0, 2);
+        BoolVar b = m.arithm(v, ">", w).reify();
+        int nbCstrs = m.getNbCstrs();
+        int nbVars = m.getNbVars();
+        Assert.assertSame(m.arithm(v, ">", w).reify(), b);
+        Assert.assertSame(m.arithm(v, "<=", w).reify(), b.not());
+        Assert.assertNotSame(m.arithm(v, "<", w).reify(), b);
+        Assert.assertEquals(m.getNbCstrs(), nbCstrs + 1);
+        Assert.assertEquals(m.getNbVars(), nbVars + 1);
+        m.arithm(v, ">", w).reify().eq(1).post();
+        while (m.getSolver().solve()) ;
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testPostAfterCachedReif() {
+        Model m = new Model();
+        m.set(new Settings() {
+            @Override
+            public boolean enableStructuralHashing() {
+                return true;
+            }
+        });
+        IntVar v = m.intVar(0, 2);
+        m.arithm(v, ">", 1).reify();
+        Constraint c = m.arithm(v, ">", 1);
+        c.reify();
+        Assert.assertTrue(c.isReified());
+        Assert.assertEquals(c.getStatus(), Constraint.Status.REIFIED);
+        c.post();
+    }
+
     @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
     public void testPostAndReif1() {
         Model m = new Model();
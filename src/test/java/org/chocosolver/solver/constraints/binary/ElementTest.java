@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
@@ -393,4 +394,54 @@ public class ElementTest {
 		assertEquals(s.getSolver().getSolutionCount(), 2L);
 	}
 
-}
\ No newline at end of file
+	@Test(groups="1s", timeOut=60000)
+	public void testElementVarArray() {
+		Random rnd = new Random();
+		for (int seed = 0; seed < 30; seed++) {
+			long[] nbSols = new long[2];
+			for (int k = 0; k < 2; k++) {
+				rnd.setSeed(seed);
+				Model model = new Model();
+				int n = 2 + rnd.nextInt(5);
+				IntVar[] table = new IntVar[n];
+				for (int i = 0; i < n; i++) {
+					int lb = rnd.nextInt(5);
+					table[i] = model.intVar("t" + i, lb, lb + rnd.nextInt(4), rnd.nextBoolean());
+				}
+				IntVar index = model.intVar("i", -1, n + 1, rnd.nextBoolean());
+				IntVar value = model.intVar("v", 0, 8, rnd.nextBoolean());
+				if (k == 0) {
+					model.element(value, table, index, 0).post();
+				} else {
+					model.member(index, 0, n - 1).post();
+					for (int i = 0; i < n; i++) {
+						model.ifThen(model.arithm(index, "=", i), model.arithm(value, "=", table[i]));
+					}
+				}
+				Solver solver = model.getSolver();
+				solver.setSearch(randomSearch(flatten(new IntVar[][]{table, {index, value}}), seed));
+				while (solver.solve()) ;
+				nbSols[k] = solver.getSolutionCount();
+			}
+			assertEquals(nbSols[0], nbSols[1], "seed " + seed);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testElementVarAndSupportModified() throws ContradictionException {
+		Model model = new Model();
+		IntVar[] table = new IntVar[]{model.intVar("t0", 0, 5), model.intVar("t1", 1, 5)};
+		IntVar index = model.intVar("i", 0, 1);
+		IntVar value = model.intVar("v", 0, 5);
+		model.element(value, table, index, 0).post();
+		model.getSolver().propagate();
+		// t0 supports the lower bound of v, both v and t0 are modified before the element propagator runs
+		table[0].updateLowerBound(4, Cause.Null);
+		value.updateUpperBound(4, Cause.Null);
+		model.getSolver().propagate();
+		// t1 still supports 1
+		assertEquals(value.getLB(), 1);
+		assertEquals(value.getUB(), 4);
+	}
+
+}
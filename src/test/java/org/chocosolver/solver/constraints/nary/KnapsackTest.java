@@ -9,7 +9,9 @@
 package org.chocosolver.solver.constraints.nary;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
 import org.chocosolver.solver.search.strategy.selectors.variables.Largest;
@@ -19,6 +21,8 @@ import org.chocosolver.util.tools.MathUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+
 /**
  * @author Jean-Guillaume FAGES (cosling)
  * @since 05/04/2017.
@@ -58,4 +62,68 @@ public class KnapsackTest {
 		s.printShortStatistics();
 		Assert.assertEquals(16537,s.getBestSolutionValue());
 	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void dpKnapsackTest() {
+		Random rnd = new Random();
+		for (int seed = 0; seed < 20; seed++) {
+			rnd.setSeed(seed);
+			int n = 3 + rnd.nextInt(4);
+			int[] w = new int[n];
+			int[] e = new int[n];
+			for (int i = 0; i < n; i++) {
+				w[i] = rnd.nextInt(8);
+				e[i] = rnd.nextInt(10);
+			}
+			long withDP = enumerate(n, w, e, seed, Integer.MAX_VALUE);
+			long withoutDP = enumerate(n, w, e, seed, 0);
+			Assert.assertEquals(withDP, withoutDP);
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void dpKnapsackRootTest() throws ContradictionException {
+		// only 0, 4, 6 and 10 are reachable loads
+		IntVar withDP = rootLoad(Integer.MAX_VALUE);
+		Assert.assertEquals(withDP.getUB(), 10);
+		Assert.assertFalse(withDP.contains(5));
+		Assert.assertFalse(withDP.contains(9));
+		Assert.assertEquals(withDP.getDomainSize(), 4);
+		IntVar withoutDP = rootLoad(0);
+		Assert.assertTrue(withoutDP.contains(5));
+	}
+
+	private IntVar rootLoad(int maxTableSize) throws ContradictionException {
+		Model m = new Model();
+		m.set(new Settings() {
+			@Override
+			public int getMaxDPTableSizeForKnapsack() {
+				return maxTableSize;
+			}
+		});
+		IntVar[] x = m.intVarArray("x", 2, 0, 1);
+		IntVar load = m.intVar("load", 0, 15);
+		IntVar profit = m.intVar("profit", 0, 100);
+		m.knapsack(x, load, profit, new int[]{4, 6}, new int[]{1, 1}).post();
+		m.getSolver().propagate();
+		return load;
+	}
+
+	private long enumerate(int n, int[] w, int[] e, long seed, int maxTableSize) {
+		Model m = new Model();
+		m.set(new Settings() {
+			@Override
+			public int getMaxDPTableSizeForKnapsack() {
+				return maxTableSize;
+			}
+		});
+		IntVar[] x = m.intVarArray("x", n, 0, 2);
+		IntVar load = m.intVar("load", 0, 15);
+		IntVar profit = m.intVar("profit", 0, 100);
+		m.knapsack(x, load, profit, w, e).post();
+		Solver s = m.getSolver();
+		s.setSearch(Search.randomSearch(x, seed));
+		while (s.solve()) ;
+		return s.getSolutionCount();
+	}
 }
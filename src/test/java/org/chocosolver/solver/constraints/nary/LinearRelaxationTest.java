@@ -0,0 +1,145 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelTest;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+public class LinearRelaxationTest {
+
+    @Test(groups="1s", timeOut=60000)
+    public void testRootBound() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.boolVarArray("x", 4);
+        IntVar cost = model.intVar("cost", 0, 100);
+        model.scalar(x, new int[]{3, 5, 7, 9}, ">=", 11).post();
+        model.scalar(x, new int[]{2, 3, 4, 5}, "=", cost).post();
+        model.linearRelaxation(Model.MINIMIZE, cost).post();
+        model.getSolver().propagate();
+        // the relaxation takes x3 and 2/7 of x2, that is 43/7
+        Assert.assertEquals(cost.getLB(), 7);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testMaxRows() throws ContradictionException {
+        Model model = new Model();
+        model.set(new Settings() {
+            @Override
+            public int getLinearRelaxationMaxRows() {
+                return 2;
+            }
+        });
+        IntVar[] x = model.boolVarArray("x", 4);
+        IntVar cost = model.intVar("cost", 0, 100);
+        model.scalar(x, new int[]{3, 5, 7, 9}, ">=", 11).post();
+        model.arithm(x[0], "+", x[1], "<=", 2).post();
+        model.scalar(x, new int[]{2, 3, 4, 5}, "=", cost).post();
+        model.linearRelaxation(Model.MINIMIZE, cost).post();
+        model.getSolver().propagate();
+        // the row over the cost is kept first, then the first other one, which gives the bound of testRootBound
+        Assert.assertEquals(cost.getLB(), 7);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testUnpostedSource() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        IntVar cost = model.intVar("cost", 0, 15);
+        model.sum(x, "=", cost).post();
+        Constraint atLeast = model.arithm(cost, ">=", 5);
+        atLeast.post();
+        model.linearRelaxation(Model.MINIMIZE, cost).post();
+        // the row of an unposted constraint does not bound the objective anymore
+        model.unpost(atLeast);
+        model.setObjective(Model.MINIMIZE, cost);
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getBestSolutionValue(), 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testMaximize() {
+        Model model = ModelTest.knapsack();
+        model.linearRelaxation(Model.MAXIMIZE, (IntVar) model.getObjective()).post();
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getBestSolutionValue(), 51);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testRandom() {
+        for (int seed = 0; seed < 20; seed++) {
+            Model m1 = cover(seed, false);
+            Model m2 = cover(seed, true);
+            while (m1.getSolver().solve()) ;
+            while (m2.getSolver().solve()) ;
+            Assert.assertEquals(m2.getSolver().getSolutionCount() > 0, m1.getSolver().getSolutionCount() > 0);
+            if (m1.getSolver().getSolutionCount() > 0) {
+                Assert.assertEquals(m2.getSolver().getBestSolutionValue(), m1.getSolver().getBestSolutionValue());
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNodeReduction() {
+        long[] nodes = new long[2];
+        for (int k = 0; k < 2; k++) {
+            // minimum vertex cover of an odd cycle: the relaxation proves that the first solution is optimal
+            Model model = new Model();
+            int n = 21;
+            BoolVar[] x = model.boolVarArray("x", n);
+            IntVar cost = model.intVar("cost", 0, n);
+            for (int i = 0; i < n; i++) {
+                model.arithm(x[i], "+", x[(i + 1) % n], ">=", 1).post();
+            }
+            model.sum(x, "=", cost).post();
+            model.setObjective(Model.MINIMIZE, cost);
+            if (k == 1) {
+                model.linearRelaxation(Model.MINIMIZE, cost).post();
+            }
+            model.getSolver().setSearch(inputOrderLBSearch(x));
+            while (model.getSolver().solve()) ;
+            Assert.assertEquals(model.getSolver().getBestSolutionValue(), 11);
+            nodes[k] = model.getSolver().getNodeCount();
+        }
+        Assert.assertTrue(nodes[1] < nodes[0], nodes[1] + " nodes with the relaxation, " + nodes[0] + " without");
+    }
+
+    private static Model cover(int seed, boolean relax) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        int n = 8;
+        IntVar[] x = model.intVarArray("x", n, 0, 2);
+        int[] w = new int[n], v = new int[n], c = new int[n];
+        for (int i = 0; i < n; i++) {
+            w[i] = 1 + rnd.nextInt(9);
+            v[i] = 1 + rnd.nextInt(9);
+            c[i] = 1 + rnd.nextInt(9);
+        }
+        IntVar cost = model.intVar("cost", 0, 999);
+        model.scalar(x, w, ">=", 20 + rnd.nextInt(20)).post();
+        model.scalar(x, v, "<=", 30 + rnd.nextInt(20)).post();
+        model.arithm(x[0], "+", x[1], "<=", 2).post();
+        model.scalar(x, c, "=", cost).post();
+        model.setObjective(Model.MINIMIZE, cost);
+        if (relax) {
+            model.linearRelaxation(Model.MINIMIZE, cost).post();
+        }
+        return model;
+    }
+}
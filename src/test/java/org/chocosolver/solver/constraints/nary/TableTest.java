@@ -41,7 +41,7 @@ import static org.testng.Assert.assertEquals;
 
 public class TableTest {
 
-	private static String[] ALGOS = {"CT+", "FC", "GAC2001", "GACSTR+", "GAC2001+", "GAC3rm+", "GAC3rm", "STR2+", "MDD+"};
+	private static String[] ALGOS = {"CT+", "FC", "GAC2001", "GACSTR+", "GAC2001+", "GAC3rm+", "GAC3rm", "STR2+", "MDD+", "MDD4R+"};
 	private static String[] BIN_ALGOS = {"FC", "AC2001", "AC3", "AC3rm", "AC3bit+rm"};
 
 	@Test(groups="1s", timeOut=60000)
@@ -1106,4 +1106,65 @@ public class IntLinCombTest {
 			assertEquals(c1,18);
         }
     }
+
+    protected Model scalar(int[][] domains, int[] coeffs, int b, int op, boolean incr) {
+        Model model = new Model();
+        model.set(new Settings() {
+            @Override
+            public boolean enableIncrementalityOnSum(int nbvars) {
+                return incr;
+            }
+        });
+        IntVar[] bins = new IntVar[domains.length];
+        for (int i = 0; i < domains.length; i++) {
+            bins[i] = model.intVar("v_" + i, domains[i][0], domains[i][domains[i].length - 1], true);
+        }
+        String opname = "=";
+        if (op != 0) {
+            if (op > 0) {
+                opname = ">=";
+            } else {
+                opname = "<=";
+            }
+        }
+        model.scalar(bins, coeffs, opname, b).post();
+        model.getSolver().setSearch(inputOrderLBSearch(bins));
+        return model;
+    }
+
+    @Test(groups="1s", timeOut=300000)
+    public void testScalarIncr() {
+        Random rand = new Random();
+        for (int seed = 0; seed < 300; seed++) {
+            rand.setSeed(seed);
+            int n = 3 + rand.nextInt(5);
+            int min = -5 + rand.nextInt(10);
+            int max = min + rand.nextInt(10);
+            int[][] domains = buildFullDomains(n, min, max, rand, 1.0, false);
+            int[] coeffs = new int[n];
+            for (int i = 0; i < n; i++) {
+                coeffs[i] = -10 + rand.nextInt(20);
+            }
+            int lb = -20 + rand.nextInt(40);
+            int op = -1 + rand.nextInt(3);
+            Model scalar = scalar(domains, coeffs, lb, op, false);
+            Model scalarIncr = scalar(domains, coeffs, lb, op, true);
+
+            while (scalar.getSolver().solve()) ;
+            while (scalarIncr.getSolver().solve()) ;
+            assertEquals(scalar.getSolver().getSolutionCount(), scalarIncr.getSolver().getSolutionCount());
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testScalarNoOverflow() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 1 << 30, true);
+        IntVar y = model.intVar("y", 0, 1 << 30, true);
+        model.scalar(new IntVar[]{x, y}, new int[]{2, 2}, ">=", Integer.MAX_VALUE - 1).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderUBSearch(x, y));
+        assertTrue(solver.solve());
+        assertTrue(2L * x.getValue() + 2L * y.getValue() >= Integer.MAX_VALUE - 1);
+    }
 }
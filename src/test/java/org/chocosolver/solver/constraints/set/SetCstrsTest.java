@@ -8,14 +8,20 @@
  */
 package org.chocosolver.solver.constraints.set;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.solver.variables.impl.SetVarImpl;
+import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static java.lang.System.out;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
@@ -97,4 +103,65 @@ public class SetCstrsTest {
 			case "allEqual":return x.getModel().allEqual(x, y);
 		}
 	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testWordPropagation() {
+		Random rnd = new Random();
+		for (int seed = 0; seed < 40; seed++) {
+			SetVar[][] vars = new SetVar[2][];
+			boolean[] fails = new boolean[2];
+			for (SetType type : new SetType[]{SetType.BITSET, SetType.LINKED_LIST}) {
+				rnd.setSeed(seed);
+				Model model = new Model();
+				int n = 2 + rnd.nextInt(3);
+				SetVar[] sets = new SetVar[n + 1];
+				for (int i = 0; i <= n; i++) {
+					TIntArrayList ker = new TIntArrayList(), env = new TIntArrayList();
+					int offset = rnd.nextInt(20) - 10;
+					for (int e = offset; e < 140; e++) {
+						int r = rnd.nextInt(8);
+						if (r > 0) {
+							env.add(e);
+						}
+						if (r == 1) {
+							ker.add(e);
+						}
+					}
+					sets[i] = new SetVarImpl("s" + i, ker.toArray(), type, env.toArray(), type, model);
+				}
+				SetVar[] args = Arrays.copyOf(sets, n);
+				switch (seed % 4) {
+					case 0:
+						model.union(args, sets[n]).post();
+						break;
+					case 1:
+						model.intersection(args, sets[n]).post();
+						break;
+					case 2:
+						model.subsetEq(sets).post();
+						break;
+					case 3:
+						model.allDisjoint(sets).post();
+						break;
+				}
+				int t = type == SetType.BITSET ? 0 : 1;
+				try {
+					model.getSolver().propagate();
+				} catch (ContradictionException e) {
+					fails[t] = true;
+				}
+				vars[t] = sets;
+			}
+			assertEquals(fails[0], fails[1], "seed " + seed);
+			if (!fails[0]) {
+				for (int i = 0; i < vars[0].length; i++) {
+					assertEquals(vars[0][i].getLB().size(), vars[1][i].getLB().size(), "seed " + seed);
+					assertEquals(vars[0][i].getUB().size(), vars[1][i].getUB().size(), "seed " + seed);
+					for (int e : vars[1][i].getUB()) {
+						assertTrue(vars[0][i].getUB().contains(e));
+					}
+				}
+			}
+		}
+	}
 }
@@ -9,6 +9,7 @@
 package org.chocosolver.solver.expression.discrete;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
 import org.chocosolver.solver.expression.discrete.relational.ReExpression;
 import org.chocosolver.solver.variables.BoolVar;
@@ -419,4 +420,35 @@ public class ExpressionTest {
         eval(model, x.eq(y.eq(1).not().and(y.eq(2).not())), p, 4);
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStructuralHashing() {
+        Model model = new Model();
+        model.set(new Settings() {
+            @Override
+            public boolean enableStructuralHashing() {
+                return true;
+            }
+        });
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        Assert.assertSame(x.eq(3).boolVar(), x.eq(3).boolVar());
+        Assert.assertSame(x.ge(y).boolVar(), y.le(x).boolVar());
+        Assert.assertSame(x.ne(y).boolVar(), y.ne(x).boolVar());
+        Assert.assertNotSame(x.lt(y).boolVar(), y.lt(x).boolVar());
+        Assert.assertSame(x.mul(y).intVar(), y.mul(x).intVar());
+        Assert.assertNotSame(x.sub(y).intVar(), y.sub(x).intVar());
+        Assert.assertSame(model.intOffsetView(x, 2), x.add(2).intVar());
+        BoolVar b = x.add(y).eq(4).boolVar();
+        int nbCstrs = model.getNbCstrs();
+        int nbVars = model.getNbVars();
+        Assert.assertSame(y.add(x).eq(4).boolVar(), b);
+        Assert.assertEquals(model.getNbCstrs(), nbCstrs);
+        Assert.assertEquals(model.getNbVars(), nbVars);
+
+        // disabled by default
+        Model ref = new Model();
+        x = ref.intVar("x", 0, 5);
+        Assert.assertNotSame(x.eq(3).boolVar(), x.eq(3).boolVar());
+        Assert.assertNotSame(ref.intOffsetView(x, 2), ref.intOffsetView(x, 2));
+    }
 }
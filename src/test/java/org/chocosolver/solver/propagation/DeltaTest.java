@@ -8,6 +8,7 @@
  */
 package org.chocosolver.solver.propagation;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
@@ -47,6 +48,30 @@ public class DeltaTest {
         }
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testCauses() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("X", 0, 20, false);
+        Propagator own = model.arithm(x, ">", 0).getPropagator(0);
+        IIntDeltaMonitor monitor = x.monitorDelta(own);
+        model.getEnvironment().worldPush();
+        x.updateLowerBound(3, Null);
+        x.removeValue(5, own);
+        x.removeValue(6, own);
+        x.updateUpperBound(18, Null);
+        EnumDelta d = (EnumDelta) x.getDelta();
+        Assert.assertEquals(d.size(), 7);
+        Assert.assertEquals(d.getCause(2), Null);
+        Assert.assertEquals(d.getCause(3), own);
+        Assert.assertEquals(d.nextCauseChange(1), 3);
+        Assert.assertEquals(d.nextCauseChange(3), 5);
+        monitor.freeze();
+        TIntArrayList values = new TIntArrayList();
+        monitor.getRemovedValues(values);
+        Assert.assertEquals(values.toArray(), new int[]{0, 1, 2, 20, 19});
+        monitor.unfreeze();
+    }
+
     @Test(groups="1s", timeOut=60000)
     public void testEq() throws ContradictionException {
         Model model = new Model();
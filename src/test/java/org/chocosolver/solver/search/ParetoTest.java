@@ -10,6 +10,7 @@ package org.chocosolver.solver.search;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.objective.ParetoArchive;
 import org.chocosolver.solver.objective.ParetoOptimizer;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.strategy.Search;
@@ -17,6 +18,12 @@ import org.chocosolver.solver.variables.IntVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
 import static java.lang.Integer.parseInt;
 import static java.lang.Math.max;
 
@@ -38,6 +45,119 @@ public class ParetoTest {
         Assert.assertTrue(bestProfit1 > 60);
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testArchive() {
+        Random rnd = new Random();
+        for (int n = 2; n <= 3; n++) {
+            for (int seed = 0; seed < 20; seed++) {
+                rnd.setSeed(seed);
+                ParetoArchive archive = new ParetoArchive(n);
+                List<int[]> ref = new ArrayList<>();
+                List<Solution> removed = new ArrayList<>();
+                for (int k = 0; k < 200; k++) {
+                    int[] point = new int[n];
+                    for (int i = 0; i < n; i++) {
+                        point[i] = rnd.nextInt(50);
+                    }
+                    boolean dominated = ref.stream().anyMatch(q -> leq(q, point));
+                    Assert.assertEquals(archive.isDominated(point), dominated);
+                    Assert.assertEquals(archive.add(point, null, removed), !dominated);
+                    if (!dominated) {
+                        ref.removeIf(q -> leq(point, q));
+                        ref.add(point.clone());
+                    }
+                    Assert.assertEquals(archive.size(), ref.size());
+                    Set<String> points = new HashSet<>();
+                    for (int p = 0; p < archive.size(); p++) {
+                        StringBuilder st = new StringBuilder();
+                        for (int i = 0; i < n; i++) {
+                            st.append(archive.get(p, i)).append(' ');
+                        }
+                        points.add(st.toString());
+                    }
+                    for (int[] q : ref) {
+                        StringBuilder st = new StringBuilder();
+                        for (int i = 0; i < n; i++) {
+                            st.append(q[i]).append(' ');
+                        }
+                        Assert.assertTrue(points.contains(st.toString()));
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean leq(int[] p, int[] q) {
+        for (int i = 0; i < p.length; i++) {
+            if (p[i] > q[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testFront() {
+        for (int n = 2; n <= 3; n++) {
+            for (boolean maximize : new boolean[]{true, false}) {
+                for (int seed = 0; seed < 5; seed++) {
+                    Random rnd = new Random(seed);
+                    int[][] coeffs = new int[n][5];
+                    for (int i = 0; i < n; i++) {
+                        for (int j = 0; j < 5; j++) {
+                            coeffs[i][j] = rnd.nextInt(11) - 5;
+                        }
+                    }
+                    // all points, then the non-dominated ones
+                    Model all = new Model();
+                    IntVar[] x = all.intVarArray("x", 5, 0, 2);
+                    IntVar[] obj = new IntVar[n];
+                    for (int i = 0; i < n; i++) {
+                        obj[i] = all.intVar("o" + i, -50, 50);
+                        all.scalar(x, coeffs[i], "=", obj[i]).post();
+                    }
+                    List<int[]> points = new ArrayList<>();
+                    while (all.getSolver().solve()) {
+                        int[] point = new int[n];
+                        for (int i = 0; i < n; i++) {
+                            point[i] = maximize ? -obj[i].getValue() : obj[i].getValue();
+                        }
+                        points.add(point);
+                    }
+                    Set<String> front = new HashSet<>();
+                    for (int[] p : points) {
+                        if (points.stream().noneMatch(q -> leq(q, p) && !leq(p, q))) {
+                            StringBuilder st = new StringBuilder();
+                            for (int i = 0; i < n; i++) {
+                                st.append(maximize ? -p[i] : p[i]).append(' ');
+                            }
+                            front.add(st.toString());
+                        }
+                    }
+                    // Pareto front
+                    Model model = new Model();
+                    x = model.intVarArray("x", 5, 0, 2);
+                    obj = new IntVar[n];
+                    for (int i = 0; i < n; i++) {
+                        obj[i] = model.intVar("o" + i, -50, 50);
+                        model.scalar(x, coeffs[i], "=", obj[i]).post();
+                    }
+                    List<Solution> solutions = model.getSolver().findParetoFront(obj, maximize);
+                    Set<String> found = new HashSet<>();
+                    for (Solution sol : solutions) {
+                        StringBuilder st = new StringBuilder();
+                        for (int i = 0; i < n; i++) {
+                            st.append(sol.getIntVal(obj[i])).append(' ');
+                        }
+                        found.add(st.toString());
+                    }
+                    Assert.assertEquals(solutions.size(), front.size());
+                    Assert.assertEquals(found, front);
+                }
+            }
+        }
+    }
+
     private void runKnapsackPareto(final int capacity, final String... items) {
         int[] nbItems = new int[items.length];
         int[] weights = new int[items.length];
@@ -99,4 +99,33 @@ public class TestMultiSequentialObjectives {
 		Assert.assertEquals(s.getIntVal(card), 2);
 	}
 
+	/**
+	 * find lowest a,b,c (in that order) with a<b<c and a+b+c>=100, declaring the objectives in the model<br />
+	 * best solution is 0,1,99 and the lexicographic cut is posted once
+	 */
+	@Test(groups="1s", timeOut=60000)
+	public void simpleLexTest5(){
+		Model m = new Model();
+		IntVar a = m.intVar("a", 0, 99), b = m.intVar("b", 0, 99), c = m.intVar("c", 0, 99);
+		IntVar[] vals = new IntVar[] { a, b, c };
+		m.sum(vals, ">=", 100).post();
+		m.arithm(a, "<", b).post();
+		m.arithm(b, "<", c).post();
+		m.setLexObjective(false, vals);
+		m.getSolver().setSearch(Search.inputOrderUBSearch(a, b, c));
+		int nbCstrs = m.getNbCstrs();
+		Solution s = new Solution(m);
+		while (m.getSolver().solve()) {
+			s.record();
+			Assert.assertEquals(m.getNbCstrs(), nbCstrs + 1);
+		}
+		Assert.assertTrue(m.getSolver().getSolutionCount() > 1);
+		Assert.assertEquals(s.getIntVal(a), 0);
+		Assert.assertEquals(s.getIntVal(b), 1);
+		Assert.assertEquals(s.getIntVal(c), 99);
+		Assert.assertEquals(m.getSolver().getBestSolutionValue(), 0);
+		m.clearObjective();
+		Assert.assertEquals(m.getNbCstrs(), nbCstrs);
+	}
+
 }
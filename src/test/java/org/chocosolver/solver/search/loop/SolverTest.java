@@ -10,6 +10,7 @@ package org.chocosolver.solver.search.loop;
 
 import org.chocosolver.cutoffseq.LubyCutoffStrategy;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.search.limits.NodeCounter;
@@ -24,6 +25,8 @@ import static org.chocosolver.solver.search.strategy.Search.*;
 import static org.chocosolver.util.ProblemMaker.makeGolombRuler;
 import static org.chocosolver.util.ProblemMaker.makeNQueenWithOneAlldifferent;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Created by cprudhom on 02/09/15.
@@ -255,4 +258,95 @@ public class SolverTest {
         while (model.getSolver().solve()) ;
         assertEquals(r.getMeasures().getSolutionCount(), 4);
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testHint() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.allDifferent(x).post();
+        Solver r = model.getSolver();
+        r.setSearch(inputOrderLBSearch(x));
+        Solution hint = new Solution(model);
+        for (int i = 0; i < 4; i++) {
+            hint.setIntVal(x[i], 3 - i);
+        }
+        r.setHint(hint);
+        r.solve();
+        for (int i = 0; i < 4; i++) {
+            assertEquals(x[i].getValue(), 3 - i);
+        }
+        // partial and infeasible hint
+        r.reset();
+        hint = new Solution(model);
+        hint.setIntVal(x[1], 3);
+        hint.setIntVal(x[2], 5);
+        r.setHint(hint);
+        r.solve();
+        assertEquals(x[0].getValue(), 0);
+        assertEquals(x[1].getValue(), 3);
+        assertEquals(x[2].getValue(), 1);
+        r.reset();
+        r.setHint(null);
+        assertEquals(r.findAllSolutions().size(), 24);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testHintOptimization() {
+        Model model = makeGolombRuler(6);
+        IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+        Solver r = model.getSolver();
+        r.setSearch(inputOrderLBSearch(model.retrieveIntVars(false)));
+        Solution best = new Solution(model);
+        while (r.solve()) {
+            best.record();
+        }
+        assertEquals(best.getIntVal(ticks[5]), 17);
+        // the bound is seeded by the hint, only optimal solutions remain
+        r.reset();
+        r.setHint(best);
+        while (r.solve()) ;
+        assertEquals(r.getSolutionCount(), 1);
+        assertEquals(r.getBestSolutionValue().intValue(), 17);
+        // the LNS starts from the hint
+        r.reset();
+        r.setLNS(new RandomNeighborhood(model.retrieveIntVars(false), 15, 0), new NodeCounter(model, 10));
+        r.limitSearch(() -> r.getMeasures().getNodeCount() >= 1000);
+        while (r.solve()) {
+            assertEquals(ticks[5].getValue(), 17);
+        }
+        assertEquals(r.getBestSolutionValue().intValue(), 17);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSolveUnder() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.allDifferent(x).post();
+        Solver r = model.getSolver();
+        r.setSearch(inputOrderLBSearch(x));
+        assertTrue(r.solveUnder(model.arithm(x[0], "=", 2)));
+        assertEquals(x[0].getValue(), 2);
+        int count = 1;
+        while (r.solve()) {
+            assertEquals(x[0].getValue(), 2);
+            count++;
+        }
+        assertEquals(count, 6);
+        assertFalse(r.solveUnder(model.arithm(x[0], "=", x[1])));
+        assertEquals(model.getNbCstrs(), 2);
+        assertTrue(r.solveUnder(model.arithm(x[3], "=", 0), model.arithm(x[2], "<", x[1])));
+        assertEquals(x[3].getValue(), 0);
+        assertTrue(x[2].getValue() < x[1].getValue());
+        // no assumption, previous ones are retracted
+        count = 0;
+        if (r.solveUnder()) {
+            do {
+                count++;
+            } while (r.solve());
+        }
+        assertEquals(count, 24);
+        assertEquals(model.getNbCstrs(), 1);
+        r.reset();
+        assertEquals(r.findAllSolutions().size(), 24);
+    }
 }
@@ -0,0 +1,90 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.serialization;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class BinaryModelTest {
+
+    private static Model model() {
+        Model model = new Model("binary");
+        IntVar[] x = model.intVarArray("x", 4, 0, 4);
+        IntVar y = model.intVar("y", new int[]{0, 1, 2, 5, 6, 9});
+        IntVar z = model.intVar("z", -10, 10, true);
+        BoolVar[] b = model.boolVarArray("b", 3);
+        model.allDifferent(x).post();
+        model.allDifferent(new IntVar[]{x[3], y, x[1]}, "NEQS").post();
+        model.arithm(x[0], "<", x[1]).post();
+        model.arithm(x[2], "-", x[3], ">", -2).post();
+        model.arithm(x[3], "!=", model.intVar(3)).post();
+        model.arithm(y, ">=", 1).post();
+        model.sum(b, "=", x[0]).post();
+        model.sum(new BoolVar[]{b[0].not(), b[1]}, "<=", 1).post();
+        model.scalar(x, new int[]{1, 2, -1, 3}, "<=", 15).post();
+        model.sum(new IntVar[]{model.intOffsetView(x[1], 2), model.intMinusView(y)}, ">=", z).post();
+        model.arithm(z, "=", model.intScaleView(x[2], 2), "-", 1).post();
+        return model;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testWriteRead() throws IOException {
+        Model model = model();
+        Path file = Files.createTempFile("model", ".bin");
+        try {
+            BinaryModelWriter.write(model, file);
+            Model copy = BinaryModelReader.read(file);
+            Assert.assertEquals(copy.getName(), model.getName());
+            Assert.assertEquals(copy.getNbVars(), model.getNbVars());
+            Assert.assertEquals(copy.getNbCstrs(), model.getNbCstrs());
+            IntVar y = (IntVar) copy.getVars()[4];
+            Assert.assertEquals(y.getName(), "y");
+            Assert.assertEquals(y.getDomainSize(), 6);
+            Assert.assertFalse(y.contains(3));
+            Assert.assertEquals(copy.getSolver().findAllSolutions().size(), model.getSolver().findAllSolutions().size());
+            Assert.assertTrue(model.getSolver().getSolutionCount() > 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testObjective() throws IOException {
+        Model model = model();
+        IntVar y = (IntVar) model.getVars()[4];
+        model.setObjective(Model.MAXIMIZE, y);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryModelWriter.write(model, out);
+        Model copy = BinaryModelReader.read(ByteBuffer.wrap(out.toByteArray()), null);
+        Assert.assertEquals(copy.getResolutionPolicy(), ResolutionPolicy.MAXIMIZE);
+        Assert.assertEquals(copy.getObjective().getName(), "y");
+        while (model.getSolver().solve()) ;
+        while (copy.getSolver().solve()) ;
+        Assert.assertEquals(copy.getSolver().getBestSolutionValue(), model.getSolver().getBestSolutionValue());
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testUnsupported() throws IOException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 4);
+        model.times(x[0], x[1], x[2]).post();
+        BinaryModelWriter.write(model, new ByteArrayOutputStream());
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.serialization;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+public class FlatZincReaderTest {
+
+    private static Model read(String fzn) throws IOException {
+        return FlatZincReader.read(new StringReader(fzn), "fzn", null);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testQueens() throws IOException {
+        Model model = read(
+                "% 4-queens\n" +
+                "predicate fzn_all_different_int(array [int] of var int: x);\n" +
+                "int: n = 4;\n" +
+                "array [1..4] of var 1..4: q :: output_array([1..4]);\n" +
+                "constraint fzn_all_different_int(q);\n" +
+                "constraint int_lin_ne([1,-1],[q[1],q[2]],1);\n" +
+                "constraint int_lin_ne([1,-1],[q[1],q[2]],-1);\n" +
+                "constraint int_lin_ne([1,-1],[q[1],q[3]],2);\n" +
+                "constraint int_lin_ne([1,-1],[q[1],q[3]],-2);\n" +
+                "constraint int_lin_ne([1,-1],[q[1],q[4]],3);\n" +
+                "constraint int_lin_ne([1,-1],[q[1],q[4]],-3);\n" +
+                "constraint int_lin_ne([1,-1],[q[2],q[3]],1);\n" +
+                "constraint int_lin_ne([1,-1],[q[2],q[3]],-1);\n" +
+                "constraint int_lin_ne([1,-1],[q[2],q[4]],2);\n" +
+                "constraint int_lin_ne([1,-1],[q[2],q[4]],-2);\n" +
+                "constraint int_lin_ne([1,-1],[q[3],q[4]],1);\n" +
+                "constraint int_lin_ne([1,-1],[q[3],q[4]],-1);\n" +
+                "solve :: int_search(q, input_order, indomain_min, complete) satisfy;\n");
+        Assert.assertEquals(model.getVars()[2].getName(), "q[3]");
+        Assert.assertTrue(model.getSolver().getReadingTimeCountInNanoSeconds() > 0);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 2);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testOptimization() throws IOException {
+        Model model = read(
+                "array [1..6] of int: t = [1,2, 2,3, 3,1];\n" +
+                "set of int: S = {1,3};\n" +
+                "var {1,2,3,5}: x :: output_var;\n" +
+                "var 0..5: y :: output_var;\n" +
+                "var bool: b;\n" +
+                "var bool: c;\n" +
+                "var -10..20: z :: is_defined_var;\n" +
+                "var int: w = z;\n" +
+                "constraint table_int([x,y],t);\n" +
+                "constraint set_in_reif(x,S,b);\n" +
+                "constraint bool_clause([b,c],[]);\n" +
+                "constraint bool2int(c,y) :: domain;\n" +
+                "constraint int_lin_eq([2,1,-1],[x,y,z],0) :: defines_var(z);\n" +
+                "solve maximize w;\n");
+        Assert.assertEquals(model.getResolutionPolicy(), ResolutionPolicy.MAXIMIZE);
+        IntVar x = (IntVar) model.getVars()[0];
+        Assert.assertFalse(x.contains(4));
+        while (model.getSolver().solve()) ;
+        // (3,1) satisfies the table, b is true since x is in S, z = 7
+        Assert.assertEquals(model.getSolver().getBestSolutionValue(), 7);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testRegular() throws IOException {
+        // sequences of 0 and 1 (symbols 1 and 2) with no two consecutive 1
+        Model model = read(
+                "array [1..4] of var 1..2: x;\n" +
+                "constraint regular(x,2,2,[1,2,1,0],1,1..2);\n" +
+                "solve satisfy;\n");
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 8);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBoolBuiltins() throws IOException {
+        // b1 xor b2 xor b3, and r <-> (b1 \/ ~b2)
+        Model model = read(
+                "array [1..3] of var bool: b;\n" +
+                "var bool: r;\n" +
+                "constraint array_bool_xor(b);\n" +
+                "constraint bool_clause_reif([b[1]],[b[2]],r);\n" +
+                "solve satisfy;\n");
+        // 4 assignments of b have an odd parity, r is fixed by each of them
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 4);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPow() throws IOException {
+        Model model = read(
+                "var 2..3: x;\n" +
+                "var 0..10: y;\n" +
+                "constraint int_pow(x,2,y);\n" +
+                "solve maximize y;\n");
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getBestSolutionValue(), 9);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testUnsupported()throws IOException {
+        read("var 0.0..1.0: f;\nsolve satisfy;\n");
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.serialization;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.exception.SolverException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class XCSP3ReaderTest {
+
+    private static Model read(String xml) throws IOException {
+        return XCSP3Reader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), "xcsp3", null);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testQueens() throws IOException {
+        Model model = read(
+                "<instance format=\"XCSP3\" type=\"CSP\">\n" +
+                "  <variables>\n" +
+                "    <array id=\"q\" size=\"[4]\"> 0..3 </array>\n" +
+                "  </variables>\n" +
+                "  <constraints>\n" +
+                "    <allDifferent> q[] </allDifferent>\n" +
+                "    <block class=\"diagonals\">\n" +
+                "      <intension> ne(dist(q[0],q[1]),1) </intension>\n" +
+                "      <intension> ne(dist(q[0],q[2]),2) </intension>\n" +
+                "      <intension> ne(dist(q[0],q[3]),3) </intension>\n" +
+                "      <intension> ne(dist(q[1],q[2]),1) </intension>\n" +
+                "      <intension> ne(dist(q[1],q[3]),2) </intension>\n" +
+                "      <intension> ne(dist(q[2],q[3]),1) </intension>\n" +
+                "    </block>\n" +
+                "  </constraints>\n" +
+                "</instance>\n");
+        Assert.assertEquals(model.getVars()[2].getName(), "q[2]");
+        Assert.assertTrue(model.getSolver().getReadingTimeCountInNanoSeconds() > 0);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 2);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testOptimization() throws IOException {
+        Model model = read(
+                "<instance format=\"XCSP3\" type=\"COP\">\n" +
+                "  <variables>\n" +
+                "    <var id=\"x\"> 1 2 3 5 </var>\n" +
+                "    <var id=\"y\"> 0..5 </var>\n" +
+                "    <array id=\"m\" size=\"[2][2]\"> 0..9 </array>\n" +
+                "  </variables>\n" +
+                "  <constraints>\n" +
+                "    <extension>\n" +
+                "      <list> x y </list>\n" +
+                "      <supports> (1,2)(2,3)(3,1) </supports>\n" +
+                "    </extension>\n" +
+                "    <sum>\n" +
+                "      <list> m[0][] </list>\n" +
+                "      <coeffs> 1 2 </coeffs>\n" +
+                "      <condition> (le,x) </condition>\n" +
+                "    </sum>\n" +
+                "    <element>\n" +
+                "      <list startIndex=\"1\"> m[][1] </list>\n" +
+                "      <index> y </index>\n" +
+                "      <value> 4 </value>\n" +
+                "    </element>\n" +
+                "    <ordered>\n" +
+                "      <list> m[1][] </list>\n" +
+                "      <operator> lt </operator>\n" +
+                "    </ordered>\n" +
+                "  </constraints>\n" +
+                "  <objectives>\n" +
+                "    <maximize type=\"sum\">\n" +
+                "      <list> m[] </list>\n" +
+                "    </maximize>\n" +
+                "  </objectives>\n" +
+                "</instance>\n");
+        Assert.assertEquals(model.getResolutionPolicy(), ResolutionPolicy.MAXIMIZE);
+        while (model.getSolver().solve()) ;
+        // y = 1 would need m[0][1] = 4, which breaks the sum, and y = 3 is out of the list,
+        // hence x = 1, y = 2, m[1][1] = 4, m[1][0] = 3 and 1 at most for the first row
+        Assert.assertEquals(model.getSolver().getBestSolutionValue(), 8);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testUnsupported() throws IOException {
+        read("<instance format=\"XCSP3\" type=\"CSP\">\n" +
+                "  <variables>\n" +
+                "    <var id=\"s\" type=\"set\"> </var>\n" +
+                "  </variables>\n" +
+                "</instance>\n");
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.view.AffineView;
+import org.chocosolver.solver.variables.view.OffsetView;
+import org.chocosolver.solver.variables.view.ScaleView;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.chocosolver.solver.Cause.Null;
+import static org.chocosolver.solver.search.strategy.Search.randomSearch;
+
+public class AffineViewTest {
+
+    @Test(groups="1s", timeOut=60000)
+    public void testFusion() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar v = model.intOffsetView(model.intScaleView(model.intMinusView(model.intOffsetView(x, 2)), 3), 1);
+        // 3 * -(x + 2) + 1
+        Assert.assertTrue(v instanceof AffineView);
+        Assert.assertEquals(((AffineView) v).getVariable(), x);
+        Assert.assertEquals(((AffineView) v).a, -3);
+        Assert.assertEquals(((AffineView) v).b, -5);
+        Assert.assertEquals(v.getLB(), -35);
+        Assert.assertEquals(v.getUB(), -5);
+        Assert.assertEquals(model.intMinusView(model.intMinusView(x)), x);
+        IntVar o = model.intOffsetView(model.intOffsetView(x, 2), -1);
+        Assert.assertTrue(o instanceof OffsetView);
+        Assert.assertEquals(((OffsetView) o).getVariable(), x);
+        Assert.assertEquals(model.intOffsetView(o, -1), x);
+        BoolVar b = model.boolVar("b");
+        IntVar nb = model.intScaleView(b.not(), 2);
+        Assert.assertTrue(nb instanceof AffineView);
+        Assert.assertEquals(((AffineView) nb).getVariable(), b);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testFusionOverflow() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 1);
+        IntVar v = model.intScaleView(x, 1 << 20);
+        // 2^20 * 2^20 does not fit an int, the views are not fused
+        IntVar w = model.intScaleView(v, 1 << 20);
+        Assert.assertTrue(w instanceof ScaleView);
+        Assert.assertEquals(((ScaleView) w).getVariable(), v);
+        IntVar o = model.intOffsetView(model.intOffsetView(x, Integer.MAX_VALUE - 1), 2);
+        Assert.assertTrue(o instanceof OffsetView);
+        Assert.assertNotEquals(((OffsetView) o).getVariable(), x);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDomain() throws ContradictionException {
+        Random rnd = new Random();
+        for (int seed = 0; seed < 200; seed++) {
+            rnd.setSeed(seed);
+            Model model = new Model();
+            int a = rnd.nextInt(9) - 4;
+            if (a == 0) a = -5;
+            int b = rnd.nextInt(21) - 10;
+            IntVar x = model.intVar("x", -5, 5, false);
+            IntVar v = model.intAffineView(a, x, b);
+            for (int k = 0; k < 3; k++) {
+                int r = rnd.nextInt(11) - 5;
+                if (r != 0) {
+                    x.removeValue(r, Null);
+                }
+            }
+            int w = a * (rnd.nextInt(11) - 5) + b;
+            v.removeValue(w, Null);
+            Assert.assertFalse(v.contains(w));
+            // compare the view to the values it should contain
+            int lb = Integer.MAX_VALUE, ub = Integer.MIN_VALUE, size = 0;
+            for (int y = -60; y <= 60; y++) {
+                boolean in = (y - b) % a == 0 && x.contains((y - b) / a);
+                Assert.assertEquals(v.contains(y), in, "seed " + seed);
+                if (in) {
+                    lb = Math.min(lb, y);
+                    ub = Math.max(ub, y);
+                    size++;
+                }
+            }
+            Assert.assertEquals(v.getLB(), lb);
+            Assert.assertEquals(v.getUB(), ub);
+            Assert.assertEquals(v.getDomainSize(), size);
+            for (int y = -60; y <= 60; y++) {
+                int n = y + 1;
+                while (n <= ub && !v.contains(n)) n++;
+                Assert.assertEquals(v.nextValue(y), n > ub ? Integer.MAX_VALUE : n, "seed " + seed);
+                int p = y - 1;
+                while (p >= lb && !v.contains(p)) p--;
+                Assert.assertEquals(v.previousValue(y), p < lb ? Integer.MIN_VALUE : p, "seed " + seed);
+                n = y + 1;
+                while (v.contains(n)) n++;
+                Assert.assertEquals(v.nextValueOut(y), n, "seed " + seed);
+                p = y - 1;
+                while (v.contains(p)) p--;
+                Assert.assertEquals(v.previousValueOut(y), p, "seed " + seed);
+            }
+            DisposableValueIterator vit = v.getValueIterator(true);
+            int c = 0;
+            for (int prev = Integer.MIN_VALUE; vit.hasNext(); c++) {
+                int y = vit.next();
+                Assert.assertTrue(y > prev && v.contains(y));
+                prev = y;
+            }
+            vit.dispose();
+            Assert.assertEquals(c, size);
+            DisposableRangeIterator rit = v.getRangeIterator(false);
+            c = 0;
+            for (int prev = Integer.MAX_VALUE; rit.hasPrevious(); rit.previous()) {
+                Assert.assertTrue(rit.max() < prev);
+                c += rit.max() - rit.min() + 1;
+                prev = rit.min();
+            }
+            rit.dispose();
+            Assert.assertEquals(c, size);
+            // bounds
+            v.updateBounds(lb + 1, ub - 1, Null);
+            Assert.assertTrue(v.getLB() > lb);
+            Assert.assertTrue(v.getUB() < ub);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testExpression() {
+        for (int seed = 0; seed < 20; seed++) {
+            Model ref = new Model();
+            ref.set(new Settings() {
+                @Override
+                public boolean enableViews() {
+                    return false;
+                }
+            });
+            Model model = new Model();
+            int[] counts = new int[2];
+            int k = 0;
+            for (Model m : new Model[]{ref, model}) {
+                IntVar x = m.intVar("x", -4, 4);
+                IntVar y = m.intVar("y", -4, 4);
+                // 2 - 3 * (x + 1) = y
+                x.add(1).mul(3).neg().add(2).eq(y).post();
+                m.getSolver().setSearch(randomSearch(new IntVar[]{x, y}, seed));
+                while (m.getSolver().solve()) ;
+                counts[k++] = (int) m.getSolver().getSolutionCount();
+            }
+            Assert.assertEquals(counts[1], counts[0]);
+            Assert.assertEquals(counts[0], 3);
+        }
+    }
+}
@@ -17,9 +17,12 @@ import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
 import org.chocosolver.util.iterators.DisposableRangeIterator;
 import org.chocosolver.util.iterators.DisposableValueIterator;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableBitSet;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+
 /**
  * <br/>
  *
@@ -733,4 +736,59 @@ public class BitsetIntVarImplTest {
         Assert.assertEquals(x.previousValueOut(0), -3);
         Assert.assertEquals(x.previousValueOut(-3), -4);
     }
-}
\ No newline at end of file
+
+    @Test(groups="1s", timeOut=60000)
+    public void testRemoveMask() throws ContradictionException {
+        Random rnd = new Random();
+        for (int seed = 0; seed < 100; seed++) {
+            rnd.setSeed(seed);
+            Model model = new Model();
+            int lb = rnd.nextInt(20) - 10;
+            int ub = lb + 1 + rnd.nextInt(150);
+            // x is filtered with a mask, y with the equivalent set
+            IntVar x = new BitsetIntVarImpl("x", lb, ub, model);
+            IntVar y = new BitsetIntVarImpl("y", lb, ub, model);
+            int hole = lb + rnd.nextInt(ub - lb);
+            x.removeValue(hole, Cause.Null);
+            y.removeValue(hole, Cause.Null);
+            int offset = lb + rnd.nextInt(30) - 15;
+            long[] mask = new long[1 + rnd.nextInt(3)];
+            IntIterableRangeSet set = new IntIterableRangeSet();
+            for (int i = 0; i < mask.length * 64; i++) {
+                if (rnd.nextInt(3) == 0) {
+                    mask[i >> 6] |= 1L << i;
+                    set.add(offset + i);
+                }
+            }
+            boolean keep = rnd.nextBoolean();
+            boolean xFails = false, yFails = false;
+            try {
+                if (keep) {
+                    x.removeAllValuesBut(mask, offset, Cause.Null);
+                } else {
+                    x.removeValues(mask, offset, Cause.Null);
+                }
+            } catch (ContradictionException e) {
+                xFails = true;
+            }
+            try {
+                if (keep) {
+                    y.removeAllValuesBut(set, Cause.Null);
+                } else {
+                    y.removeValues(set, Cause.Null);
+                }
+            } catch (ContradictionException e) {
+                yFails = true;
+            }
+            Assert.assertEquals(xFails, yFails, "seed " + seed);
+            if (!xFails) {
+                Assert.assertEquals(x.getLB(), y.getLB(), "seed " + seed);
+                Assert.assertEquals(x.getUB(), y.getUB(), "seed " + seed);
+                Assert.assertEquals(x.getDomainSize(), y.getDomainSize(), "seed " + seed);
+                for (int v = lb; v <= ub; v++) {
+                    Assert.assertEquals(x.contains(v), y.contains(v), "seed " + seed);
+                }
+            }
+        }
+    }
+}
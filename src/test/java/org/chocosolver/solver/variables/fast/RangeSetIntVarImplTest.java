@@ -0,0 +1,181 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.fast;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.impl.BitsetArrayIntVarImpl;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.RangeSetIntVarImpl;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+public class RangeSetIntVarImplTest {
+
+	RangeSetIntVarImpl var;
+
+	public void setUp() throws Exception {
+		var = new RangeSetIntVarImpl("test", new int[]{-5, 0, 3, 4, 5}, new Model());
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testRemoveValue() throws Exception {
+		setUp();
+		Assert.assertFalse(var.removeValue(7, Cause.Null));
+		Assert.assertFalse(var.removeValue(1, Cause.Null));
+		Assert.assertTrue(var.removeValue(4, Cause.Null));
+		Assert.assertFalse(var.contains(4));
+		Assert.assertTrue(var.contains(3));
+		Assert.assertTrue(var.contains(5));
+		Assert.assertTrue(var.removeValue(-5, Cause.Null));
+		Assert.assertEquals(var.getLB(), 0);
+		Assert.assertEquals(var.getDomainSize(), 3);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testRemoveInterval() throws Exception {
+		setUp();
+		Assert.assertFalse(var.removeInterval(7, 8, Cause.Null));
+		Assert.assertFalse(var.removeInterval(1, 2, Cause.Null));
+		Assert.assertTrue(var.removeInterval(0, 3, Cause.Null));
+		Assert.assertFalse(var.contains(0));
+		Assert.assertFalse(var.contains(3));
+		Assert.assertEquals(var.nextValue(-5), 4);
+		Assert.assertEquals(var.previousValue(4), -5);
+	}
+
+	@Test(groups="1s", timeOut=60000, expectedExceptions = ContradictionException.class)
+	public void testInstantiateTo() throws Exception {
+		setUp();
+		Assert.assertTrue(var.instantiateTo(4, Cause.Null));
+		Assert.assertEquals(var.getLB(), 4);
+		Assert.assertEquals(var.getUB(), 4);
+		var.instantiateTo(3, Cause.Null);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testIterators() throws Exception {
+		setUp();
+		var.removeValue(4, Cause.Null);
+		DisposableValueIterator vit = var.getValueIterator(true);
+		int[] values = {-5, 0, 3, 5};
+		for (int v : values) {
+			Assert.assertTrue(vit.hasNext());
+			Assert.assertEquals(vit.next(), v);
+		}
+		Assert.assertFalse(vit.hasNext());
+		vit.dispose();
+		var.removeValue(0, Cause.Null);
+		DisposableRangeIterator rit = var.getRangeIterator(false);
+		Assert.assertTrue(rit.hasPrevious());
+		Assert.assertEquals(rit.min(), 5);
+		rit.previous();
+		Assert.assertEquals(rit.min(), 3);
+		Assert.assertEquals(rit.max(), 3);
+		rit.previous();
+		Assert.assertEquals(rit.max(), -5);
+		rit.previous();
+		Assert.assertFalse(rit.hasPrevious());
+		rit.dispose();
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testBacktrack() throws Exception {
+		Random rnd = new Random();
+		for (int seed = 0; seed < 20; seed++) {
+			rnd.setSeed(seed);
+			Model model = new Model();
+			IntVar range = new RangeSetIntVarImpl("r", 0, 40, model);
+			IntVar bitset = new BitsetIntVarImpl("b", 0, 40, model);
+			for (int k = 0; k < 50; k++) {
+				model.getEnvironment().worldPush();
+				try {
+					int v = rnd.nextInt(41);
+					switch (rnd.nextInt(6)) {
+						case 0:
+							Assert.assertEquals(range.removeValue(v, Cause.Null), bitset.removeValue(v, Cause.Null));
+							break;
+						case 1:
+							Assert.assertEquals(range.updateLowerBound(v, Cause.Null), bitset.updateLowerBound(v, Cause.Null));
+							break;
+						case 2:
+							Assert.assertEquals(range.updateUpperBound(v, Cause.Null), bitset.updateUpperBound(v, Cause.Null));
+							break;
+						case 3:
+							IntIterableRangeSet set = new IntIterableRangeSet(v, v + rnd.nextInt(5));
+							Assert.assertEquals(range.removeValues(set, Cause.Null), bitset.removeValues(set, Cause.Null));
+							break;
+						case 4:
+							int to = v + rnd.nextInt(5);
+							Assert.assertEquals(range.removeInterval(v, to, Cause.Null), bitset.removeInterval(v, to, Cause.Null));
+							break;
+						case 5:
+							IntIterableRangeSet keep = new IntIterableRangeSet(v, v + rnd.nextInt(20));
+							keep.remove(v + 2);
+							Assert.assertEquals(range.removeAllValuesBut(keep, Cause.Null), bitset.removeAllValuesBut(keep, Cause.Null));
+							break;
+					}
+				} catch (ContradictionException e) {
+					model.getEnvironment().worldPop();
+				}
+				if (rnd.nextInt(3) == 0 && model.getEnvironment().getWorldIndex() > 0) {
+					model.getEnvironment().worldPop();
+				}
+				Assert.assertEquals(range.getLB(), bitset.getLB());
+				Assert.assertEquals(range.getUB(), bitset.getUB());
+				Assert.assertEquals(range.getDomainSize(), bitset.getDomainSize());
+				for (int v = -1; v <= 41; v++) {
+					Assert.assertEquals(range.contains(v), bitset.contains(v));
+					Assert.assertEquals(range.nextValue(v), bitset.nextValue(v));
+					Assert.assertEquals(range.previousValue(v), bitset.previousValue(v));
+					Assert.assertEquals(range.nextValueOut(v), bitset.nextValueOut(v));
+					Assert.assertEquals(range.previousValueOut(v), bitset.previousValueOut(v));
+				}
+			}
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testHugeDomain() throws ContradictionException {
+		Model model = new Model();
+		// lists of intervals are not used by default
+		Assert.assertTrue(model.intVar("z", new int[]{0, 1, 2, 10_000_000}) instanceof BitsetArrayIntVarImpl);
+		model.set(new Settings() {
+			@Override
+			public boolean enableRangeSetDomain(int range, int nbRanges) {
+				return range >= getMaxDomSizeForEnumerated() && nbRanges <= 64;
+			}
+		});
+		IntVar x = model.intVar("x", 0, 20_000_000, false);
+		IntVar y = model.intVar("y", new int[]{0, 1, 2, 10_000_000, 10_000_001, 19_999_999});
+		Assert.assertTrue(x instanceof RangeSetIntVarImpl);
+		Assert.assertTrue(y instanceof RangeSetIntVarImpl);
+		model.getEnvironment().worldPush();
+		x.removeInterval(1_000, 19_000_000, Cause.Null);
+		x.removeValue(500, Cause.Null);
+		Assert.assertEquals(x.getDomainSize(), 1_000 + 1_000_001 - 1);
+		Assert.assertEquals(x.nextValue(999), 19_000_001);
+		Assert.assertEquals(x.nextValueOut(400), 500);
+		model.getEnvironment().worldPop();
+		Assert.assertEquals(x.getDomainSize(), 20_000_001);
+		model.arithm(x, "=", y).post();
+		model.arithm(x, ">", 2).post();
+		model.arithm(x, "!=", 10_000_000).post();
+		while (model.getSolver().solve()) ;
+		Assert.assertEquals(model.getSolver().getSolutionCount(), 2);
+	}
+}
@@ -0,0 +1,164 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.fast;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.SparseSetIntVarImpl;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+public class SparseSetIntVarImplTest {
+
+	SparseSetIntVarImpl var;
+
+	public void setUp() throws Exception {
+		var = new SparseSetIntVarImpl("test", new int[]{-5, 0, 3, 4, 5}, new Model());
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testRemoveValue() throws Exception {
+		setUp();
+		Assert.assertFalse(var.removeValue(7, Cause.Null));
+		Assert.assertFalse(var.removeValue(1, Cause.Null));
+		Assert.assertTrue(var.removeValue(0, Cause.Null));
+		Assert.assertFalse(var.contains(0));
+		Assert.assertTrue(var.removeValue(-5, Cause.Null));
+		Assert.assertEquals(var.getLB(), 3);
+		Assert.assertEquals(var.getDomainSize(), 3);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testRemoveInterval() throws Exception {
+		setUp();
+		Assert.assertFalse(var.removeInterval(7, 8, Cause.Null));
+		Assert.assertTrue(var.removeInterval(0, 3, Cause.Null));
+		Assert.assertFalse(var.contains(0));
+		Assert.assertFalse(var.contains(3));
+		Assert.assertEquals(var.nextValue(-5), 4);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testUpdateBounds() throws Exception {
+		setUp();
+		Assert.assertFalse(var.updateLowerBound(-6, Cause.Null));
+		Assert.assertTrue(var.updateLowerBound(-1, Cause.Null));
+		Assert.assertEquals(var.getLB(), 0);
+		Assert.assertTrue(var.updateUpperBound(4, Cause.Null));
+		Assert.assertEquals(var.getUB(), 4);
+		Assert.assertTrue(var.updateBounds(1, 3, Cause.Null));
+		Assert.assertTrue(var.isInstantiatedTo(3));
+	}
+
+	@Test(groups="1s", timeOut=60000, expectedExceptions = ContradictionException.class)
+	public void testInstantiateTo() throws Exception {
+		setUp();
+		Assert.assertTrue(var.instantiateTo(4, Cause.Null));
+		Assert.assertEquals(var.getLB(), 4);
+		Assert.assertEquals(var.getUB(), 4);
+		var.instantiateTo(3, Cause.Null);
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testIterators() throws Exception {
+		setUp();
+		var.removeValue(4, Cause.Null);
+		DisposableValueIterator vit = var.getValueIterator(true);
+		int[] values = {-5, 0, 3, 5};
+		for (int v : values) {
+			Assert.assertTrue(vit.hasNext());
+			Assert.assertEquals(vit.next(), v);
+		}
+		Assert.assertFalse(vit.hasNext());
+		vit.dispose();
+		var.removeValue(0, Cause.Null);
+		DisposableRangeIterator rit = var.getRangeIterator(false);
+		Assert.assertTrue(rit.hasPrevious());
+		Assert.assertEquals(rit.min(), 5);
+		rit.previous();
+		Assert.assertEquals(rit.min(), 3);
+		Assert.assertEquals(rit.max(), 3);
+		rit.previous();
+		Assert.assertEquals(rit.max(), -5);
+		rit.previous();
+		Assert.assertFalse(rit.hasPrevious());
+		rit.dispose();
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testBacktrack() throws Exception {
+		Random rnd = new Random();
+		for (int seed = 0; seed < 20; seed++) {
+			rnd.setSeed(seed);
+			Model model = new Model();
+			IntVar sparse = new SparseSetIntVarImpl("s", 0, 40, model);
+			IntVar bitset = new BitsetIntVarImpl("b", 0, 40, model);
+			for (int k = 0; k < 50; k++) {
+				model.getEnvironment().worldPush();
+				try {
+					int v = rnd.nextInt(41);
+					switch (rnd.nextInt(4)) {
+						case 0:
+							Assert.assertEquals(sparse.removeValue(v, Cause.Null), bitset.removeValue(v, Cause.Null));
+							break;
+						case 1:
+							Assert.assertEquals(sparse.updateLowerBound(v, Cause.Null), bitset.updateLowerBound(v, Cause.Null));
+							break;
+						case 2:
+							Assert.assertEquals(sparse.updateUpperBound(v, Cause.Null), bitset.updateUpperBound(v, Cause.Null));
+							break;
+						case 3:
+							IntIterableRangeSet set = new IntIterableRangeSet(v, v + rnd.nextInt(5));
+							Assert.assertEquals(sparse.removeValues(set, Cause.Null), bitset.removeValues(set, Cause.Null));
+							break;
+					}
+				} catch (ContradictionException e) {
+					model.getEnvironment().worldPop();
+				}
+				if (rnd.nextInt(3) == 0 && model.getEnvironment().getWorldIndex() > 0) {
+					model.getEnvironment().worldPop();
+				}
+				Assert.assertEquals(sparse.getLB(), bitset.getLB());
+				Assert.assertEquals(sparse.getUB(), bitset.getUB());
+				Assert.assertEquals(sparse.getDomainSize(), bitset.getDomainSize());
+				for (int v = 0; v <= 40; v++) {
+					Assert.assertEquals(sparse.contains(v), bitset.contains(v));
+					Assert.assertEquals(sparse.nextValue(v), bitset.nextValue(v));
+					Assert.assertEquals(sparse.previousValue(v), bitset.previousValue(v));
+				}
+			}
+		}
+	}
+
+	@Test(groups="1s", timeOut=60000)
+	public void testSettings() {
+		Model model = new Model();
+		model.set(new Settings() {
+			@Override
+			public boolean enableSparseSetDomain(int size) {
+				return true;
+			}
+		});
+		IntVar[] vars = model.intVarArray("X", 4, new int[]{1, 3, 100, 2000});
+		Assert.assertTrue(vars[0] instanceof SparseSetIntVarImpl);
+		model.allDifferent(vars).post();
+		model.arithm(vars[0], "<", vars[1]).post();
+		while (model.getSolver().solve()) ;
+		Assert.assertEquals(model.getSolver().getSolutionCount(), 12);
+	}
+}
@@ -8,7 +8,9 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.util.objects.setDataStructures.ISet;
@@ -18,6 +20,8 @@ import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+
 /**
  * @author Guillaume Le Lou�t [guillaume.lelouet@gmail.com] 2016, Jean-Guillaume Fages
  */
@@ -89,4 +93,48 @@ public class SetVarImplTest {
 		Assert.assertTrue(c.isInstantiatedTo(2), "" + c);
 	}
 
+	@Test(groups="1s", timeOut=60000)
+	public void testWords() {
+		Random rnd = new Random();
+		for (int seed = 0; seed < 20; seed++) {
+			rnd.setSeed(seed);
+			Model m = new Model();
+			int[] env = ArrayUtils.array(-10, 150);
+			SetVar a = new SetVarImpl("a", new int[0], SetType.BITSET, env, SetType.BITSET, m);
+			SetVar b = new SetVarImpl("b", new int[0], SetType.LINKED_LIST, env, SetType.LINKED_LIST, m);
+			Assert.assertTrue(a.hasBitsetDomain());
+			Assert.assertFalse(b.hasBitsetDomain());
+			for (int k = 0; k < 30; k++) {
+				m.getEnvironment().worldPush();
+				int from = rnd.nextInt(240) - 80;
+				long mask = rnd.nextLong() & rnd.nextLong();
+				boolean force = rnd.nextBoolean();
+				boolean fa, fb;
+				try {
+					fa = force ? a.forceWord(from, mask, Cause.Null) : a.removeWord(from, mask, Cause.Null);
+				} catch (ContradictionException e) {
+					fa = false;
+					m.getEnvironment().worldPop();
+					m.getEnvironment().worldPush();
+				}
+				try {
+					fb = force ? b.forceWord(from, mask, Cause.Null) : b.removeWord(from, mask, Cause.Null);
+				} catch (ContradictionException e) {
+					fb = false;
+					m.getEnvironment().worldPop();
+					m.getEnvironment().worldPush();
+				}
+				Assert.assertEquals(fa, fb, "seed " + seed);
+				if (rnd.nextInt(3) == 0) {
+					m.getEnvironment().worldPop();
+				}
+				Assert.assertEquals(a.getLB().size(), b.getLB().size());
+				Assert.assertEquals(a.getUB().size(), b.getUB().size());
+				for (int f = -80; f < 160; f += 7) {
+					Assert.assertEquals(a.getLBWord(f), b.getLBWord(f), "seed " + seed);
+					Assert.assertEquals(a.getUBWord(f), b.getUBWord(f), "seed " + seed);
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,68 @@
+/**
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2017, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Model;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+public class IntervalOverlapIndexTest {
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testBuild() {
+        Random rnd = new Random();
+        for (int seed = 0; seed < 50; seed++) {
+            rnd.setSeed(seed);
+            int n = 1 + rnd.nextInt(20);
+            int[] s = new int[n];
+            int[] e = new int[n];
+            for (int i = 0; i < n; i++) {
+                s[i] = rnd.nextInt(20);
+                e[i] = s[i] + rnd.nextInt(6);
+            }
+            IntervalOverlapIndex index = new IntervalOverlapIndex(new Model(), n, SetType.BITSET);
+            index.build(i -> s[i], i -> e[i], i -> true, (i, j) -> s[i] < e[j] && s[j] < e[i]);
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (i != j) {
+                        Assert.assertEquals(index.mayOverlap(i, j), s[i] < e[j] && s[j] < e[i], "seed " + seed);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testRefreshAndBacktrack() {
+        Model model = new Model();
+        IEnvironment environment = model.getEnvironment();
+        int[] s = {0, 2, 4, 8};
+        int[] e = {3, 5, 9, 10};
+        IntervalOverlapIndex index = new IntervalOverlapIndex(model, 4, SetType.LINKED_LIST);
+        index.build(i -> s[i], i -> e[i], i -> true, (i, j) -> true);
+        Assert.assertTrue(index.mayOverlap(0, 1));
+        Assert.assertTrue(index.mayOverlap(1, 2));
+        Assert.assertTrue(index.mayOverlap(2, 3));
+        Assert.assertFalse(index.mayOverlap(0, 2));
+        Assert.assertFalse(index.mayOverlap(1, 3));
+        environment.worldPush();
+        s[2] = 5;
+        Assert.assertEquals(index.refresh(2, (i, j) -> s[i] < e[j] && s[j] < e[i]), 1);
+        Assert.assertFalse(index.mayOverlap(1, 2));
+        index.remove(3);
+        Assert.assertEquals(index.getOverlapping(2).size(), 0);
+        environment.worldPop();
+        Assert.assertTrue(index.mayOverlap(1, 2));
+        Assert.assertTrue(index.mayOverlap(2, 3));
+    }
+}